@@ -0,0 +1,58 @@
+package org.auth.api.infrastructure.services.security;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.*;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtDecodeBenchmark {
+    private JwtDecoder decoder;
+    private String token;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        final var keyPair = generator.generateKeyPair();
+        final var publicKey = (RSAPublicKey) keyPair.getPublic();
+        final var privateKey = (RSAPrivateKey) keyPair.getPrivate();
+
+        final var jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+        final var encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+        decoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+
+        final var now = Instant.now();
+        final var claims = JwtClaimsSet.builder()
+                .issuer("auth-api")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .subject(UUID.randomUUID().toString())
+                .claim("scope", "ROLE_USER")
+                .build();
+
+        token = encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        jwt = decoder.decode(token);
+    }
+
+    @Benchmark
+    public String decodeAgain() {
+        return decoder.decode(token).getSubject();
+    }
+
+    @Benchmark
+    public String reusePrincipal() {
+        return jwt.getSubject();
+    }
+}
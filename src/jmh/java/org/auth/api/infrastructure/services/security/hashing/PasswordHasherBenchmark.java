@@ -0,0 +1,48 @@
+package org.auth.api.infrastructure.services.security.hashing;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.auth.api.infrastructure.config.PasswordHasherConfig.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHasherBenchmark {
+    private static final String PASSWORD = "benchmark-password";
+
+    @Param({ BCRYPT, ARGON2, SCRYPT, PBKDF2 })
+    private String algorithm;
+
+    private PasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = switch (algorithm) {
+            case BCRYPT -> new BCryptPasswordEncoder(10);
+            case ARGON2 -> new Argon2PasswordEncoder(16, 32, 1, 16384, 2);
+            case SCRYPT -> new SCryptPasswordEncoder(65536, 8, 1, 32, 16);
+            case PBKDF2 -> new Pbkdf2PasswordEncoder("", 16, 310000,
+                    Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+            default -> throw new IllegalArgumentException(algorithm);
+        };
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String hash() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+}
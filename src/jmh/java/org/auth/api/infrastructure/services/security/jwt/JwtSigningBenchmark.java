@@ -0,0 +1,50 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtSigningBenchmark {
+    @Param({ "RS256", "ES256", "EdDSA" })
+    private String algorithm;
+
+    private JwsJwtEncoder encoder;
+    private JwsJwtDecoder decoder;
+    private JwtEncoderParameters parameters;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        final var jwtAlgorithm = JwtAlgorithm.of(algorithm);
+        final var keyRing = JwtKeyRing.with(jwtAlgorithm, jwtAlgorithm.newKeyPair());
+        encoder = JwsJwtEncoder.with(keyRing);
+        decoder = JwsJwtDecoder.with(keyRing);
+
+        final var now = Instant.now();
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .issuer("auth-api")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .subject(UUID.randomUUID().toString())
+                .claim("scope", "ROLE_USER")
+                .build());
+        token = encoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public String sign() {
+        return encoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public String verify() {
+        return decoder.decode(token).getSubject();
+    }
+}
@@ -0,0 +1,59 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenMintingBenchmark {
+    @Param({ "RS256", "ES256", "EdDSA" })
+    private String algorithm;
+
+    private JwsJwtEncoder encoder;
+    private TokenMinter minter;
+    private List<GrantedAuthority> authorities;
+    private String subject;
+
+    @Setup
+    public void setUp() {
+        final var jwtAlgorithm = JwtAlgorithm.of(algorithm);
+        final var keyRing = JwtKeyRing.with(jwtAlgorithm, jwtAlgorithm.newKeyPair());
+        encoder = JwsJwtEncoder.with(keyRing);
+        minter = TokenMinter.with(keyRing, "auth-api", 3600);
+        authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        subject = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String jwtEncoder() {
+        final var now = Instant.now();
+        final var scope = authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(" "));
+
+        final var claims = JwtClaimsSet.builder()
+                .issuer("auth-api")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .subject(subject)
+                .claim("scope", scope)
+                .build();
+
+        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    @Benchmark
+    public String tokenMinter() {
+        return minter.mint(subject, authorities.get(0).getAuthority());
+    }
+}
@@ -0,0 +1,97 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.AuthApiApplication;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.infrastructure.config.UseCasesConfig;
+import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserGatewayBenchmark {
+    private static final String PASSWORD = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+    @Param({ UseCasesConfig.JPA, UseCasesConfig.JDBC, UseCasesConfig.LOG })
+    private String gateway;
+
+    @Param({ "10000" })
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private UserGateway userGateway;
+    private List<User> stored;
+    private Password password;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(AuthApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("development")
+                .properties(
+                        "user.gateway=" + gateway,
+                        "user.cache.enabled=false",
+                        "user.log.directory=" + Files.createTempDirectory("users"),
+                        "refresh-token.store=memory",
+                        "spring.jpa.show-sql=false",
+                        "mysql.url=" + System.getProperty("benchmark.mysql.host", "localhost:3306"),
+                        "mysql.username=" + System.getProperty("benchmark.mysql.username", "root"),
+                        "mysql.password=" + System.getProperty("benchmark.mysql.password", "root123")
+                )
+                .run();
+        context.getBean(UserRepository.class).deleteAllInBatch();
+        userGateway = context.getBean(UserGateway.class);
+        password = Password.withEncodedValue(PASSWORD);
+        stored = new ArrayList<>(users);
+
+        for (int i = 0; i < users; i++)
+            stored.add(userGateway.save(User.newUser(Email.with("user" + i + "@mail.com"), password)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(UserRepository.class).deleteAllInBatch();
+        context.close();
+    }
+
+    @Benchmark
+    public User findById() {
+        return userGateway.findById(nextUser().getId()).orElseThrow();
+    }
+
+    @Benchmark
+    public User findByEmail() {
+        return userGateway.findByEmail(nextUser().getEmail()).orElseThrow();
+    }
+
+    @Benchmark
+    public User rehash() {
+        final var index = nextIndex();
+        final var user = userGateway.save(stored.get(index).rehashPassword(password));
+        stored.set(index, user);
+        return user;
+    }
+
+    private User nextUser() {
+        return stored.get(nextIndex());
+    }
+
+    private int nextIndex() {
+        final var index = next;
+        next = (next + 1) % users;
+        return index;
+    }
+}
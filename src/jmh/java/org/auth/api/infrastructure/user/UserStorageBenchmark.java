@@ -0,0 +1,108 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.utils.IDUtils;
+import org.auth.api.infrastructure.user.persitence.PasswordHashCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserStorageBenchmark {
+    private static final String VARCHAR = "varchar";
+    private static final String BINARY = "binary";
+    private static final int BATCH_SIZE = 1000;
+    private static final String PASSWORD = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+    @Param({ VARCHAR, BINARY })
+    private String layout;
+
+    @Param({ "10000000" })
+    private int rows;
+
+    private Connection connection;
+    private String table;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.mysql.url", "jdbc:mysql://localhost:3306/auth_api?rewriteBatchedStatements=true"),
+                System.getProperty("benchmark.mysql.username", "root"),
+                System.getProperty("benchmark.mysql.password", "root123")
+        );
+        connection.setAutoCommit(false);
+        table = "users_benchmark_" + layout;
+
+        try (final var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute(switch (layout) {
+                case VARCHAR -> "CREATE TABLE " + table + " (id VARCHAR(36) NOT NULL PRIMARY KEY, email VARCHAR(100) NOT NULL, password VARCHAR(255) NOT NULL, created_at DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL, UNIQUE (email))";
+                case BINARY -> "CREATE TABLE " + table + " (id BINARY(16) NOT NULL PRIMARY KEY, email VARCHAR(100) NOT NULL, password VARBINARY(255) NOT NULL, created_at DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL, UNIQUE (email))";
+                default -> throw new IllegalArgumentException(layout);
+            });
+        }
+
+        while (next < rows)
+            insertBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (final var statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            try (final var result = statement.executeQuery(
+                    "SELECT data_length, index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                if (result.next())
+                    System.out.printf("%n%s: %d rows, clustered index %d MiB, secondary indexes %d MiB%n",
+                            layout, next, result.getLong(1) >> 20, result.getLong(2) >> 20);
+            }
+            statement.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long insert() throws SQLException {
+        insertBatch();
+        return next;
+    }
+
+    private void insertBatch() throws SQLException {
+        final var now = new Timestamp(System.currentTimeMillis());
+        try (final var statement = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, email, password, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (var i = 0; i < BATCH_SIZE; i++, next++) {
+                if (BINARY.equals(layout)) {
+                    statement.setBytes(1, toBytes(IDUtils.newTimeOrderedUUID(System.currentTimeMillis())));
+                    statement.setBytes(3, PasswordHashCodec.encode(PASSWORD));
+                } else {
+                    statement.setString(1, UUID.randomUUID().toString());
+                    statement.setString(3, PASSWORD);
+                }
+                statement.setString(2, "user" + next + "@mail.com");
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,82 @@
+package org.auth.api.infrastructure.user.log;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Password;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserLogBenchmark {
+    private static final String PASSWORD = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+    private static final int SEGMENT_SIZE = 64 << 20;
+
+    @Param({ "false", "true" })
+    private boolean sync;
+
+    @Param({ "100000" })
+    private int users;
+
+    private Path directory;
+    private UserLogGateway userGateway;
+    private List<User> stored;
+    private Password password;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("users");
+        userGateway = UserLogGateway.open(directory, SEGMENT_SIZE, 0, sync);
+        password = Password.withEncodedValue(PASSWORD);
+        stored = new ArrayList<>(users);
+
+        for (int i = 0; i < users; i++)
+            stored.add(userGateway.save(User.newUser(Email.with("user" + i + "@mail.com"), password)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        userGateway.close();
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public User findById() {
+        return userGateway.findById(nextUser().getId()).orElseThrow();
+    }
+
+    @Benchmark
+    public User findByEmail() {
+        return userGateway.findByEmail(nextUser().getEmail()).orElseThrow();
+    }
+
+    @Benchmark
+    public User rehash() {
+        final var index = nextIndex();
+        final var user = userGateway.save(stored.get(index).rehashPassword(password));
+        stored.set(index, user);
+        return user;
+    }
+
+    private User nextUser() {
+        return stored.get(nextIndex());
+    }
+
+    private int nextIndex() {
+        final var index = next;
+        next = (next + 1) % users;
+        return index;
+    }
+}
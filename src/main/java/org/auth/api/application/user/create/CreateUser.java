@@ -1,12 +1,15 @@
 package org.auth.api.application.user.create;
 
 import org.auth.api.application.UseCase;
+import org.auth.api.domain.password.PasswordHasher;
 import org.auth.api.domain.user.UserGateway;
 
 public abstract class CreateUser extends UseCase<CreateUserInput, CreateUserOutput> {
     protected final UserGateway userGateway;
+    protected final PasswordHasher passwordHasher;
 
-    protected CreateUser(final UserGateway userGateway) {
+    protected CreateUser(final UserGateway userGateway, final PasswordHasher passwordHasher) {
         this.userGateway = userGateway;
+        this.passwordHasher = passwordHasher;
     }
 }
@@ -1,7 +1,9 @@
 package org.auth.api.application.user.create;
 
+import org.auth.api.domain.exceptions.DuplicateEmailException;
 import org.auth.api.domain.exceptions.GatewayException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
+import org.auth.api.domain.password.PasswordHasher;
 import org.auth.api.domain.exceptions.ValidationException;
 import org.auth.api.domain.user.User;
 import org.auth.api.domain.user.UserGateway;
@@ -14,8 +16,8 @@ import org.auth.api.domain.valueobjects.Password;
 import java.util.Optional;
 
 public class DefaultCreateUser extends CreateUser {
-    public DefaultCreateUser(final UserGateway userGateway) {
-        super(userGateway);
+    public DefaultCreateUser(final UserGateway userGateway, final PasswordHasher passwordHasher) {
+        super(userGateway, passwordHasher);
     }
 
     @Override
@@ -28,14 +30,15 @@ public class DefaultCreateUser extends CreateUser {
         if (email.isEmpty() || password.isEmpty())
             throw NotificationException.with(notification);
 
-        if (findUser(email.get(), notification).isPresent())
-            throw NotificationException.with(notification);
-
         final var user = createUser(email.get(), password.get(), notification);
         if (user.isEmpty())
             throw NotificationException.with(notification);
 
-        return createOutput(saveUser(user.get()));
+        final var savedUser = saveUser(user.get(), notification);
+        if (savedUser.isEmpty())
+            throw NotificationException.with(notification);
+
+        return createOutput(savedUser.get());
     }
 
     private Optional<Email> createEmail(final String email, final Notification notification) {
@@ -49,27 +52,13 @@ public class DefaultCreateUser extends CreateUser {
 
     private Optional<Password> createPassword(final String password, final Notification notification) {
         try {
-            return Optional.of(Password.withRawValue(password));
+            return Optional.of(Password.withRawValue(password, passwordHasher));
         } catch (final ValidationException ex) {
             notification.append("password", ex.getErrorHandler());
             return Optional.empty();
         }
     }
 
-    private Optional<User> findUser(final Email email, final Notification notification) {
-        try {
-            final var user = userGateway.findByEmail(email);
-            if (user.isPresent()) {
-                final var errorHandler = ErrorHandler.create()
-                        .append(Error.with("email already used"));
-                notification.append("email", errorHandler);
-            }
-            return user;
-        } catch (final Exception ex) {
-            throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
-        }
-    }
-
     private Optional<User> createUser(final Email email, final Password password, final Notification notification) {
         try {
             return Optional.of(User.newUser(email, password));
@@ -79,9 +68,14 @@ public class DefaultCreateUser extends CreateUser {
         }
     }
 
-    private User saveUser(final User user) {
+    private Optional<User> saveUser(final User user, final Notification notification) {
         try {
-            return userGateway.save(user);
+            return Optional.of(userGateway.save(user));
+        } catch (final DuplicateEmailException ex) {
+            final var errorHandler = ErrorHandler.create()
+                    .append(Error.with(DuplicateEmailException.EMAIL_ALREADY_USED));
+            notification.append("email", errorHandler);
+            return Optional.empty();
         } catch (final Exception ex) {
             throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
         }
@@ -2,6 +2,7 @@ package org.auth.api.application.user.delete;
 
 import org.auth.api.domain.exceptions.GatewayException;
 import org.auth.api.domain.exceptions.ValidationException;
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.exceptions.notification.IdentifierException;
 import org.auth.api.domain.exceptions.notification.NotFoundException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
@@ -20,8 +21,23 @@ public class DefaultDeleteUser extends DeleteUser {
     @Override
     public Void execute(final DeleteUserInput input) {
         final var id = createId(input.id());
-        verifyUser(id);
-        deleteUser(id);
+        final var versions = input.versions();
+        if (versions == null) {
+            if (!deleteUser(id))
+                throw NotFoundException.with(User.class, id);
+            return null;
+        }
+
+        if (versions.size() == 1 && deleteUser(id, versions.iterator().next()))
+            return null;
+
+        final var user = findUser(id);
+        if (user.isEmpty())
+            throw NotFoundException.with(User.class, id);
+
+        final var version = user.get().getVersion();
+        if (versions.size() == 1 || !versions.contains(version) || !deleteUser(id, version))
+            throw VersionConflictException.with(null);
         return null;
     }
 
@@ -35,20 +51,25 @@ public class DefaultDeleteUser extends DeleteUser {
         }
     }
 
-    private void verifyUser(final Identifier id) {
-        Optional<User> user;
+    private boolean deleteUser(final Identifier id) {
         try {
-            user = userGateway.findById(id);
+            return userGateway.deleteById(id);
+        } catch (final Exception ex) {
+            throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
+        }
+    }
+
+    private boolean deleteUser(final Identifier id, final long version) {
+        try {
+            return userGateway.deleteById(id, version);
         } catch (final Exception ex) {
             throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
         }
-        if (user.isEmpty())
-            throw NotFoundException.with(User.class, id);
     }
 
-    private void deleteUser(final Identifier id) {
+    private Optional<User> findUser(final Identifier id) {
         try {
-            userGateway.deleteById(id);
+            return userGateway.findById(id);
         } catch (final Exception ex) {
             throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
         }
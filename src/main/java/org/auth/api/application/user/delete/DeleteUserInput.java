@@ -1,9 +1,12 @@
 package org.auth.api.application.user.delete;
 
+import java.util.Set;
+
 public record DeleteUserInput(
-        String id
+        String id,
+        Set<Long> versions
 ) {
-    public static DeleteUserInput with(final String id) {
-        return new DeleteUserInput(id);
+    public static DeleteUserInput with(final String id, final Set<Long> versions) {
+        return new DeleteUserInput(id, versions);
     }
 }
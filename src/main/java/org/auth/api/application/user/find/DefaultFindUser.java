@@ -5,15 +5,16 @@ import org.auth.api.domain.exceptions.notification.IdentifierException;
 import org.auth.api.domain.exceptions.notification.NotFoundException;
 import org.auth.api.domain.exceptions.ValidationException;
 import org.auth.api.domain.user.User;
-import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.user.UserQueryGateway;
+import org.auth.api.domain.user.UserSummary;
 import org.auth.api.domain.validation.Notification;
 import org.auth.api.domain.valueobjects.Identifier;
 
 import java.util.Optional;
 
 public class DefaultFindUser extends FindUser {
-    public DefaultFindUser(final UserGateway userGateway) {
-        super(userGateway);
+    public DefaultFindUser(final UserQueryGateway userQueryGateway) {
+        super(userQueryGateway);
     }
 
     @Override
@@ -40,15 +41,15 @@ public class DefaultFindUser extends FindUser {
         }
     }
 
-    private Optional<User> findUser(final Identifier id) {
+    private Optional<UserSummary> findUser(final Identifier id) {
         try {
-            return userGateway.findById(id);
+            return userQueryGateway.findSummaryById(id);
         } catch (final Exception ex) {
             throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
         }
     }
 
-    private FindUserOutput createOutput(final User user) {
-        return FindUserOutput.with(user.getId().getValue(), user.getEmail().getAddress());
+    private FindUserOutput createOutput(final UserSummary user) {
+        return FindUserOutput.with(user.id(), user.email(), user.version());
     }
 }
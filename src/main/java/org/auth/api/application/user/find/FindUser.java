@@ -1,12 +1,12 @@
 package org.auth.api.application.user.find;
 
 import org.auth.api.application.UseCase;
-import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.user.UserQueryGateway;
 
 public abstract class FindUser extends UseCase<FindUserInput, FindUserOutput> {
-    protected final UserGateway userGateway;
+    protected final UserQueryGateway userQueryGateway;
 
-    protected FindUser(final UserGateway userGateway) {
-        this.userGateway = userGateway;
+    protected FindUser(final UserQueryGateway userQueryGateway) {
+        this.userQueryGateway = userQueryGateway;
     }
 }
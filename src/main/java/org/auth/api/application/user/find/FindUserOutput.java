@@ -2,9 +2,10 @@ package org.auth.api.application.user.find;
 
 public record FindUserOutput(
         String id,
-        String email
+        String email,
+        long version
 ) {
-    public static FindUserOutput with(final String id, final String email) {
-        return new FindUserOutput(id, email);
+    public static FindUserOutput with(final String id, final String email, final long version) {
+        return new FindUserOutput(id, email, version);
     }
 }
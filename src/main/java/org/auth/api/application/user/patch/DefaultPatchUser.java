@@ -0,0 +1,133 @@
+package org.auth.api.application.user.patch;
+
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.exceptions.GatewayException;
+import org.auth.api.domain.exceptions.ValidationException;
+import org.auth.api.domain.exceptions.VersionConflictException;
+import org.auth.api.domain.exceptions.notification.IdentifierException;
+import org.auth.api.domain.exceptions.notification.NotFoundException;
+import org.auth.api.domain.exceptions.notification.NotificationException;
+import org.auth.api.domain.password.PasswordHasher;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.validation.Error;
+import org.auth.api.domain.validation.ErrorHandler;
+import org.auth.api.domain.validation.Notification;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.Password;
+
+import java.util.Optional;
+
+public class DefaultPatchUser extends PatchUser {
+    public DefaultPatchUser(final UserGateway userGateway, final PasswordHasher passwordHasher) {
+        super(userGateway, passwordHasher);
+    }
+
+    @Override
+    public Void execute(final PatchUserInput input) {
+        final var notification = Notification.create();
+
+        final var id = createId(input.id(), notification);
+        if (id.isEmpty())
+            throw IdentifierException.with(notification);
+
+        final var user = findUser(id.get());
+        if (user.isEmpty())
+            throw NotFoundException.with(User.class, id.get());
+
+        if (input.versions() != null && !input.versions().contains(user.get().getVersion()))
+            throw VersionConflictException.with(null);
+
+        final var email = input.email() != null
+                ? createEmail(input.id(), input.email(), notification)
+                : Optional.<Email>empty();
+
+        final var password = input.password() != null
+                ? createPassword(input.password(), notification)
+                : Optional.<Password>empty();
+
+        if (notification.hasNotification())
+            throw NotificationException.with(notification);
+
+        if (email.isEmpty() && password.isEmpty())
+            return null;
+
+        final var patchedUser = user.get();
+        email.ifPresent(patchedUser::updateEmail);
+        password.ifPresent(patchedUser::updatePassword);
+
+        if (!saveUser(patchedUser, notification))
+            throw NotificationException.with(notification);
+
+        return null;
+    }
+
+    private Optional<Identifier> createId(final String id, final Notification notification) {
+        try {
+            return Optional.of(Identifier.with(id));
+        } catch (final ValidationException ex) {
+            notification.append("id", ex.getErrorHandler());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<User> findUser(final Identifier id) {
+        try {
+            return userGateway.findById(id);
+        } catch (final Exception ex) {
+            throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
+        }
+    }
+
+    private Optional<Email> createEmail(final String id, final String email, final Notification notification) {
+        Email newEmail;
+        try {
+            newEmail = Email.with(email);
+        } catch (final ValidationException ex) {
+            notification.append("email", ex.getErrorHandler());
+            return Optional.empty();
+        }
+
+        Optional<User> emailOwner;
+        try {
+            emailOwner = userGateway.findByEmail(newEmail);
+        } catch (final Exception ex) {
+            throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
+        }
+
+        if (emailOwner.isPresent() && !id.equals(emailOwner.get().getId().getValue())) {
+            final var errorHandler = ErrorHandler.create()
+                    .append(Error.with(DuplicateEmailException.EMAIL_ALREADY_USED));
+            notification.append("email", errorHandler);
+            return Optional.empty();
+        }
+
+        return Optional.of(newEmail);
+    }
+
+    private Optional<Password> createPassword(final String password, final Notification notification) {
+        try {
+            return Optional.of(Password.withRawValue(password, passwordHasher));
+        } catch (final ValidationException ex) {
+            notification.append("password", ex.getErrorHandler());
+            return Optional.empty();
+        }
+    }
+
+    private boolean saveUser(final User user, final Notification notification) {
+        try {
+            userGateway.save(user);
+            return true;
+        } catch (final DuplicateEmailException ex) {
+            final var errorHandler = ErrorHandler.create()
+                    .append(Error.with(DuplicateEmailException.EMAIL_ALREADY_USED));
+            notification.append("email", errorHandler);
+            return false;
+        } catch (final VersionConflictException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
+        }
+    }
+}
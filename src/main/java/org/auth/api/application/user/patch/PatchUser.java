@@ -0,0 +1,15 @@
+package org.auth.api.application.user.patch;
+
+import org.auth.api.application.UseCase;
+import org.auth.api.domain.password.PasswordHasher;
+import org.auth.api.domain.user.UserGateway;
+
+public abstract class PatchUser extends UseCase<PatchUserInput, Void> {
+    protected final UserGateway userGateway;
+    protected final PasswordHasher passwordHasher;
+
+    protected PatchUser(final UserGateway userGateway, final PasswordHasher passwordHasher) {
+        this.userGateway = userGateway;
+        this.passwordHasher = passwordHasher;
+    }
+}
@@ -0,0 +1,19 @@
+package org.auth.api.application.user.patch;
+
+import java.util.Set;
+
+public record PatchUserInput(
+        String id,
+        String email,
+        String password,
+        Set<Long> versions
+) {
+    public static PatchUserInput with(
+            final String id,
+            final String email,
+            final String password,
+            final Set<Long> versions
+    ) {
+        return new PatchUserInput(id, email, password, versions);
+    }
+}
@@ -1,10 +1,13 @@
 package org.auth.api.application.user.update;
 
+import org.auth.api.domain.exceptions.DuplicateEmailException;
 import org.auth.api.domain.exceptions.GatewayException;
 import org.auth.api.domain.exceptions.ValidationException;
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.exceptions.notification.IdentifierException;
 import org.auth.api.domain.exceptions.notification.NotFoundException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
+import org.auth.api.domain.password.PasswordHasher;
 import org.auth.api.domain.user.User;
 import org.auth.api.domain.user.UserGateway;
 import org.auth.api.domain.validation.Error;
@@ -17,8 +20,8 @@ import org.auth.api.domain.valueobjects.Password;
 import java.util.Optional;
 
 public class DefaultUpdateUser extends UpdateUser {
-    public DefaultUpdateUser(final UserGateway userGateway) {
-        super(userGateway);
+    public DefaultUpdateUser(final UserGateway userGateway, final PasswordHasher passwordHasher) {
+        super(userGateway, passwordHasher);
     }
 
     @Override
@@ -33,6 +36,9 @@ public class DefaultUpdateUser extends UpdateUser {
         if (user.isEmpty())
             throw NotFoundException.with(User.class, id.get());
 
+        if (input.versions() != null && !input.versions().contains(user.get().getVersion()))
+            throw VersionConflictException.with(null);
+
         final var email = createEmail(input.id(), input.email(), notification);
         final var password = createPassword(input.password(), notification);
         if (email.isEmpty() || password.isEmpty())
@@ -42,7 +48,10 @@ public class DefaultUpdateUser extends UpdateUser {
                 .updateEmail(email.get())
                 .updatePassword(password.get());
 
-        return saveUser(updatedUser);
+        if (!saveUser(updatedUser, notification))
+            throw NotificationException.with(notification);
+
+        return null;
     }
 
     private Optional<Identifier> createId(final String id, final Notification notification) {
@@ -80,7 +89,7 @@ public class DefaultUpdateUser extends UpdateUser {
 
         if (emailOwner.isPresent() && !id.equals(emailOwner.get().getId().getValue())) {
             final var errorHandler = ErrorHandler.create()
-                    .append(Error.with("email already used"));
+                    .append(Error.with(DuplicateEmailException.EMAIL_ALREADY_USED));
             notification.append("email", errorHandler);
             return Optional.empty();
         }
@@ -90,19 +99,26 @@ public class DefaultUpdateUser extends UpdateUser {
 
     private Optional<Password> createPassword(final String password, final Notification notification) {
         try {
-            return Optional.of(Password.withRawValue(password));
+            return Optional.of(Password.withRawValue(password, passwordHasher));
         } catch (final ValidationException ex) {
             notification.append("password", ex.getErrorHandler());
             return Optional.empty();
         }
     }
 
-    private Void saveUser(final User user) {
+    private boolean saveUser(final User user, final Notification notification) {
         try {
             userGateway.save(user);
+            return true;
+        } catch (final DuplicateEmailException ex) {
+            final var errorHandler = ErrorHandler.create()
+                    .append(Error.with(DuplicateEmailException.EMAIL_ALREADY_USED));
+            notification.append("email", errorHandler);
+            return false;
+        } catch (final VersionConflictException ex) {
+            throw ex;
         } catch (final Exception ex) {
             throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
         }
-        return null;
     }
 }
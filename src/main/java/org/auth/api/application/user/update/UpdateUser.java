@@ -1,12 +1,15 @@
 package org.auth.api.application.user.update;
 
 import org.auth.api.application.UseCase;
+import org.auth.api.domain.password.PasswordHasher;
 import org.auth.api.domain.user.UserGateway;
 
 public abstract class UpdateUser extends UseCase<UpdateUserInput, Void> {
     protected final UserGateway userGateway;
+    protected final PasswordHasher passwordHasher;
 
-    protected UpdateUser(final UserGateway userGateway) {
+    protected UpdateUser(final UserGateway userGateway, final PasswordHasher passwordHasher) {
         this.userGateway = userGateway;
+        this.passwordHasher = passwordHasher;
     }
 }
@@ -1,15 +1,19 @@
 package org.auth.api.application.user.update;
 
+import java.util.Set;
+
 public record UpdateUserInput(
         String id,
         String email,
-        String password
+        String password,
+        Set<Long> versions
 ) {
     public static UpdateUserInput with(
             final String id,
             final String email,
-            final String password
+            final String password,
+            final Set<Long> versions
     ) {
-        return new UpdateUserInput(id, email, password);
+        return new UpdateUserInput(id, email, password, versions);
     }
 }
@@ -0,0 +1,13 @@
+package org.auth.api.domain.exceptions;
+
+public class BusyException extends RuntimeException {
+    public static final String PASSWORD_HASHER_BUSY = "password hasher busy";
+
+    private BusyException(final String message, final Throwable cause) {
+        super(message, cause, true, false);
+    }
+
+    public static BusyException with(final String message, final Throwable cause) {
+        return new BusyException(message, cause);
+    }
+}
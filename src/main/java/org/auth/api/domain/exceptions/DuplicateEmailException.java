@@ -0,0 +1,13 @@
+package org.auth.api.domain.exceptions;
+
+public class DuplicateEmailException extends RuntimeException {
+    public static final String EMAIL_ALREADY_USED = "email already used";
+
+    private DuplicateEmailException(final String message, final Throwable cause) {
+        super(message, cause, true, false);
+    }
+
+    public static DuplicateEmailException with(final Throwable cause) {
+        return new DuplicateEmailException(EMAIL_ALREADY_USED, cause);
+    }
+}
@@ -0,0 +1,13 @@
+package org.auth.api.domain.exceptions;
+
+public class VersionConflictException extends RuntimeException {
+    public static final String VERSION_CONFLICT = "version conflict";
+
+    private VersionConflictException(final String message, final Throwable cause) {
+        super(message, cause, true, false);
+    }
+
+    public static VersionConflictException with(final Throwable cause) {
+        return new VersionConflictException(VERSION_CONFLICT, cause);
+    }
+}
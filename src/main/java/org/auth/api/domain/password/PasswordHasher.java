@@ -0,0 +1,7 @@
+package org.auth.api.domain.password;
+
+public interface PasswordHasher {
+    String hash(String rawPassword);
+    boolean verify(String rawPassword, String encodedPassword);
+    boolean needsRehash(String encodedPassword);
+}
@@ -0,0 +1,78 @@
+package org.auth.api.domain.token;
+
+import org.auth.api.domain.valueobjects.Identifier;
+
+import java.time.Instant;
+
+public class RefreshToken {
+    private final String hash;
+    private final String family;
+    private final Identifier userId;
+    private final Instant expiresAt;
+    private final Instant usedAt;
+
+    private RefreshToken(
+            final String hash,
+            final String family,
+            final Identifier userId,
+            final Instant expiresAt,
+            final Instant usedAt
+    ) {
+        this.hash = hash;
+        this.family = family;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.usedAt = usedAt;
+    }
+
+    public static RefreshToken newToken(
+            final String hash,
+            final String family,
+            final Identifier userId,
+            final Instant expiresAt
+    ) {
+        return new RefreshToken(hash, family, userId, expiresAt, null);
+    }
+
+    public static RefreshToken with(
+            final String hash,
+            final String family,
+            final Identifier userId,
+            final Instant expiresAt,
+            final Instant usedAt
+    ) {
+        return new RefreshToken(hash, family, userId, expiresAt, usedAt);
+    }
+
+    public RefreshToken markUsed(final Instant usedAt) {
+        return new RefreshToken(hash, family, userId, expiresAt, usedAt);
+    }
+
+    public boolean isUsed() {
+        return usedAt != null;
+    }
+
+    public boolean isExpired(final Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getFamily() {
+        return family;
+    }
+
+    public Identifier getUserId() {
+        return userId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Instant getUsedAt() {
+        return usedAt;
+    }
+}
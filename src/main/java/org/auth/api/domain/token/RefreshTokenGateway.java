@@ -0,0 +1,12 @@
+package org.auth.api.domain.token;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenGateway {
+    RefreshToken save(RefreshToken token);
+    Optional<RefreshToken> findByHash(String hash);
+    boolean markUsed(String hash, Instant usedAt);
+    void deleteByFamily(String family);
+    void deleteExpired(Instant now);
+}
@@ -8,25 +8,36 @@ import org.auth.api.domain.valueobjects.Identifier;
 import org.auth.api.domain.valueobjects.Password;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 public class User extends AggregateRoot {
     private Email email;
     private Password password;
     private final Instant createdAt;
     private Instant updatedAt;
+    private final long version;
+    private final boolean isNew;
+    private final Set<UserChange> changes;
 
     private User(
             final Identifier id,
             final Email email,
             final Password password,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final long version,
+            final boolean isNew
     ) {
         super(id);
         this.email = email;
         this.password = password;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
+        this.isNew = isNew;
+        this.changes = EnumSet.noneOf(UserChange.class);
         validate();
     }
 
@@ -36,7 +47,7 @@ public class User extends AggregateRoot {
     ) {
         final var id = Identifier.with(IDUtils.newUUID());
         final var now = TimeUtils.now();
-        return new User(id, email, password, now, now);
+        return new User(id, email, password, now, now, 0, true);
     }
 
     public static User with(
@@ -44,9 +55,10 @@ public class User extends AggregateRoot {
             final Email email,
             final Password password,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final long version
     ) {
-        return new User(id, email, password, createdAt, updatedAt);
+        return new User(id, email, password, createdAt, updatedAt, version, false);
     }
 
     @Override
@@ -57,6 +69,9 @@ public class User extends AggregateRoot {
     public User updateEmail(final Email email) {
         this.email = email;
         this.updatedAt = TimeUtils.now();
+        this.changes.add(UserChange.EMAIL);
+        this.changes.add(UserChange.UPDATED_AT);
+        this.changes.add(UserChange.VERSION);
         validate();
         return this;
     }
@@ -64,6 +79,16 @@ public class User extends AggregateRoot {
     public User updatePassword(final Password password) {
         this.password = password;
         this.updatedAt = TimeUtils.now();
+        this.changes.add(UserChange.PASSWORD);
+        this.changes.add(UserChange.UPDATED_AT);
+        this.changes.add(UserChange.VERSION);
+        validate();
+        return this;
+    }
+
+    public User rehashPassword(final Password password) {
+        this.password = password;
+        this.changes.add(UserChange.PASSWORD);
         validate();
         return this;
     }
@@ -83,4 +108,20 @@ public class User extends AggregateRoot {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getSavedVersion() {
+        return changes.contains(UserChange.VERSION) ? version + 1 : version;
+    }
+
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public Set<UserChange> getChanges() {
+        return Collections.unmodifiableSet(changes);
+    }
 }
@@ -0,0 +1,8 @@
+package org.auth.api.domain.user;
+
+public enum UserChange {
+    EMAIL,
+    PASSWORD,
+    UPDATED_AT,
+    VERSION
+}
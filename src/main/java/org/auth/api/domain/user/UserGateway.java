@@ -9,5 +9,6 @@ public interface UserGateway {
     User save(User user);
     Optional<User> findById(Identifier id);
     Optional<User> findByEmail(Email email);
-    void deleteById(Identifier id);
+    boolean deleteById(Identifier id);
+    boolean deleteById(Identifier id, long version);
 }
@@ -0,0 +1,9 @@
+package org.auth.api.domain.user;
+
+import org.auth.api.domain.valueobjects.Identifier;
+
+import java.util.Optional;
+
+public interface UserQueryGateway {
+    Optional<UserSummary> findSummaryById(Identifier id);
+}
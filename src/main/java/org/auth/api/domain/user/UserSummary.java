@@ -0,0 +1,11 @@
+package org.auth.api.domain.user;
+
+public record UserSummary(
+        String id,
+        String email,
+        long version
+) {
+    public static UserSummary with(final String id, final String email, final long version) {
+        return new UserSummary(id, email, version);
+    }
+}
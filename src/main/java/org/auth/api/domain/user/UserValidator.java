@@ -23,6 +23,7 @@ public class UserValidator extends Validation<User> {
         final var password = getEntity().getPassword();
         final var createdAt = getEntity().getCreatedAt();
         final var updatedAt = getEntity().getUpdatedAt();
+        final var version = getEntity().getVersion();
 
         if (id == null)
             handler.append(Error.with("id must not be null"));
@@ -42,6 +43,9 @@ public class UserValidator extends Validation<User> {
         if (createdAt != null && updatedAt != null && updatedAt.isBefore(createdAt))
             handler.append(Error.with("update at must not come before created at"));
 
+        if (version < 0)
+            handler.append(Error.with("version must not be negative"));
+
         if (handler.hasError())
             throw ValidationException.with(handler);
     }
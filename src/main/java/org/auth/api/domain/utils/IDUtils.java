@@ -1,12 +1,21 @@
 package org.auth.api.domain.utils;
 
+import java.security.SecureRandom;
 import java.util.UUID;
 
 public final class IDUtils {
+    private static final SecureRandom random = new SecureRandom();
+
     private IDUtils() { }
 
     public static String newUUID() {
-        return UUID.randomUUID().toString().toLowerCase();
+        return newTimeOrderedUUID(System.currentTimeMillis()).toString();
+    }
+
+    public static UUID newTimeOrderedUUID(final long epochMillis) {
+        final var msb = (epochMillis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        final var lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
     }
 
     public static boolean isUUID(final String uuid) {
@@ -1,25 +1,21 @@
 package org.auth.api.domain.utils;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-
 import java.util.regex.Pattern;
 
 public final class PasswordUtils {
-    private static final PasswordEncoder encoder = new BCryptPasswordEncoder();
-    private static final Pattern encoderPattern = Pattern.compile("^\\$2[ayb]\\$.{56}$");
+    public static final String LEGACY_ALGORITHM = "bcrypt";
+    private static final Pattern encoderPattern = Pattern.compile("^(?:\\{([a-z0-9]+)}\\S+|\\$2[ayb]\\$.{56})$");
 
     private PasswordUtils() { }
 
-    public static String encodePassword(final String rawPassword) {
-        return encoder.encode(rawPassword);
-    }
-
     public static boolean isEncodedPassword(final String encodedPassword) {
-        return encoderPattern.matcher(encodedPassword).matches();
+        return encodedPassword != null && encoderPattern.matcher(encodedPassword).matches();
     }
 
-    public static boolean verifyPassword(final String rawPassword, final String encodedPassword) {
-        return encoder.matches(rawPassword, encodedPassword);
+    public static String getAlgorithm(final String encodedPassword) {
+        final var matcher = encoderPattern.matcher(encodedPassword);
+        if (!matcher.matches())
+            return null;
+        return matcher.group(1) != null ? matcher.group(1) : LEGACY_ALGORITHM;
     }
 }
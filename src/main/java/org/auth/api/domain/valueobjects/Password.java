@@ -2,6 +2,7 @@ package org.auth.api.domain.valueobjects;
 
 import org.auth.api.domain.ValueObject;
 import org.auth.api.domain.exceptions.ValidationException;
+import org.auth.api.domain.password.PasswordHasher;
 import org.auth.api.domain.utils.PasswordUtils;
 import org.auth.api.domain.validation.Error;
 import org.auth.api.domain.validation.ErrorHandler;
@@ -15,7 +16,20 @@ public class Password extends ValueObject {
         this.value = value;
     }
 
-    public static Password withRawValue(final String value) {
+    public static Password withRawValue(final String value, final PasswordHasher hasher) {
+        return new Password(hasher.hash(validateRawValue(value)));
+    }
+
+    public static Password withEncodedValue(final String value) {
+        if (!PasswordUtils.isEncodedPassword(value)) {
+            final var handler = ErrorHandler.create()
+                    .append(Error.with("password must be encoded"));
+            throw ValidationException.with(handler);
+        }
+        return new Password(value);
+    }
+
+    private static String validateRawValue(final String value) {
         final var handler = ErrorHandler.create();
 
         if (value == null) {
@@ -40,22 +54,17 @@ public class Password extends ValueObject {
             throw ValidationException.with(handler);
         }
 
-        return new Password(PasswordUtils.encodePassword(strippedValue));
-    }
-
-    public static Password withEncodedValue(final String value) {
-        if (!PasswordUtils.isEncodedPassword(value)) {
-            final var handler = ErrorHandler.create()
-                    .append(Error.with("password must be encoded"));
-            throw ValidationException.with(handler);
-        }
-        return new Password(value);
+        return strippedValue;
     }
 
     public String getValue() {
         return value;
     }
 
+    public String getAlgorithm() {
+        return PasswordUtils.getAlgorithm(value);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
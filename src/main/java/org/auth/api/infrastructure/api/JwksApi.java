@@ -0,0 +1,25 @@
+package org.auth.api.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = ".well-known")
+@Tag(name = "Keys")
+public interface JwksApi {
+    @GetMapping(
+            value = "jwks.json",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Public keys that verify the issued tokens")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Key Set"),
+            @ApiResponse(responseCode = "500", description = "Server Error")
+    })
+    ResponseEntity<String> getJwks();
+}
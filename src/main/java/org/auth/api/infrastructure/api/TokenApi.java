@@ -0,0 +1,35 @@
+package org.auth.api.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.auth.api.infrastructure.token.models.IntrospectionRequest;
+import org.auth.api.infrastructure.token.models.IntrospectionResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = "tokens")
+@Tag(name = "Tokens")
+public interface TokenApi {
+    @PostMapping(
+            value = "introspect",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Introspect a batch of JWT tokens",
+            security = @SecurityRequirement(name = "Basic")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens Introspected"),
+            @ApiResponse(responseCode = "400", description = "Invalid Batch"),
+            @ApiResponse(responseCode = "401", description = "Invalid Client Credentials"),
+            @ApiResponse(responseCode = "500", description = "Server Error")
+    })
+    ResponseEntity<IntrospectionResponse> introspect(@RequestBody IntrospectionRequest body);
+}
@@ -6,11 +6,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.auth.api.infrastructure.token.models.RefreshTokenRequest;
+import org.auth.api.infrastructure.token.models.RefreshTokenResponse;
 import org.auth.api.infrastructure.user.models.UserRequest;
 import org.auth.api.infrastructure.user.models.UserResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 @RequestMapping(value = "users")
@@ -30,7 +35,8 @@ public interface UserApi {
     ResponseEntity<Void> createUser(@RequestBody UserRequest body);
 
     @PostMapping(
-            value = "login"
+            value = "login",
+            produces = MediaType.APPLICATION_JSON_VALUE
     )
     @Operation(
             summary = "User login",
@@ -41,7 +47,20 @@ public interface UserApi {
             @ApiResponse(responseCode = "401", description = "Invalid Credentials"),
             @ApiResponse(responseCode = "500", description = "Server Error")
     })
-    ResponseEntity<Void> loginUser(Authentication authentication);
+    ResponseEntity<RefreshTokenResponse> loginUser(Authentication authentication);
+
+    @PostMapping(
+            value = "token/refresh",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Exchange a refresh token for a new JWT token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token Refreshed"),
+            @ApiResponse(responseCode = "401", description = "Invalid Refresh Token"),
+            @ApiResponse(responseCode = "500", description = "Server Error")
+    })
+    ResponseEntity<RefreshTokenResponse> refreshToken(@RequestBody RefreshTokenRequest body);
 
     @GetMapping(
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -52,11 +71,15 @@ public interface UserApi {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User Found"),
+            @ApiResponse(responseCode = "304", description = "User Not Modified"),
             @ApiResponse(responseCode = "400", description = "Invalid User"),
             @ApiResponse(responseCode = "401", description = "Invalid Credentials"),
             @ApiResponse(responseCode = "500", description = "Server Error")
     })
-    ResponseEntity<UserResponse> findUser(@RequestHeader(name="Authorization") @Schema(hidden = true) String token);
+    ResponseEntity<UserResponse> findUser(
+            @AuthenticationPrincipal @Schema(hidden = true) Jwt jwt,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE
@@ -69,11 +92,34 @@ public interface UserApi {
             @ApiResponse(responseCode = "204", description = "User Updated"),
             @ApiResponse(responseCode = "400", description = "Invalid User"),
             @ApiResponse(responseCode = "401", description = "Invalid Credentials"),
+            @ApiResponse(responseCode = "412", description = "User Modified"),
             @ApiResponse(responseCode = "422", description = "Invalid Data"),
             @ApiResponse(responseCode = "500", description = "Server Error")
     })
     ResponseEntity<Void> updateUser(
-            @RequestHeader(name="Authorization") @Schema(hidden = true) String token,
+            @AuthenticationPrincipal @Schema(hidden = true) Jwt jwt,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UserRequest body
+    );
+
+    @PatchMapping(
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Partially update an user",
+            security = @SecurityRequirement(name = "Bearer")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "User Updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid User"),
+            @ApiResponse(responseCode = "401", description = "Invalid Credentials"),
+            @ApiResponse(responseCode = "412", description = "User Modified"),
+            @ApiResponse(responseCode = "422", description = "Invalid Data"),
+            @ApiResponse(responseCode = "500", description = "Server Error")
+    })
+    ResponseEntity<Void> patchUser(
+            @AuthenticationPrincipal @Schema(hidden = true) Jwt jwt,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UserRequest body
     );
 
@@ -86,7 +132,11 @@ public interface UserApi {
             @ApiResponse(responseCode = "204", description = "User Deleted"),
             @ApiResponse(responseCode = "400", description = "Invalid User"),
             @ApiResponse(responseCode = "401", description = "Invalid Credentials"),
+            @ApiResponse(responseCode = "412", description = "User Modified"),
             @ApiResponse(responseCode = "500", description = "Server Error")
     })
-    ResponseEntity<Void> deleteUser(@RequestHeader(name="Authorization") @Schema(hidden = true) String token);
+    ResponseEntity<Void> deleteUser(
+            @AuthenticationPrincipal @Schema(hidden = true) Jwt jwt,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 }
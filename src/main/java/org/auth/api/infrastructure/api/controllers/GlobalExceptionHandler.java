@@ -1,14 +1,22 @@
 package org.auth.api.infrastructure.api.controllers;
 
+import org.auth.api.domain.exceptions.BusyException;
 import org.auth.api.domain.exceptions.notification.IdentifierException;
 import org.auth.api.domain.exceptions.GatewayException;
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.exceptions.notification.NotFoundException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
+import org.auth.api.infrastructure.api.filters.BusyExceptionFilter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -33,6 +41,20 @@ public class GlobalExceptionHandler {
                 .body(ex.getNotification().getNotifications());
     }
 
+    @ExceptionHandler(value = VersionConflictException.class)
+    public ResponseEntity<?> versionConflictException(final VersionConflictException ex) {
+        return ResponseEntity
+                .status(PRECONDITION_FAILED)
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(value = BadCredentialsException.class)
+    public ResponseEntity<?> badCredentialsException(final BadCredentialsException ex) {
+        return ResponseEntity
+                .status(UNAUTHORIZED)
+                .body(ex.getMessage());
+    }
+
     @ExceptionHandler(value = GatewayException.class)
     public ResponseEntity<?> internalErrorException(final GatewayException ex) {
         if (ex.getCause() != null)
@@ -41,4 +63,12 @@ public class GlobalExceptionHandler {
                 .internalServerError()
                 .body(ex.getMessage());
     }
+
+    @ExceptionHandler(value = BusyException.class)
+    public ResponseEntity<?> busyException(final BusyException ex) {
+        return ResponseEntity
+                .status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, BusyExceptionFilter.RETRY_AFTER_SECONDS)
+                .body(ex.getMessage());
+    }
 }
@@ -0,0 +1,31 @@
+package org.auth.api.infrastructure.api.controllers;
+
+import org.auth.api.infrastructure.api.JwksApi;
+import org.auth.api.infrastructure.services.security.jwt.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class JwksController implements JwksApi {
+    private final JwtKeyRing jwtKeyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(
+            final JwtKeyRing jwtKeyRing,
+            @Value("${jwt.keys.jwks-max-age}") final long jwksMaxAge
+    ) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(jwksMaxAge)).cachePublic();
+    }
+
+    @Override
+    public ResponseEntity<String> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(jwtKeyRing.getJwks());
+    }
+}
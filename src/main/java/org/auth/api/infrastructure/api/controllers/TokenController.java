@@ -0,0 +1,41 @@
+package org.auth.api.infrastructure.api.controllers;
+
+import org.auth.api.infrastructure.api.TokenApi;
+import org.auth.api.infrastructure.services.security.introspection.TokenIntrospector;
+import org.auth.api.infrastructure.token.models.IntrospectionRequest;
+import org.auth.api.infrastructure.token.models.IntrospectionResponse;
+import org.auth.api.infrastructure.token.models.IntrospectionResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class TokenController implements TokenApi {
+    private final TokenIntrospector tokenIntrospector;
+    private final int maxTokens;
+
+    public TokenController(
+            final TokenIntrospector tokenIntrospector,
+            @Value("${token.introspection.max-tokens}") final int maxTokens
+    ) {
+        this.tokenIntrospector = tokenIntrospector;
+        this.maxTokens = maxTokens;
+    }
+
+    @Override
+    public ResponseEntity<IntrospectionResponse> introspect(final IntrospectionRequest body) {
+        final var tokens = body.tokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > maxTokens)
+            return ResponseEntity.badRequest().build();
+
+        final var results = tokenIntrospector.introspect(tokens).stream()
+                .map(introspection -> IntrospectionResult.with(
+                        introspection.active(),
+                        introspection.sub(),
+                        introspection.exp()
+                ))
+                .toList();
+
+        return ResponseEntity.ok(IntrospectionResponse.with(results));
+    }
+}
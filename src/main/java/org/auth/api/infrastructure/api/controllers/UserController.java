@@ -6,38 +6,58 @@ import org.auth.api.application.user.delete.DeleteUser;
 import org.auth.api.application.user.delete.DeleteUserInput;
 import org.auth.api.application.user.find.FindUser;
 import org.auth.api.application.user.find.FindUserInput;
+import org.auth.api.application.user.patch.PatchUser;
+import org.auth.api.application.user.patch.PatchUserInput;
 import org.auth.api.application.user.update.UpdateUser;
 import org.auth.api.application.user.update.UpdateUserInput;
 import org.auth.api.infrastructure.api.UserApi;
+import org.auth.api.domain.valueobjects.Identifier;
 import org.auth.api.infrastructure.services.security.AuthTokenService;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.auth.api.infrastructure.services.security.refresh.RefreshTokenService;
+import org.auth.api.infrastructure.token.models.RefreshTokenRequest;
+import org.auth.api.infrastructure.token.models.RefreshTokenResponse;
+import org.auth.api.infrastructure.user.UserVersionCache;
+import org.auth.api.infrastructure.user.models.UserETag;
 import org.auth.api.infrastructure.user.models.UserRequest;
 import org.auth.api.infrastructure.user.models.UserResponse;
 import org.auth.api.infrastructure.user.presenters.UserApiPresenter;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class UserController implements UserApi {
     private final AuthTokenService authTokenService;
+    private final RefreshTokenService refreshTokenService;
     private final CreateUser createUserUC;
     private final FindUser findUserUC;
     private final UpdateUser updateUserUC;
+    private final PatchUser patchUserUC;
     private final DeleteUser deleteUserUC;
+    private final UserVersionCache userVersionCache;
 
     public UserController(
             final AuthTokenService authTokenService,
+            final RefreshTokenService refreshTokenService,
             final CreateUser createUserUC,
             final FindUser findUserUC,
             final UpdateUser updateUserUC,
-            final DeleteUser deleteUserUC
+            final PatchUser patchUserUC,
+            final DeleteUser deleteUserUC,
+            final UserVersionCache userVersionCache
     ) {
         this.authTokenService = authTokenService;
+        this.refreshTokenService = refreshTokenService;
         this.createUserUC = createUserUC;
         this.findUserUC = findUserUC;
         this.updateUserUC = updateUserUC;
+        this.patchUserUC = patchUserUC;
         this.deleteUserUC = deleteUserUC;
+        this.userVersionCache = userVersionCache;
     }
 
     @Override
@@ -48,34 +68,79 @@ public class UserController implements UserApi {
     }
 
     @Override
-    public ResponseEntity<Void> loginUser(final Authentication authentication) {
+    public ResponseEntity<RefreshTokenResponse> loginUser(final Authentication authentication) {
+        final var credentials = (UserCredentials) authentication.getPrincipal();
         final var token = authTokenService.createToken(authentication);
+        final var refreshToken = refreshTokenService.issue(Identifier.with(credentials.getId()));
         return ResponseEntity.ok()
                 .header("Authorization", token)
-                .build();
+                .body(RefreshTokenResponse.with(refreshToken));
     }
 
     @Override
-    public ResponseEntity<UserResponse> findUser(final String token) {
-        final var sub = authTokenService.getSub(token);
+    public ResponseEntity<RefreshTokenResponse> refreshToken(final RefreshTokenRequest body) {
+        final var refreshed = refreshTokenService.refresh(body.refreshToken());
+        final var token = authTokenService.createToken(refreshed.credentials());
+        return ResponseEntity.ok()
+                .header("Authorization", token)
+                .body(RefreshTokenResponse.with(refreshed.refreshToken()));
+    }
+
+    @Override
+    public ResponseEntity<UserResponse> findUser(final Jwt jwt, final String ifNoneMatch) {
+        final var sub = jwt.getSubject();
+        final var cachedVersion = userVersionCache.find(sub);
+        if (cachedVersion.isPresent()) {
+            final var eTag = UserETag.with(sub, cachedVersion.getAsLong());
+            if (eTag.matches(ifNoneMatch))
+                return notModified(eTag);
+        }
+
         final var input = FindUserInput.with(sub);
         final var output = findUserUC.execute(input);
-        return ResponseEntity.ok(UserApiPresenter.present(output));
+        userVersionCache.put(output.id(), output.version());
+
+        final var eTag = UserETag.with(output.id(), output.version());
+        if (eTag.matches(ifNoneMatch))
+            return notModified(eTag);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(eTag.value())
+                .body(UserApiPresenter.present(output));
     }
 
     @Override
-    public ResponseEntity<Void> updateUser(final String token, final UserRequest body) {
-        final var sub = authTokenService.getSub(token);
-        final var input = UpdateUserInput.with(sub, body.email(), body.password());
+    public ResponseEntity<Void> updateUser(final Jwt jwt, final String ifMatch, final UserRequest body) {
+        final var sub = jwt.getSubject();
+        final var versions = UserETag.expectedVersions(ifMatch, sub);
+        final var input = UpdateUserInput.with(sub, body.email(), body.password(), versions);
         updateUserUC.execute(input);
         return ResponseEntity.noContent().build();
     }
 
     @Override
-    public ResponseEntity<Void> deleteUser(final String token) {
-        final var sub = authTokenService.getSub(token);
-        final var input = DeleteUserInput.with(sub);
+    public ResponseEntity<Void> patchUser(final Jwt jwt, final String ifMatch, final UserRequest body) {
+        final var sub = jwt.getSubject();
+        final var versions = UserETag.expectedVersions(ifMatch, sub);
+        final var input = PatchUserInput.with(sub, body.email(), body.password(), versions);
+        patchUserUC.execute(input);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Override
+    public ResponseEntity<Void> deleteUser(final Jwt jwt, final String ifMatch) {
+        final var sub = jwt.getSubject();
+        final var versions = UserETag.expectedVersions(ifMatch, sub);
+        final var input = DeleteUserInput.with(sub, versions);
         deleteUserUC.execute(input);
         return ResponseEntity.noContent().build();
     }
+
+    private static <T> ResponseEntity<T> notModified(final UserETag eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(eTag.value())
+                .build();
+    }
 }
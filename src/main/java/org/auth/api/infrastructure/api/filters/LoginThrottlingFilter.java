@@ -0,0 +1,68 @@
+package org.auth.api.infrastructure.api.filters;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.auth.api.infrastructure.services.security.throttling.LoginThrottler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+public class LoginThrottlingFilter extends OncePerRequestFilter {
+    public static final String TOO_MANY_LOGIN_ATTEMPTS = "too many login attempts";
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final RequestMatcher loginMatcher = new AntPathRequestMatcher("/users/login", HttpMethod.POST.name());
+    private final LoginThrottler loginThrottler;
+
+    public LoginThrottlingFilter(final LoginThrottler loginThrottler) {
+        this.loginThrottler = loginThrottler;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !loginMatcher.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (loginThrottler.tryAcquire(getAccount(request), request.getRemoteAddr())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(loginThrottler.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(TOO_MANY_LOGIN_ATTEMPTS);
+    }
+
+    private static String getAccount(final HttpServletRequest request) {
+        final var header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length()))
+            return null;
+
+        try {
+            final var token = Base64.getDecoder().decode(header.substring(BASIC_PREFIX.length()).trim());
+            final var credentials = new String(token, StandardCharsets.UTF_8);
+            final var separator = credentials.indexOf(':');
+            return separator < 0 ? null : credentials.substring(0, separator).toLowerCase(Locale.ROOT);
+        } catch (final IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.auth.api.infrastructure.config;
+
+import org.auth.api.infrastructure.services.security.credentials.ClientAuthenticationProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
+@Configuration
+public class AdminConfig {
+    public static final String ROLE = "ADMIN";
+
+    @Value("${admin.client-id}")
+    private String clientId;
+    @Value("${admin.client-secret-hash}")
+    private String clientSecretHash;
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain adminFilterChain(final HttpSecurity http) throws Exception {
+        final var provider = ClientAuthenticationProvider.with(clientId, clientSecretHash, ROLE);
+        return http
+                .securityMatcher(antMatcher("/actuator/usershards/**"))
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().hasRole(ROLE)
+                )
+                .authenticationManager(new ProviderManager(provider))
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package org.auth.api.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.infrastructure.services.security.credentials.CachingDaoAuthenticationProvider;
+import org.auth.api.infrastructure.services.security.credentials.VerifiedCredentialCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class AuthenticationConfig {
+    @Value("${password.verified-cache.enabled}")
+    private boolean enabled;
+    @Value("${password.verified-cache.ttl}")
+    private long ttl;
+    @Value("${password.verified-cache.max-size}")
+    private int maxSize;
+
+    @Bean
+    public VerifiedCredentialCache verifiedCredentialCache(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        return VerifiedCredentialCache.with(enabled, ttl, maxSize, registry);
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(
+            final UserDetailsService userDetailsService,
+            final PasswordEncoder passwordEncoder,
+            final VerifiedCredentialCache verifiedCredentialCache
+    ) {
+        return CachingDaoAuthenticationProvider.with(userDetailsService, passwordEncoder, verifiedCredentialCache);
+    }
+}
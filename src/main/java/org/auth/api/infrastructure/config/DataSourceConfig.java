@@ -0,0 +1,51 @@
+package org.auth.api.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.auth.api.infrastructure.datasource.ReadWriteRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+@ConditionalOnExpression("'${datasource.replicas:}' != ''")
+public class DataSourceConfig {
+    @Value("${datasource.replicas}")
+    private List<String> replicas;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final DataSourceProperties properties, final Environment environment) {
+        final var replicaDataSources = replicas.stream()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .<DataSource>map(url -> createDataSource(properties, environment, url))
+                .toList();
+
+        return ReadWriteRoutingDataSource.with(
+                createDataSource(properties, environment, properties.determineUrl()),
+                replicaDataSources
+        );
+    }
+
+    static HikariDataSource createDataSource(
+            final DataSourceProperties properties,
+            final Environment environment,
+            final String url
+    ) {
+        final var dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+}
@@ -0,0 +1,60 @@
+package org.auth.api.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.infrastructure.services.security.credentials.ClientAuthenticationProvider;
+import org.auth.api.infrastructure.services.security.introspection.TokenIntrospector;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+@Configuration
+public class IntrospectionConfig {
+    public static final String ROLE = "INTROSPECTION";
+
+    @Value("${token.introspection.threads}")
+    private int threads;
+    @Value("${token.introspection.cache-size}")
+    private int cacheSize;
+    @Value("${token.introspection.client-id}")
+    private String clientId;
+    @Value("${token.introspection.client-secret-hash}")
+    private String clientSecretHash;
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain introspectionFilterChain(final HttpSecurity http) throws Exception {
+        final var provider = ClientAuthenticationProvider.with(clientId, clientSecretHash, ROLE);
+        return http
+                .securityMatcher("/tokens/introspect")
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().hasRole(ROLE)
+                )
+                .authenticationManager(new ProviderManager(provider))
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public TokenIntrospector tokenIntrospector(
+            final JwtDecoder jwtDecoder,
+            final TokenRevocations tokenRevocations,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        final var poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return TokenIntrospector.with(jwtDecoder, tokenRevocations, poolSize, cacheSize, registry);
+    }
+}
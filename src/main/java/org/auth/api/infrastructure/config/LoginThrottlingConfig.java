@@ -0,0 +1,31 @@
+package org.auth.api.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.infrastructure.services.security.throttling.LoginThrottler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoginThrottlingConfig {
+    @Value("${login.throttle.enabled}")
+    private boolean enabled;
+    @Value("${login.throttle.window}")
+    private long window;
+    @Value("${login.throttle.account-limit}")
+    private int accountLimit;
+    @Value("${login.throttle.ip-limit}")
+    private int ipLimit;
+    @Value("${login.throttle.max-keys}")
+    private int maxKeys;
+    @Value("${login.throttle.stripes}")
+    private int stripes;
+
+    @Bean
+    public LoginThrottler loginThrottler(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        return LoginThrottler.with(enabled, window, accountLimit, ipLimit, maxKeys, stripes, registry);
+    }
+}
@@ -0,0 +1,108 @@
+package org.auth.api.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.infrastructure.services.security.hashing.CalibratedBCryptPasswordEncoder;
+import org.auth.api.infrastructure.services.security.hashing.PooledPasswordHasher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.Map;
+
+@Configuration
+public class PasswordHasherConfig {
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String SCRYPT = "scrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    @Value("${password.hasher.algorithm}")
+    private String algorithm;
+    @Value("${password.hasher.pool-size}")
+    private int poolSize;
+    @Value("${password.hasher.queue-capacity}")
+    private int queueCapacity;
+    @Value("${password.hasher.timeout}")
+    private long timeout;
+    @Value("${password.bcrypt.strength}")
+    private int strength;
+    @Value("${password.bcrypt.budget}")
+    private long budget;
+    @Value("${password.bcrypt.min-strength}")
+    private int minStrength;
+    @Value("${password.bcrypt.max-strength}")
+    private int maxStrength;
+    @Value("${password.argon2.memory}")
+    private int argon2Memory;
+    @Value("${password.argon2.iterations}")
+    private int argon2Iterations;
+    @Value("${password.argon2.parallelism}")
+    private int argon2Parallelism;
+    @Value("${password.scrypt.cpu-cost}")
+    private int scryptCpuCost;
+    @Value("${password.scrypt.memory-cost}")
+    private int scryptMemoryCost;
+    @Value("${password.scrypt.parallelization}")
+    private int scryptParallelization;
+    @Value("${password.pbkdf2.iterations}")
+    private int pbkdf2Iterations;
+
+    @Bean(destroyMethod = "shutdown")
+    public PooledPasswordHasher passwordHasher(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        final var threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        final var bcrypt = bcryptPasswordEncoder();
+        Gauge.builder("password.bcrypt.strength", bcrypt, CalibratedBCryptPasswordEncoder::getStrength)
+                .register(registry);
+
+        return PooledPasswordHasher.with(delegatingPasswordEncoder(bcrypt), threads, queueCapacity, timeout, registry);
+    }
+
+    private CalibratedBCryptPasswordEncoder bcryptPasswordEncoder() {
+        if (strength > 0)
+            return CalibratedBCryptPasswordEncoder.withStrength(strength);
+        return CalibratedBCryptPasswordEncoder.calibrate(budget, minStrength, maxStrength);
+    }
+
+    private PasswordEncoder delegatingPasswordEncoder(final PasswordEncoder bcrypt) {
+        final Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                ARGON2, new Argon2PasswordEncoder(
+                        SALT_LENGTH,
+                        HASH_LENGTH,
+                        argon2Parallelism,
+                        argon2Memory,
+                        argon2Iterations
+                ),
+                SCRYPT, new SCryptPasswordEncoder(
+                        scryptCpuCost,
+                        scryptMemoryCost,
+                        scryptParallelization,
+                        HASH_LENGTH,
+                        SALT_LENGTH
+                ),
+                PBKDF2, new Pbkdf2PasswordEncoder(
+                        "",
+                        SALT_LENGTH,
+                        pbkdf2Iterations,
+                        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256
+                )
+        );
+
+        final var encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
@@ -0,0 +1,42 @@
+package org.auth.api.infrastructure.config;
+
+import org.auth.api.domain.token.RefreshTokenGateway;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.infrastructure.services.security.refresh.RefreshTokenService;
+import org.auth.api.infrastructure.token.InMemoryRefreshTokenGateway;
+import org.auth.api.infrastructure.token.RefreshTokenMySQLGateway;
+import org.auth.api.infrastructure.token.persitence.RefreshTokenRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RefreshTokenConfig {
+    public static final String MEMORY = "memory";
+    public static final String JPA = "jpa";
+
+    @Value("${refresh-token.store}")
+    private String store;
+    @Value("${refresh-token.expiry}")
+    private long expiry;
+    @Value("${refresh-token.purge-interval}")
+    private long purgeInterval;
+
+    @Bean
+    public RefreshTokenGateway refreshTokenGateway(final ObjectProvider<RefreshTokenRepository> refreshTokenRepository) {
+        return switch (store) {
+            case MEMORY -> InMemoryRefreshTokenGateway.create();
+            case JPA -> RefreshTokenMySQLGateway.with(refreshTokenRepository.getObject());
+            default -> throw new IllegalArgumentException("unsupported refresh token store: " + store);
+        };
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public RefreshTokenService refreshTokenService(
+            final RefreshTokenGateway refreshTokenGateway,
+            final UserGateway userGateway
+    ) {
+        return RefreshTokenService.with(refreshTokenGateway, userGateway, expiry, purgeInterval);
+    }
+}
@@ -1,46 +1,71 @@
 package org.auth.api.infrastructure.config;
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.infrastructure.api.filters.BusyExceptionFilter;
+import org.auth.api.infrastructure.api.filters.LoginThrottlingFilter;
+import org.auth.api.infrastructure.services.security.jwt.JwsJwtDecoder;
+import org.auth.api.infrastructure.services.security.jwt.JwtAlgorithm;
+import org.auth.api.infrastructure.services.security.jwt.JwtKeyRing;
+import org.auth.api.infrastructure.services.security.jwt.PemKeys;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocationValidator;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocations;
+import org.auth.api.infrastructure.services.security.throttling.LoginThrottler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.nio.file.Path;
+import java.security.KeyPair;
 
 @Configuration
 public class SecurityConfig {
+    @Value("${jwt.algorithm}")
+    private String algorithm;
     @Value("${jwt.key.private}")
-    private RSAPrivateKey privateKey;
+    private Resource privateKey;
     @Value("${jwt.key.public}")
-    private RSAPublicKey publicKey;
+    private Resource publicKey;
+    @Value("${jwt.keys.directory}")
+    private String keysDirectory;
+    @Value("${jwt.keys.reload-interval}")
+    private long keysReloadInterval;
+    @Value("${jwt.expiry}")
+    private long expiry;
+    @Value("${jwt.revocation.expected-users}")
+    private long expectedUsers;
+    @Value("${jwt.revocation.false-positive-rate}")
+    private double falsePositiveRate;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(final HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            final HttpSecurity http,
+            final LoginThrottler loginThrottler
+    ) throws Exception {
         return http
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/users/new").permitAll()
+                        .requestMatchers("/users/token/refresh").permitAll()
+                        .requestMatchers("/.well-known/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .csrf(AbstractHttpConfigurer::disable)
                 .httpBasic(Customizer.withDefaults())
+                .addFilterBefore(new BusyExceptionFilter(), BasicAuthenticationFilter.class)
+                .addFilterBefore(new LoginThrottlingFilter(loginThrottler), BasicAuthenticationFilter.class)
                 .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .exceptionHandling(exceptions -> exceptions
@@ -50,20 +75,27 @@ public class SecurityConfig {
                 .build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public JwtKeyRing jwtKeyRing() {
+        final var jwtAlgorithm = JwtAlgorithm.of(algorithm);
+        final var keyPair = new KeyPair(
+                PemKeys.readPublicKey(publicKey, jwtAlgorithm.getKeyAlgorithm()),
+                PemKeys.readPrivateKey(privateKey, jwtAlgorithm.getKeyAlgorithm())
+        );
+
+        if (keysDirectory.isBlank())
+            return JwtKeyRing.with(jwtAlgorithm, keyPair);
+        return JwtKeyRing.with(jwtAlgorithm, keyPair, Path.of(keysDirectory), keysReloadInterval);
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(this.publicKey).build();
+    public TokenRevocations tokenRevocations(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        return TokenRevocations.with(expiry, expectedUsers, falsePositiveRate, registry);
     }
 
     @Bean
-    public JwtEncoder jwtEncoder() {
-        final var jwk = new RSAKey.Builder(this.publicKey).privateKey(this.privateKey).build();
-        final var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    public JwtDecoder jwtDecoder(final JwtKeyRing jwtKeyRing, final TokenRevocations tokenRevocations) {
+        return JwsJwtDecoder.with(jwtKeyRing, TokenRevocationValidator.with(tokenRevocations));
     }
 }
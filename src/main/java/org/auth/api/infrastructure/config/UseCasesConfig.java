@@ -6,33 +6,120 @@ import org.auth.api.application.user.delete.DefaultDeleteUser;
 import org.auth.api.application.user.delete.DeleteUser;
 import org.auth.api.application.user.find.DefaultFindUser;
 import org.auth.api.application.user.find.FindUser;
+import org.auth.api.application.user.patch.DefaultPatchUser;
+import org.auth.api.application.user.patch.PatchUser;
 import org.auth.api.application.user.update.DefaultUpdateUser;
 import org.auth.api.application.user.update.UpdateUser;
+import org.auth.api.domain.password.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.user.UserQueryGateway;
+import org.auth.api.infrastructure.services.security.credentials.CredentialEvictingUserGateway;
+import org.auth.api.infrastructure.services.security.credentials.VerifiedCredentialCache;
+import org.auth.api.infrastructure.services.security.revocation.RevokingUserGateway;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocations;
+import org.auth.api.infrastructure.user.CachingUserGateway;
+import org.auth.api.infrastructure.user.ShardedUserGateway;
+import org.auth.api.infrastructure.user.UserJdbcGateway;
+import org.auth.api.infrastructure.user.UserMySQLGateway;
+import org.auth.api.infrastructure.user.UserVersionCache;
+import org.auth.api.infrastructure.user.VersionCachingUserGateway;
+import org.auth.api.infrastructure.user.log.UserLogGateway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
 public class UseCasesConfig {
+    public static final String JPA = "jpa";
+    public static final String JDBC = "jdbc";
+    public static final String SHARDED = "sharded";
+    public static final String LOG = "log";
+
     private final UserGateway userGateway;
+    private final UserQueryGateway userQueryGateway;
+    private final PasswordHasher passwordHasher;
+
+    public UseCasesConfig(
+            final UserGateway userGateway,
+            final UserQueryGateway userQueryGateway,
+            final PasswordHasher passwordHasher,
+            final VerifiedCredentialCache verifiedCredentialCache,
+            final TokenRevocations tokenRevocations,
+            final UserVersionCache userVersionCache
+    ) {
+        this.userGateway = VersionCachingUserGateway.with(
+                RevokingUserGateway.with(
+                        CredentialEvictingUserGateway.with(userGateway, verifiedCredentialCache),
+                        tokenRevocations
+                ),
+                userVersionCache
+        );
+        this.userQueryGateway = userQueryGateway;
+        this.passwordHasher = passwordHasher;
+    }
+
+    @Bean
+    @Primary
+    public static UserGateway userGateway(
+            final UserMySQLGateway userMySQLGateway,
+            final JdbcTemplate jdbcTemplate,
+            final ObjectProvider<ShardedUserGateway> shardedUserGateway,
+            final ObjectProvider<UserLogGateway> userLogGateway,
+            @Value("${user.gateway}") final String gateway,
+            @Value("${user.cache.enabled}") final boolean enabled,
+            @Value("${user.cache.ttl}") final long ttl,
+            @Value("${user.cache.max-size}") final int maxSize,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final UserGateway delegate = switch (gateway) {
+            case JPA -> userMySQLGateway;
+            case JDBC -> UserJdbcGateway.with(jdbcTemplate);
+            case SHARDED -> shardedUserGateway.getObject();
+            case LOG -> userLogGateway.getObject();
+            default -> throw new IllegalArgumentException("unsupported user gateway: " + gateway);
+        };
+
+        if (!enabled)
+            return delegate;
 
-    public UseCasesConfig(final UserGateway userGateway) {
-        this.userGateway = userGateway;
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        return CachingUserGateway.with(delegate, ttl, maxSize, registry);
+    }
+
+    @Bean
+    public static UserVersionCache userVersionCache(
+            @Value("${user.version-cache.enabled}") final boolean enabled,
+            @Value("${user.version-cache.ttl}") final long ttl,
+            @Value("${user.version-cache.max-size}") final int maxSize,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        return UserVersionCache.with(enabled, ttl, maxSize, registry);
     }
 
     @Bean
     public CreateUser createUser() {
-        return new DefaultCreateUser(userGateway);
+        return new DefaultCreateUser(userGateway, passwordHasher);
     }
 
     @Bean
     public FindUser findUser() {
-        return new DefaultFindUser(userGateway);
+        return new DefaultFindUser(userQueryGateway);
     }
 
     @Bean
     public UpdateUser updateUser() {
-        return new DefaultUpdateUser(userGateway);
+        return new DefaultUpdateUser(userGateway, passwordHasher);
+    }
+
+    @Bean
+    public PatchUser patchUser() {
+        return new DefaultPatchUser(userGateway, passwordHasher);
     }
 
     @Bean
@@ -0,0 +1,62 @@
+package org.auth.api.infrastructure.config;
+
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.infrastructure.services.security.credentials.VerifiedCredentialCache;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocations;
+import org.auth.api.infrastructure.user.UserVersionCache;
+import org.auth.api.infrastructure.user.events.UserEventPoller;
+import org.auth.api.infrastructure.user.events.UserEventSubscriber;
+import org.auth.api.infrastructure.user.persitence.UserEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+
+@Configuration
+@ConditionalOnProperty(name = "user.events.enabled", havingValue = "true")
+public class UserEventsConfig {
+    @Value("${user.events.poll-interval}")
+    private long pollInterval;
+    @Value("${user.events.batch-size}")
+    private int batchSize;
+    @Value("${user.events.gap-timeout}")
+    private long gapTimeout;
+    @Value("${user.events.retention}")
+    private long retention;
+    @Value("${user.gateway}")
+    private String gateway;
+
+    @Bean(destroyMethod = "shutdown")
+    public UserEventPoller userEventPoller(
+            final UserEventRepository userEventRepository,
+            final UserGateway userGateway,
+            final VerifiedCredentialCache verifiedCredentialCache,
+            final TokenRevocations tokenRevocations,
+            final UserVersionCache userVersionCache
+    ) {
+        if (!UseCasesConfig.JPA.equals(gateway))
+            throw new IllegalArgumentException("user events require user.gateway: " + UseCasesConfig.JPA);
+
+        final var subscribers = new ArrayList<UserEventSubscriber>();
+
+        if (userGateway instanceof UserEventSubscriber cache)
+            subscribers.add(cache);
+
+        subscribers.add(event -> verifiedCredentialCache.evict(event.userId()));
+        subscribers.add(event -> userVersionCache.evict(event.userId()));
+        subscribers.add(event -> {
+            switch (event.type()) {
+                case CREATED -> tokenRevocations.register(event.userId());
+                case UPDATED -> {
+                    if (event.revokeBefore() != null)
+                        tokenRevocations.revoke(event.userId(), event.revokeBefore());
+                }
+                case DELETED -> tokenRevocations.revokeAll(event.userId());
+            }
+        });
+
+        return UserEventPoller.with(userEventRepository, subscribers, pollInterval, batchSize, gapTimeout, retention);
+    }
+}
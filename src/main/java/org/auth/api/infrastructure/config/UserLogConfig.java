@@ -0,0 +1,41 @@
+package org.auth.api.infrastructure.config;
+
+import org.auth.api.domain.user.UserQueryGateway;
+import org.auth.api.infrastructure.user.UserGatewayQueries;
+import org.auth.api.infrastructure.user.log.UserLogGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "user.gateway", havingValue = UseCasesConfig.LOG)
+public class UserLogConfig {
+    @Value("${user.log.directory}")
+    private String directory;
+    @Value("${user.log.segment-size}")
+    private int segmentSize;
+    @Value("${user.log.compaction-interval}")
+    private long compactionInterval;
+    @Value("${user.log.sync}")
+    private boolean sync;
+    @Value("${refresh-token.store}")
+    private String refreshTokenStore;
+
+    @Bean(destroyMethod = "close")
+    public UserLogGateway userLogGateway() {
+        if (RefreshTokenConfig.JPA.equals(refreshTokenStore))
+            throw new IllegalArgumentException("log-structured users require refresh-token.store: " + RefreshTokenConfig.MEMORY);
+
+        return UserLogGateway.open(Path.of(directory), segmentSize, compactionInterval, sync);
+    }
+
+    @Bean
+    @Primary
+    public UserQueryGateway userLogQueryGateway(final UserLogGateway userLogGateway) {
+        return UserGatewayQueries.with(userLogGateway);
+    }
+}
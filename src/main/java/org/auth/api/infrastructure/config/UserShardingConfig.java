@@ -0,0 +1,62 @@
+package org.auth.api.infrastructure.config;
+
+import org.auth.api.domain.user.UserQueryGateway;
+import org.auth.api.infrastructure.user.ShardedUserGateway;
+import org.auth.api.infrastructure.user.UserEmailDirectory;
+import org.auth.api.infrastructure.user.UserGatewayQueries;
+import org.auth.api.infrastructure.user.UserJdbcGateway;
+import org.auth.api.infrastructure.user.UserResharder;
+import org.auth.api.infrastructure.user.UserShardMap;
+import org.auth.api.infrastructure.user.UserShardsEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "user.gateway", havingValue = UseCasesConfig.SHARDED)
+public class UserShardingConfig {
+    @Value("${user.shards}")
+    private List<String> shards;
+    @Value("${refresh-token.store}")
+    private String refreshTokenStore;
+
+    @Bean(destroyMethod = "close")
+    public ShardedUserGateway shardedUserGateway(
+            final DataSourceProperties properties,
+            final Environment environment,
+            final JdbcTemplate jdbcTemplate
+    ) {
+        if (RefreshTokenConfig.JPA.equals(refreshTokenStore))
+            throw new IllegalArgumentException("sharded users require refresh-token.store: " + RefreshTokenConfig.MEMORY);
+
+        final var gateways = shards.stream()
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(url -> UserJdbcGateway.with(new JdbcTemplate(DataSourceConfig.createDataSource(properties, environment, url))))
+                .toList();
+
+        return ShardedUserGateway.with(
+                gateways,
+                UserShardMap.load(jdbcTemplate, gateways.size()),
+                UserEmailDirectory.with(jdbcTemplate)
+        );
+    }
+
+    @Bean
+    @Primary
+    public UserQueryGateway shardedUserQueryGateway(final ShardedUserGateway shardedUserGateway) {
+        return UserGatewayQueries.with(shardedUserGateway);
+    }
+
+    @Bean
+    public UserShardsEndpoint userShardsEndpoint(final ShardedUserGateway shardedUserGateway) {
+        return UserShardsEndpoint.with(shardedUserGateway, UserResharder.with(shardedUserGateway));
+    }
+}
@@ -0,0 +1,24 @@
+package org.auth.api.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+public final class DataSourceRoute {
+    private static final ThreadLocal<Boolean> replica = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRoute() {
+    }
+
+    public static <T> T replica(final Supplier<T> read) {
+        final var previous = replica.get();
+        replica.set(true);
+        try {
+            return read.get();
+        } finally {
+            replica.set(previous);
+        }
+    }
+
+    public static boolean isReplica() {
+        return replica.get();
+    }
+}
@@ -0,0 +1,62 @@
+package org.auth.api.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica-";
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger next;
+
+    private ReadWriteRoutingDataSource(final DataSource primary, final List<DataSource> replicas) {
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+
+        final var keys = new ArrayList<String>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            keys.add(REPLICA + i);
+            targets.put(REPLICA + i, replicas.get(i));
+        }
+
+        this.replicaKeys = List.copyOf(keys);
+        this.next = new AtomicInteger();
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public static ReadWriteRoutingDataSource with(final DataSource primary, final List<DataSource> replicas) {
+        return new ReadWriteRoutingDataSource(primary, replicas);
+    }
+
+    public void close() {
+        for (final var dataSource : getResolvedDataSources().values()) {
+            if (!(dataSource instanceof AutoCloseable closeable))
+                continue;
+
+            try {
+                closeable.close();
+            } catch (final Exception ex) {
+                throw new IllegalStateException("could not close routed data source", ex);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty() || !DataSourceRoute.isReplica())
+            return PRIMARY;
+
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+}
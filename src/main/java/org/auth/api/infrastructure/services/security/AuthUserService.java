@@ -5,9 +5,13 @@ import org.auth.api.domain.exceptions.ValidationException;
 import org.auth.api.domain.user.User;
 import org.auth.api.domain.user.UserGateway;
 import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.datasource.DataSourceRoute;
+import org.auth.api.infrastructure.services.security.hashing.PasswordRehashService;
 import org.auth.api.infrastructure.services.security.models.UserCredentials;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,12 +19,14 @@ import org.springframework.stereotype.Service;
 import java.util.Optional;
 
 @Service
-public class AuthUserService implements UserDetailsService {
+public class AuthUserService implements UserDetailsService, UserDetailsPasswordService {
     private static final String INVALID_CREDENTIALS = "invalid credentials";
     private final UserGateway userGateway;
+    private final PasswordRehashService passwordRehashService;
 
-    public AuthUserService(final UserGateway userGateway) {
+    public AuthUserService(final UserGateway userGateway, final PasswordRehashService passwordRehashService) {
         this.userGateway = userGateway;
+        this.passwordRehashService = passwordRehashService;
     }
 
     public UserDetails loadUserByUsername(final String emailAddress) throws UsernameNotFoundException {
@@ -34,7 +40,7 @@ public class AuthUserService implements UserDetailsService {
         }
 
         try {
-            user = userGateway.findByEmail(email);
+            user = DataSourceRoute.replica(() -> userGateway.findByEmail(email));
         } catch (Exception ex) {
             throw GatewayException.with(GatewayException.USER_GATEWAY_ERROR, ex);
         }
@@ -44,4 +50,11 @@ public class AuthUserService implements UserDetailsService {
 
         return UserCredentials.with(user.get());
     }
+
+    @Override
+    public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+        final var credentials = (UserCredentials) user;
+        passwordRehashService.rehash(Identifier.with(credentials.getId()), credentials.getPassword(), newPassword);
+        return user;
+    }
 }
@@ -0,0 +1,52 @@
+package org.auth.api.infrastructure.services.security.credentials;
+
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class CachingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    private CachingDaoAuthenticationProvider(
+            final UserDetailsService userDetailsService,
+            final PasswordEncoder passwordEncoder,
+            final VerifiedCredentialCache verifiedCredentialCache
+    ) {
+        super(passwordEncoder);
+        this.verifiedCredentialCache = verifiedCredentialCache;
+        setUserDetailsService(userDetailsService);
+        if (userDetailsService instanceof UserDetailsPasswordService userDetailsPasswordService)
+            setUserDetailsPasswordService(userDetailsPasswordService);
+    }
+
+    public static CachingDaoAuthenticationProvider with(
+            final UserDetailsService userDetailsService,
+            final PasswordEncoder passwordEncoder,
+            final VerifiedCredentialCache verifiedCredentialCache
+    ) {
+        return new CachingDaoAuthenticationProvider(userDetailsService, passwordEncoder, verifiedCredentialCache);
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(
+            final UserDetails userDetails,
+            final UsernamePasswordAuthenticationToken authentication
+    ) throws AuthenticationException {
+        if (!(userDetails instanceof UserCredentials credentials) || authentication.getCredentials() == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+
+        final var rawPassword = authentication.getCredentials().toString();
+        if (verifiedCredentialCache.isVerified(credentials, rawPassword))
+            return;
+
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        verifiedCredentialCache.put(credentials, rawPassword);
+    }
+}
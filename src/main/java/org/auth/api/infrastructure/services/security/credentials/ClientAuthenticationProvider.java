@@ -0,0 +1,59 @@
+package org.auth.api.infrastructure.services.security.credentials;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class ClientAuthenticationProvider implements AuthenticationProvider {
+    private final String clientId;
+    private final byte[] clientSecretHash;
+    private final String role;
+
+    private ClientAuthenticationProvider(final String clientId, final String clientSecretHash, final String role) {
+        this.clientId = clientId;
+        this.clientSecretHash = clientSecretHash.isBlank() ? null : HexFormat.of().parseHex(clientSecretHash.strip());
+        this.role = role;
+    }
+
+    public static ClientAuthenticationProvider with(final String clientId, final String clientSecretHash, final String role) {
+        return new ClientAuthenticationProvider(clientId, clientSecretHash, role);
+    }
+
+    @Override
+    public Authentication authenticate(final Authentication authentication) {
+        final var name = authentication.getName();
+        final var credentials = authentication.getCredentials();
+
+        if (clientId.isBlank() || clientSecretHash == null || credentials == null ||
+                !MessageDigest.isEqual(hash(clientId), hash(name)) ||
+                !MessageDigest.isEqual(clientSecretHash, hash(credentials.toString())))
+            throw new BadCredentialsException("invalid client credentials");
+
+        return UsernamePasswordAuthenticationToken.authenticated(
+                name,
+                null,
+                AuthorityUtils.createAuthorityList("ROLE_" + role)
+        );
+    }
+
+    @Override
+    public boolean supports(final Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    private static byte[] hash(final String value) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.auth.api.infrastructure.services.security.credentials;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+
+import java.util.Optional;
+
+public class CredentialEvictingUserGateway implements UserGateway {
+    private final UserGateway delegate;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    private CredentialEvictingUserGateway(final UserGateway delegate, final VerifiedCredentialCache verifiedCredentialCache) {
+        this.delegate = delegate;
+        this.verifiedCredentialCache = verifiedCredentialCache;
+    }
+
+    public static CredentialEvictingUserGateway with(
+            final UserGateway delegate,
+            final VerifiedCredentialCache verifiedCredentialCache
+    ) {
+        return new CredentialEvictingUserGateway(delegate, verifiedCredentialCache);
+    }
+
+    @Override
+    public User save(final User user) {
+        final var savedUser = delegate.save(user);
+        verifiedCredentialCache.evict(user.getId().getValue());
+        return savedUser;
+    }
+
+    @Override
+    public Optional<User> findById(final Identifier id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByEmail(final Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id) {
+        final var deleted = delegate.deleteById(id);
+        verifiedCredentialCache.evict(id.getValue());
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id, final long version) {
+        final var deleted = delegate.deleteById(id, version);
+        verifiedCredentialCache.evict(id.getValue());
+        return deleted;
+    }
+}
@@ -0,0 +1,143 @@
+package org.auth.api.infrastructure.services.security.credentials;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public class VerifiedCredentialCache {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+    private static final byte SEPARATOR = 0;
+
+    private final boolean enabled;
+    private final long ttl;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+    private final Map<String, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private record Entry(byte[] digest, long expiresAt) { }
+
+    private VerifiedCredentialCache(
+            final boolean enabled,
+            final long ttl,
+            final int maxSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.key = new SecretKeySpec(newKey(), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+        this.entries = new ConcurrentHashMap<>();
+
+        this.hitCounter = Counter.builder("password.verified.cache")
+                .tag("result", "hit")
+                .register(registry);
+        this.missCounter = Counter.builder("password.verified.cache")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("password.verified.cache.size", entries, Map::size)
+                .register(registry);
+    }
+
+    public static VerifiedCredentialCache with(
+            final boolean enabled,
+            final long ttl,
+            final int maxSize,
+            final MeterRegistry registry
+    ) {
+        return new VerifiedCredentialCache(enabled, ttl, maxSize, System::currentTimeMillis, registry);
+    }
+
+    public static VerifiedCredentialCache with(
+            final boolean enabled,
+            final long ttl,
+            final int maxSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        return new VerifiedCredentialCache(enabled, ttl, maxSize, clock, registry);
+    }
+
+    public boolean isVerified(final UserCredentials credentials, final String rawPassword) {
+        if (!enabled)
+            return false;
+
+        final var entry = entries.get(credentials.getId());
+        if (entry == null || entry.expiresAt() <= clock.getAsLong()) {
+            missCounter.increment();
+            return false;
+        }
+
+        final var verified = MessageDigest.isEqual(entry.digest(), digest(credentials, rawPassword));
+        if (verified)
+            hitCounter.increment();
+        else
+            missCounter.increment();
+        return verified;
+    }
+
+    public void put(final UserCredentials credentials, final String rawPassword) {
+        if (!enabled)
+            return;
+
+        final var now = clock.getAsLong();
+        if (entries.size() >= maxSize && !entries.containsKey(credentials.getId())) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= maxSize)
+                return;
+        }
+
+        entries.put(credentials.getId(), new Entry(digest(credentials, rawPassword), now + ttl));
+    }
+
+    public void evict(final String userId) {
+        entries.remove(userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private byte[] digest(final UserCredentials credentials, final String rawPassword) {
+        final var hmac = mac.get();
+        hmac.update(credentials.getUsername().getBytes(StandardCharsets.UTF_8));
+        hmac.update(SEPARATOR);
+        hmac.update(credentials.getPassword().getBytes(StandardCharsets.UTF_8));
+        hmac.update(SEPARATOR);
+        return hmac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            final var hmac = Mac.getInstance(HMAC_ALGORITHM);
+            hmac.init(key);
+            return hmac;
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static byte[] newKey() {
+        final var bytes = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(bytes);
+        return bytes;
+    }
+}
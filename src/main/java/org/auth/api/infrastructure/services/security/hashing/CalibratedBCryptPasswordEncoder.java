@@ -0,0 +1,75 @@
+package org.auth.api.infrastructure.services.security.hashing;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+public class CalibratedBCryptPasswordEncoder implements PasswordEncoder {
+    private static final Pattern strengthPattern = Pattern.compile("^\\$2[ayb]\\$(\\d{2})\\$.{53}$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int WARM_UP_ROUNDS = 3;
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+
+    private CalibratedBCryptPasswordEncoder(final int strength) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+    }
+
+    public static CalibratedBCryptPasswordEncoder withStrength(final int strength) {
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    public static CalibratedBCryptPasswordEncoder calibrate(
+            final long budgetMillis,
+            final int minStrength,
+            final int maxStrength
+    ) {
+        final var budget = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+
+        final var warmUpEncoder = new BCryptPasswordEncoder(minStrength);
+        for (int i = 0; i < WARM_UP_ROUNDS; i++)
+            warmUpEncoder.encode(CALIBRATION_PASSWORD);
+
+        var strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            if (measure(new BCryptPasswordEncoder(candidate)) > budget)
+                break;
+            strength = candidate;
+        }
+
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    private static long measure(final BCryptPasswordEncoder encoder) {
+        final var start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return System.nanoTime() - start;
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return encoder.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        if (encodedPassword == null)
+            return false;
+
+        final var matcher = strengthPattern.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
@@ -0,0 +1,86 @@
+package org.auth.api.infrastructure.services.security.hashing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.Password;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class PasswordRehashService {
+    private static final Logger logger = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private final UserGateway userGateway;
+    private final ThreadPoolExecutor executor;
+    private final Counter rehashedCounter;
+    private final Counter skippedCounter;
+
+    public PasswordRehashService(
+            final UserGateway userGateway,
+            @Value("${password.rehash.queue-capacity}") final int queueCapacity,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.userGateway = userGateway;
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-rehash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        final var registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.rehashedCounter = Counter.builder("password.rehash")
+                .tag("outcome", "rehashed")
+                .register(registry);
+        this.skippedCounter = Counter.builder("password.rehash")
+                .tag("outcome", "skipped")
+                .register(registry);
+    }
+
+    public void rehash(final Identifier id, final String currentPassword, final String newPassword) {
+        try {
+            executor.execute(() -> updatePassword(id, currentPassword, newPassword));
+        } catch (final RejectedExecutionException ex) {
+            skippedCounter.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void updatePassword(final Identifier id, final String currentPassword, final String newPassword) {
+        try {
+            final var user = userGateway.findById(id)
+                    .filter(found -> found.getPassword().getValue().equals(currentPassword));
+
+            if (user.isEmpty()) {
+                skippedCounter.increment();
+                return;
+            }
+
+            userGateway.save(user.get().rehashPassword(Password.withEncodedValue(newPassword)));
+            rehashedCounter.increment();
+        } catch (final Exception ex) {
+            skippedCounter.increment();
+            logger.warn("failed to rehash password of user {}", id.getValue(), ex);
+        }
+    }
+}
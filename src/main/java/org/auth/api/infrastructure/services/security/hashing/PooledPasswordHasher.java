@@ -0,0 +1,140 @@
+package org.auth.api.infrastructure.services.security.hashing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.auth.api.domain.exceptions.BusyException;
+import org.auth.api.domain.password.PasswordHasher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+public class PooledPasswordHasher implements PasswordHasher, PasswordEncoder {
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    private PooledPasswordHasher(
+            final PasswordEncoder encoder,
+            final int poolSize,
+            final int queueCapacity,
+            final long timeout,
+            final MeterRegistry registry
+    ) {
+        this.encoder = encoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.hashTimer = Timer.builder("password.hasher.duration")
+                .tag("operation", "hash")
+                .register(registry);
+        this.verifyTimer = Timer.builder("password.hasher.duration")
+                .tag("operation", "verify")
+                .register(registry);
+        this.waitTimer = Timer.builder("password.hasher.wait")
+                .register(registry);
+        this.rejectedCounter = Counter.builder("password.hasher.rejected")
+                .register(registry);
+
+        Gauge.builder("password.hasher.queue.size", executor, pool -> pool.getQueue().size())
+                .register(registry);
+        Gauge.builder("password.hasher.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+    }
+
+    public static PooledPasswordHasher with(
+            final PasswordEncoder encoder,
+            final int poolSize,
+            final int queueCapacity,
+            final long timeout,
+            final MeterRegistry registry
+    ) {
+        return new PooledPasswordHasher(encoder, poolSize, queueCapacity, timeout, registry);
+    }
+
+    @Override
+    public String hash(final String rawPassword) {
+        return submit(hashTimer, () -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean verify(final String rawPassword, final String encodedPassword) {
+        return submit(verifyTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(final String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return hash(rawPassword.toString());
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return verify(rawPassword.toString(), encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return needsRehash(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(final Timer timer, final Supplier<T> task) {
+        final var enqueuedAt = System.nanoTime();
+
+        final Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            });
+        } catch (final RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            throw BusyException.with(BusyException.PASSWORD_HASHER_BUSY, ex);
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException ex) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw BusyException.with(BusyException.PASSWORD_HASHER_BUSY, ex);
+        } catch (final InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw BusyException.with(BusyException.PASSWORD_HASHER_BUSY, ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.auth.api.infrastructure.services.security.introspection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocations;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class TokenIntrospector {
+    public record Introspection(boolean active, String sub, Long exp) {
+        public static final Introspection INACTIVE = new Introspection(false, null, null);
+    }
+
+    private record Entry(String sub, Instant issuedAt, long expiresAt) { }
+
+    private final JwtDecoder jwtDecoder;
+    private final TokenRevocations tokenRevocations;
+    private final int cacheSize;
+    private final LongSupplier clock;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Entry> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private TokenIntrospector(
+            final JwtDecoder jwtDecoder,
+            final TokenRevocations tokenRevocations,
+            final int threads,
+            final int cacheSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        this.jwtDecoder = jwtDecoder;
+        this.tokenRevocations = tokenRevocations;
+        this.cacheSize = cacheSize;
+        this.clock = clock;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                new CustomizableThreadFactory("token-introspection-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.cache = new ConcurrentHashMap<>();
+
+        this.hitCounter = Counter.builder("token.introspection.cache")
+                .tag("result", "hit")
+                .register(registry);
+        this.missCounter = Counter.builder("token.introspection.cache")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("token.introspection.cache.size", cache, Map::size)
+                .register(registry);
+    }
+
+    public static TokenIntrospector with(
+            final JwtDecoder jwtDecoder,
+            final TokenRevocations tokenRevocations,
+            final int threads,
+            final int cacheSize,
+            final MeterRegistry registry
+    ) {
+        return with(jwtDecoder, tokenRevocations, threads, cacheSize, () -> System.currentTimeMillis() / 1000, registry);
+    }
+
+    public static TokenIntrospector with(
+            final JwtDecoder jwtDecoder,
+            final TokenRevocations tokenRevocations,
+            final int threads,
+            final int cacheSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        return new TokenIntrospector(jwtDecoder, tokenRevocations, threads, cacheSize, clock, registry);
+    }
+
+    public List<Introspection> introspect(final List<String> tokens) {
+        final var results = new Introspection[tokens.size()];
+
+        if (tokens.size() == 1) {
+            results[0] = introspect(tokens.get(0));
+            return List.of(results);
+        }
+
+        final var futures = new CompletableFuture<?>[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            final var index = i;
+            futures[i] = CompletableFuture.runAsync(() -> results[index] = introspect(tokens.get(index)), executor);
+        }
+        CompletableFuture.allOf(futures).join();
+
+        return Arrays.asList(results);
+    }
+
+    public Introspection introspect(final String token) {
+        if (token == null || token.isBlank())
+            return Introspection.INACTIVE;
+
+        final var now = clock.getAsLong();
+        final var cached = cache.get(token);
+        if (cached != null) {
+            hitCounter.increment();
+            if (cached.expiresAt() > now && !tokenRevocations.isRevoked(cached.sub(), cached.issuedAt()))
+                return new Introspection(true, cached.sub(), cached.expiresAt());
+
+            cache.remove(token, cached);
+            return Introspection.INACTIVE;
+        }
+
+        missCounter.increment();
+        try {
+            final var jwt = jwtDecoder.decode(token);
+            if (jwt.getExpiresAt() == null)
+                return Introspection.INACTIVE;
+
+            final var expiresAt = jwt.getExpiresAt().getEpochSecond();
+            put(token, new Entry(jwt.getSubject(), jwt.getIssuedAt(), expiresAt), now);
+            return new Introspection(true, jwt.getSubject(), expiresAt);
+        } catch (final JwtException ex) {
+            return Introspection.INACTIVE;
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void put(final String token, final Entry entry, final long now) {
+        if (entry.expiresAt() <= now)
+            return;
+
+        if (cache.size() >= cacheSize) {
+            cache.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (cache.size() >= cacheSize)
+                return;
+        }
+
+        cache.put(token, entry);
+    }
+}
@@ -0,0 +1,37 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.impl.BaseJWSProvider;
+import com.nimbusds.jose.util.Base64URL;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Set;
+
+public class EdDsaSigner extends BaseJWSProvider implements JWSSigner {
+    private final PrivateKey privateKey;
+
+    public EdDsaSigner(final PrivateKey privateKey) {
+        super(Set.of(JWSAlgorithm.EdDSA));
+        this.privateKey = privateKey;
+    }
+
+    @Override
+    public Base64URL sign(final JWSHeader header, final byte[] signingInput) throws JOSEException {
+        if (!JWSAlgorithm.EdDSA.equals(header.getAlgorithm()))
+            throw new JOSEException("unsupported jws algorithm: " + header.getAlgorithm());
+
+        try {
+            final var signature = Signature.getInstance(JwtAlgorithm.EDDSA.getSignatureAlgorithm());
+            signature.initSign(privateKey);
+            signature.update(signingInput);
+            return Base64URL.encode(signature.sign());
+        } catch (final GeneralSecurityException ex) {
+            throw new JOSEException(ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.impl.BaseJWSProvider;
+import com.nimbusds.jose.util.Base64URL;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.Set;
+
+public class EdDsaVerifier extends BaseJWSProvider implements JWSVerifier {
+    private final PublicKey publicKey;
+
+    public EdDsaVerifier(final PublicKey publicKey) {
+        super(Set.of(JWSAlgorithm.EdDSA));
+        this.publicKey = publicKey;
+    }
+
+    @Override
+    public boolean verify(
+            final JWSHeader header,
+            final byte[] signedContent,
+            final Base64URL signature
+    ) throws JOSEException {
+        if (!JWSAlgorithm.EdDSA.equals(header.getAlgorithm()))
+            return false;
+
+        try {
+            final var verifier = Signature.getInstance(JwtAlgorithm.EDDSA.getSignatureAlgorithm());
+            verifier.initVerify(publicKey);
+            verifier.update(signedContent);
+            return verifier.verify(signature.decode());
+        } catch (final SignatureException ex) {
+            return false;
+        } catch (final GeneralSecurityException ex) {
+            throw new JOSEException(ex.getMessage(), ex);
+        }
+    }
+}
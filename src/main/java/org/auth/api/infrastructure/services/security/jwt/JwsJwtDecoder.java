@@ -0,0 +1,92 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
+
+import java.text.ParseException;
+import java.util.Collections;
+
+public class JwsJwtDecoder implements JwtDecoder {
+    private static final String DECODING_ERROR = "An error occurred while attempting to decode the Jwt: %s";
+    private static final String INVALID_SIGNATURE = "Invalid signature";
+    private static final String INVALID_ALGORITHM = "Unexpected algorithm";
+    private static final String UNKNOWN_KEY = "Unknown key id";
+
+    private final JwtKeyRing keyRing;
+    private final MappedJwtClaimSetConverter claimSetConverter;
+    private final OAuth2TokenValidator<Jwt> validator;
+
+    private JwsJwtDecoder(final JwtKeyRing keyRing, final OAuth2TokenValidator<Jwt> validator) {
+        this.keyRing = keyRing;
+        this.claimSetConverter = MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
+        this.validator = validator;
+    }
+
+    public static JwsJwtDecoder with(final JwtKeyRing keyRing) {
+        return new JwsJwtDecoder(keyRing, JwtValidators.createDefault());
+    }
+
+    public static JwsJwtDecoder with(final JwtKeyRing keyRing, final OAuth2TokenValidator<Jwt> validator) {
+        return new JwsJwtDecoder(keyRing, new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), validator));
+    }
+
+    @Override
+    public Jwt decode(final String token) throws JwtException {
+        final var signedJwt = parse(token);
+        verify(signedJwt);
+
+        final var jwt = toJwt(token, signedJwt);
+        final var result = validator.validate(jwt);
+        if (result.hasErrors()) {
+            final var description = result.getErrors().iterator().next().getDescription();
+            throw new JwtValidationException(DECODING_ERROR.formatted(description), result.getErrors());
+        }
+
+        return jwt;
+    }
+
+    private static SignedJWT parse(final String token) {
+        try {
+            return SignedJWT.parse(token);
+        } catch (final ParseException ex) {
+            throw new BadJwtException(DECODING_ERROR.formatted(ex.getMessage()), ex);
+        }
+    }
+
+    private void verify(final SignedJWT signedJwt) {
+        final var header = signedJwt.getHeader();
+        final var key = keyRing.getVerificationKey(header.getKeyID())
+                .orElseThrow(() -> new BadJwtException(DECODING_ERROR.formatted(UNKNOWN_KEY)));
+
+        if (!key.algorithm().getJwsAlgorithm().equals(header.getAlgorithm()))
+            throw new BadJwtException(DECODING_ERROR.formatted(INVALID_ALGORITHM));
+
+        try {
+            if (!signedJwt.verify(key.verifier()))
+                throw new BadJwtException(DECODING_ERROR.formatted(INVALID_SIGNATURE));
+        } catch (final JOSEException ex) {
+            throw new BadJwtException(DECODING_ERROR.formatted(ex.getMessage()), ex);
+        }
+    }
+
+    private Jwt toJwt(final String token, final SignedJWT signedJwt) {
+        try {
+            final var claims = claimSetConverter.convert(signedJwt.getJWTClaimsSet().getClaims());
+            return Jwt.withTokenValue(token)
+                    .headers(headers -> headers.putAll(signedJwt.getHeader().toJSONObject()))
+                    .claims(jwtClaims -> jwtClaims.putAll(claims))
+                    .build();
+        } catch (final ParseException | IllegalArgumentException ex) {
+            throw new BadJwtException(DECODING_ERROR.formatted(ex.getMessage()), ex);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+
+public class JwsJwtEncoder implements JwtEncoder {
+    private static final String ENCODING_ERROR = "An error occurred while attempting to encode the Jwt: %s";
+
+    private final JwtKeyRing keyRing;
+
+    private JwsJwtEncoder(final JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    public static JwsJwtEncoder with(final JwtKeyRing keyRing) {
+        return new JwsJwtEncoder(keyRing);
+    }
+
+    @Override
+    public Jwt encode(final JwtEncoderParameters parameters) throws JwtEncodingException {
+        final var claims = parameters.getClaims();
+        final var signingKey = keyRing.getSigningKey();
+        final var jwt = new SignedJWT(signingKey.header(), toClaimsSet(claims));
+
+        try {
+            jwt.sign(signingKey.signer());
+        } catch (final JOSEException ex) {
+            throw new JwtEncodingException(ENCODING_ERROR.formatted(ex.getMessage()), ex);
+        }
+
+        return new Jwt(
+                jwt.serialize(),
+                claims.getIssuedAt(),
+                claims.getExpiresAt(),
+                signingKey.header().toJSONObject(),
+                claims.getClaims()
+        );
+    }
+
+    private static JWTClaimsSet toClaimsSet(final JwtClaimsSet claims) {
+        final var builder = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) -> {
+            if (value instanceof Instant instant)
+                builder.claim(name, Date.from(instant));
+            else if (value instanceof URL url)
+                builder.claim(name, url.toExternalForm());
+            else
+                builder.claim(name, value);
+        });
+        return builder.build();
+    }
+}
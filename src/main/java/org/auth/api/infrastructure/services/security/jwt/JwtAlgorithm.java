@@ -0,0 +1,140 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+
+public enum JwtAlgorithm {
+    RS256(JWSAlgorithm.RS256, "RSA", "SHA256withRSA"),
+    ES256(JWSAlgorithm.ES256, "EC", "SHA256withECDSAinP1363Format"),
+    EDDSA(JWSAlgorithm.EdDSA, "Ed25519", "Ed25519");
+
+    private static final int RSA_KEY_SIZE = 2048;
+    private static final String EC_CURVE = "secp256r1";
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private final JWSAlgorithm jwsAlgorithm;
+    private final String keyAlgorithm;
+    private final String signatureAlgorithm;
+
+    JwtAlgorithm(final JWSAlgorithm jwsAlgorithm, final String keyAlgorithm, final String signatureAlgorithm) {
+        this.jwsAlgorithm = jwsAlgorithm;
+        this.keyAlgorithm = keyAlgorithm;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    public static JwtAlgorithm of(final String name) {
+        return Arrays.stream(values())
+                .filter(algorithm -> algorithm.jwsAlgorithm.getName().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unsupported jwt algorithm: " + name));
+    }
+
+    public JWSAlgorithm getJwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public String getSignatureAlgorithm() {
+        return signatureAlgorithm;
+    }
+
+    public JWSSigner signer(final PrivateKey privateKey) {
+        try {
+            return switch (this) {
+                case RS256 -> new RSASSASigner(privateKey);
+                case ES256 -> new ECDSASigner((ECPrivateKey) privateKey);
+                case EDDSA -> new EdDsaSigner(privateKey);
+            };
+        } catch (final JOSEException ex) {
+            throw new IllegalArgumentException("invalid %s private key".formatted(jwsAlgorithm), ex);
+        }
+    }
+
+    public JWSVerifier verifier(final PublicKey publicKey) {
+        try {
+            return switch (this) {
+                case RS256 -> new RSASSAVerifier((RSAPublicKey) publicKey);
+                case ES256 -> new ECDSAVerifier((ECPublicKey) publicKey);
+                case EDDSA -> new EdDsaVerifier(publicKey);
+            };
+        } catch (final JOSEException ex) {
+            throw new IllegalArgumentException("invalid %s public key".formatted(jwsAlgorithm), ex);
+        }
+    }
+
+    public void checkKey(final Key key) {
+        if (this != ES256 || key == null)
+            return;
+
+        final var curve = Curve.forECParameterSpec(((java.security.interfaces.ECKey) key).getParams());
+        if (!Curve.P_256.equals(curve))
+            throw new IllegalArgumentException("%s keys must be on curve %s, not %s".formatted(jwsAlgorithm, Curve.P_256, curve));
+    }
+
+    public JWK toJwk(final String kid, final PublicKey publicKey) {
+        return switch (this) {
+            case RS256 -> new RSAKey.Builder((RSAPublicKey) publicKey)
+                    .keyID(kid)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(jwsAlgorithm)
+                    .build();
+            case ES256 -> new ECKey.Builder(Curve.P_256, (ECPublicKey) publicKey)
+                    .keyID(kid)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(jwsAlgorithm)
+                    .build();
+            case EDDSA -> new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(rawEd25519Key(publicKey)))
+                    .keyID(kid)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(jwsAlgorithm)
+                    .build();
+        };
+    }
+
+    public KeyPair newKeyPair() {
+        try {
+            final var generator = KeyPairGenerator.getInstance(keyAlgorithm);
+            switch (this) {
+                case RS256 -> generator.initialize(RSA_KEY_SIZE);
+                case ES256 -> generator.initialize(new ECGenParameterSpec(EC_CURVE));
+                case EDDSA -> { }
+            }
+            return generator.generateKeyPair();
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static byte[] rawEd25519Key(final PublicKey publicKey) {
+        final var encoded = publicKey.getEncoded();
+        return Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+    }
+}
@@ -0,0 +1,232 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.util.Base64URL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class JwtKeyRing {
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+    private static final String PRIVATE_KEY_EXTENSION = ".key";
+    private static final String PUBLIC_KEY_EXTENSION = ".pub";
+
+    public record SigningKey(String kid, JwtAlgorithm algorithm, JWSHeader header, JWSSigner signer, PrivateKey privateKey) { }
+
+    public record VerificationKey(String kid, JwtAlgorithm algorithm, JWSVerifier verifier) { }
+
+    private record KeyEntry(String kid, JwtAlgorithm algorithm, PublicKey publicKey, PrivateKey privateKey) {
+        private KeyEntry {
+            algorithm.checkKey(publicKey);
+            algorithm.checkKey(privateKey);
+        }
+    }
+
+    private record Keys(
+            SigningKey signingKey,
+            Map<String, VerificationKey> verificationKeys,
+            String jwks,
+            String state
+    ) { }
+
+    private final KeyEntry defaultKey;
+    private final Path directory;
+    private final ScheduledExecutorService scheduler;
+    private volatile Keys keys;
+
+    private JwtKeyRing(final KeyEntry defaultKey, final Path directory, final long reloadInterval) {
+        this.defaultKey = defaultKey;
+        this.directory = directory;
+        this.keys = load(directoryState());
+
+        if (directory != null && reloadInterval > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("jwt-keys-"));
+            this.scheduler.scheduleWithFixedDelay(this::reloadQuietly, reloadInterval, reloadInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public static JwtKeyRing with(final JwtAlgorithm algorithm, final KeyPair keyPair) {
+        return new JwtKeyRing(newDefaultKey(algorithm, keyPair), null, 0);
+    }
+
+    public static JwtKeyRing with(
+            final JwtAlgorithm algorithm,
+            final KeyPair keyPair,
+            final Path directory,
+            final long reloadInterval
+    ) {
+        return new JwtKeyRing(newDefaultKey(algorithm, keyPair), directory, reloadInterval);
+    }
+
+    public SigningKey getSigningKey() {
+        return keys.signingKey();
+    }
+
+    public Optional<VerificationKey> getVerificationKey(final String kid) {
+        return Optional.ofNullable(keys.verificationKeys().get(kid != null ? kid : defaultKey.kid()));
+    }
+
+    public String getJwks() {
+        return keys.jwks();
+    }
+
+    public boolean reload() {
+        final var state = directoryState();
+        if (state.equals(keys.state()))
+            return false;
+
+        keys = load(state);
+        logger.info("reloaded jwt keys {}, signing with {}", keys.verificationKeys().keySet(), keys.signingKey().kid());
+        return true;
+    }
+
+    public void shutdown() {
+        if (scheduler != null)
+            scheduler.shutdown();
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (final RuntimeException ex) {
+            logger.warn("failed to reload jwt keys from {}, keeping the current keys", directory, ex);
+        }
+    }
+
+    private Keys load(final String state) {
+        final var entries = new TreeMap<String, KeyEntry>();
+        entries.put(defaultKey.kid(), defaultKey);
+        readDirectory().forEach(entry -> entries.put(entry.kid(), entry));
+
+        final var signingEntry = entries.values().stream()
+                .filter(entry -> entry.privateKey() != null && entry != defaultKey)
+                .reduce((first, second) -> second)
+                .orElse(defaultKey);
+
+        final var signingKey = new SigningKey(
+                signingEntry.kid(),
+                signingEntry.algorithm(),
+                new JWSHeader.Builder(signingEntry.algorithm().getJwsAlgorithm())
+                        .type(JOSEObjectType.JWT)
+                        .keyID(signingEntry.kid())
+                        .build(),
+                signingEntry.algorithm().signer(signingEntry.privateKey()),
+                signingEntry.privateKey()
+        );
+
+        final var verificationKeys = entries.values().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        KeyEntry::kid,
+                        entry -> new VerificationKey(
+                                entry.kid(),
+                                entry.algorithm(),
+                                entry.algorithm().verifier(entry.publicKey())
+                        )
+                ));
+
+        final var jwks = new JWKSet(entries.values().stream()
+                .map(entry -> entry.algorithm().toJwk(entry.kid(), entry.publicKey()))
+                .toList()
+        ).toString();
+
+        return new Keys(signingKey, verificationKeys, jwks, state);
+    }
+
+    private List<KeyEntry> readDirectory() {
+        if (directory == null)
+            return List.of();
+
+        try (final var files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().endsWith(PUBLIC_KEY_EXTENSION))
+                    .map(this::readKeyEntry)
+                    .toList();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private KeyEntry readKeyEntry(final Path publicKeyPath) {
+        final var fileName = publicKeyPath.getFileName().toString();
+        final var kid = fileName.substring(0, fileName.length() - PUBLIC_KEY_EXTENSION.length());
+        final var privateKeyPath = directory.resolve(kid + PRIVATE_KEY_EXTENSION);
+
+        for (final var algorithm : JwtAlgorithm.values()) {
+            final PublicKey publicKey;
+            try {
+                publicKey = PemKeys.readPublicKey(new FileSystemResource(publicKeyPath), algorithm.getKeyAlgorithm());
+            } catch (final IllegalArgumentException ex) {
+                continue;
+            }
+
+            final var privateKey = Files.exists(privateKeyPath)
+                    ? PemKeys.readPrivateKey(new FileSystemResource(privateKeyPath), algorithm.getKeyAlgorithm())
+                    : null;
+            return new KeyEntry(kid, algorithm, publicKey, privateKey);
+        }
+
+        throw new IllegalArgumentException("unsupported jwt public key: " + publicKeyPath);
+    }
+
+    private String directoryState() {
+        if (directory == null)
+            return "";
+
+        try (final var files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        final var name = path.getFileName().toString();
+                        return name.endsWith(PUBLIC_KEY_EXTENSION) || name.endsWith(PRIVATE_KEY_EXTENSION);
+                    })
+                    .sorted()
+                    .map(path -> {
+                        try {
+                            return path.getFileName() + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+                        } catch (final IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    })
+                    .collect(Collectors.joining(","));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static KeyEntry newDefaultKey(final JwtAlgorithm algorithm, final KeyPair keyPair) {
+        return new KeyEntry(thumbprint(keyPair.getPublic()), algorithm, keyPair.getPublic(), keyPair.getPrivate());
+    }
+
+    private static String thumbprint(final PublicKey publicKey) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+            return Base64URL.encode(digest).toString();
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+public final class PemKeys {
+    private PemKeys() { }
+
+    public static PrivateKey readPrivateKey(final Resource resource, final String keyAlgorithm) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePrivate(new PKCS8EncodedKeySpec(readPem(resource)));
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalArgumentException("invalid %s private key: %s".formatted(keyAlgorithm, resource), ex);
+        }
+    }
+
+    public static PublicKey readPublicKey(final Resource resource, final String keyAlgorithm) {
+        try {
+            return KeyFactory.getInstance(keyAlgorithm)
+                    .generatePublic(new X509EncodedKeySpec(readPem(resource)));
+        } catch (final GeneralSecurityException ex) {
+            throw new IllegalArgumentException("invalid %s public key: %s".formatted(keyAlgorithm, resource), ex);
+        }
+    }
+
+    private static byte[] readPem(final Resource resource) {
+        try (final var input = resource.getInputStream()) {
+            final var body = new String(input.readAllBytes(), StandardCharsets.US_ASCII)
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(body);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TokenMinter {
+    private static final String ENCODING_ERROR = "An error occurred while attempting to encode the Jwt: %s";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final int MAX_CACHED_SCOPES = 64;
+
+    private record MintingKey(JwtKeyRing.SigningKey source, byte[] header, ThreadLocal<Signature> signatures) { }
+
+    private final JwtKeyRing keyRing;
+    private final String issuer;
+    private final long expiry;
+    private final Map<String, String> claimsPrefixes;
+    private volatile MintingKey mintingKey;
+
+    private TokenMinter(final JwtKeyRing keyRing, final String issuer, final long expiry) {
+        this.keyRing = keyRing;
+        this.issuer = issuer;
+        this.expiry = expiry;
+        this.claimsPrefixes = new ConcurrentHashMap<>();
+    }
+
+    public static TokenMinter with(final JwtKeyRing keyRing, final String issuer, final long expiry) {
+        return new TokenMinter(keyRing, issuer, expiry);
+    }
+
+    public String mint(final String subject, final String scope) {
+        return mint(subject, scope, System.currentTimeMillis() / 1000);
+    }
+
+    public String mint(final String subject, final String scope, final long issuedAt) {
+        final var key = mintingKey();
+        final var header = key.header();
+        final var payload = BASE64_URL.encode(claims(subject, scope, issuedAt).getBytes(StandardCharsets.UTF_8));
+
+        final var signingInput = new byte[header.length + 1 + payload.length];
+        System.arraycopy(header, 0, signingInput, 0, header.length);
+        signingInput[header.length] = '.';
+        System.arraycopy(payload, 0, signingInput, header.length + 1, payload.length);
+
+        final var signature = BASE64_URL.encode(sign(key, signingInput));
+
+        final var token = new byte[signingInput.length + 1 + signature.length];
+        System.arraycopy(signingInput, 0, token, 0, signingInput.length);
+        token[signingInput.length] = '.';
+        System.arraycopy(signature, 0, token, signingInput.length + 1, signature.length);
+
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    private String claims(final String subject, final String scope, final long issuedAt) {
+        final var prefix = claimsPrefix(scope);
+        final var claims = new StringBuilder(prefix.length() + subject.length() + 48);
+        claims.append(prefix);
+        appendEscaped(claims, subject);
+        return claims.append("\",\"iat\":").append(issuedAt)
+                .append(",\"exp\":").append(issuedAt + expiry)
+                .append('}')
+                .toString();
+    }
+
+    private String claimsPrefix(final String scope) {
+        final var prefix = claimsPrefixes.get(scope);
+        if (prefix != null)
+            return prefix;
+
+        final var builder = new StringBuilder("{\"iss\":\"");
+        appendEscaped(builder, issuer);
+        builder.append("\",\"scope\":\"");
+        appendEscaped(builder, scope);
+        final var newPrefix = builder.append("\",\"sub\":\"").toString();
+
+        if (claimsPrefixes.size() < MAX_CACHED_SCOPES)
+            claimsPrefixes.putIfAbsent(scope, newPrefix);
+
+        return newPrefix;
+    }
+
+    private MintingKey mintingKey() {
+        final var signingKey = keyRing.getSigningKey();
+        final var current = mintingKey;
+        if (current != null && current.source() == signingKey)
+            return current;
+
+        final var header = signingKey.header().toBase64URL().toString().getBytes(StandardCharsets.US_ASCII);
+        final var signatures = ThreadLocal.withInitial(() -> newSignature(signingKey));
+        final var newKey = new MintingKey(signingKey, header, signatures);
+        mintingKey = newKey;
+        return newKey;
+    }
+
+    private static Signature newSignature(final JwtKeyRing.SigningKey signingKey) {
+        try {
+            final var signature = Signature.getInstance(signingKey.algorithm().getSignatureAlgorithm());
+            signature.initSign(signingKey.privateKey());
+            return signature;
+        } catch (final GeneralSecurityException ex) {
+            throw new JwtEncodingException(ENCODING_ERROR.formatted(ex.getMessage()), ex);
+        }
+    }
+
+    private static byte[] sign(final MintingKey key, final byte[] signingInput) {
+        final var signature = key.signatures().get();
+        try {
+            signature.update(signingInput);
+            return signature.sign();
+        } catch (final GeneralSecurityException ex) {
+            key.signatures().remove();
+            throw new JwtEncodingException(ENCODING_ERROR.formatted(ex.getMessage()), ex);
+        }
+    }
+
+    private static void appendEscaped(final StringBuilder builder, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        builder.append("\\u%04x".formatted((int) c));
+                    else
+                        builder.append(c);
+                }
+            }
+        }
+    }
+}
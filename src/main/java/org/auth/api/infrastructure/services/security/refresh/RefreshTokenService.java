@@ -0,0 +1,131 @@
+package org.auth.api.infrastructure.services.security.refresh;
+
+import org.auth.api.domain.token.RefreshToken;
+import org.auth.api.domain.token.RefreshTokenGateway;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.utils.IDUtils;
+import org.auth.api.domain.utils.TimeUtils;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class RefreshTokenService {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final String INVALID_REFRESH_TOKEN = "invalid refresh token";
+    private static final int TOKEN_LENGTH = 32;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    public record Refreshed(UserCredentials credentials, String refreshToken) { }
+
+    private final RefreshTokenGateway refreshTokenGateway;
+    private final UserGateway userGateway;
+    private final long expiry;
+    private final SecureRandom random;
+    private final ScheduledExecutorService scheduler;
+
+    private RefreshTokenService(
+            final RefreshTokenGateway refreshTokenGateway,
+            final UserGateway userGateway,
+            final long expiry,
+            final long purgeInterval
+    ) {
+        this.refreshTokenGateway = refreshTokenGateway;
+        this.userGateway = userGateway;
+        this.expiry = expiry;
+        this.random = new SecureRandom();
+
+        if (purgeInterval > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("refresh-token-purge-"));
+            this.scheduler.scheduleWithFixedDelay(this::purge, purgeInterval, purgeInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public static RefreshTokenService with(
+            final RefreshTokenGateway refreshTokenGateway,
+            final UserGateway userGateway,
+            final long expiry,
+            final long purgeInterval
+    ) {
+        return new RefreshTokenService(refreshTokenGateway, userGateway, expiry, purgeInterval);
+    }
+
+    public String issue(final Identifier userId) {
+        return issue(IDUtils.newUUID(), userId);
+    }
+
+    public Refreshed refresh(final String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank())
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+
+        final var hash = hash(refreshToken);
+        final var token = refreshTokenGateway.findByHash(hash)
+                .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN));
+
+        final var now = TimeUtils.now();
+        if (token.isExpired(now))
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+
+        if (token.isUsed() || !refreshTokenGateway.markUsed(hash, now)) {
+            refreshTokenGateway.deleteByFamily(token.getFamily());
+            logger.warn("refresh token reused, revoked family {} of user {}", token.getFamily(), token.getUserId().getValue());
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+
+        final var user = userGateway.findById(token.getUserId())
+                .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN));
+
+        if (token.getExpiresAt().minusSeconds(expiry).isBefore(user.getUpdatedAt())) {
+            refreshTokenGateway.deleteByFamily(token.getFamily());
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+
+        return new Refreshed(UserCredentials.with(user), issue(token.getFamily(), token.getUserId()));
+    }
+
+    public void shutdown() {
+        if (scheduler != null)
+            scheduler.shutdownNow();
+    }
+
+    private String issue(final String family, final Identifier userId) {
+        final var bytes = new byte[TOKEN_LENGTH];
+        random.nextBytes(bytes);
+        final var refreshToken = BASE64_URL.encodeToString(bytes);
+
+        final var expiresAt = TimeUtils.now().plusSeconds(expiry);
+        refreshTokenGateway.save(RefreshToken.newToken(hash(refreshToken), family, userId, expiresAt));
+
+        return refreshToken;
+    }
+
+    private void purge() {
+        try {
+            refreshTokenGateway.deleteExpired(TimeUtils.now());
+        } catch (final Exception ex) {
+            logger.warn("failed to purge expired refresh tokens", ex);
+        }
+    }
+
+    private static String hash(final String refreshToken) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return BASE64_URL.encodeToString(digest.digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
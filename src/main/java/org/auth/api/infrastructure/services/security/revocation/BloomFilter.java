@@ -0,0 +1,84 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(final long bitCount, final int hashCount) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) >>> 6));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    public static BloomFilter with(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("expected insertions must be positive");
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("false positive rate must be between 0 and 1");
+
+        final var ln2 = Math.log(2);
+        final var bitCount = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        final var hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(final long high, final long low) {
+        final var hash1 = mix(high);
+        final var hash2 = mix(low) | 1;
+
+        var combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            setBit((combined & Long.MAX_VALUE) % bitCount);
+            combined += hash2;
+        }
+    }
+
+    public boolean mightContain(final long high, final long low) {
+        final var hash1 = mix(high);
+        final var hash2 = mix(low) | 1;
+
+        var combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit((combined & Long.MAX_VALUE) % bitCount))
+                return false;
+            combined += hash2;
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private void setBit(final long index) {
+        final var word = (int) (index >>> 6);
+        final var mask = 1L << index;
+
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0)
+                return;
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(final long index) {
+        return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
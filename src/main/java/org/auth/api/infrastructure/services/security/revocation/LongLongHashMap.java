@@ -0,0 +1,151 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+public class LongLongHashMap {
+    public static final long NO_VALUE = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    @FunctionalInterface
+    public interface EntryPredicate {
+        boolean test(long key, long value);
+    }
+
+    private long[] table;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    private LongLongHashMap(final int capacity) {
+        this.table = new long[capacity << 1];
+    }
+
+    public static LongLongHashMap withExpectedSize(final int expectedSize) {
+        return new LongLongHashMap(capacityFor(expectedSize));
+    }
+
+    public long get(final long key) {
+        if (key == 0)
+            return hasZeroKey ? zeroValue : NO_VALUE;
+
+        final var table = this.table;
+        final var mask = (table.length >> 1) - 1;
+        var slot = slot(key, mask);
+
+        for (int probes = 0; probes <= mask; probes++) {
+            final var current = table[slot << 1];
+            if (current == key)
+                return table[(slot << 1) + 1];
+            if (current == 0)
+                return NO_VALUE;
+            slot = (slot + 1) & mask;
+        }
+
+        return NO_VALUE;
+    }
+
+    public void putMax(final long key, final long value) {
+        if (key == 0) {
+            zeroValue = hasZeroKey ? Math.max(zeroValue, value) : value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return;
+        }
+
+        if (needsResize())
+            resize(capacity() << 1);
+
+        final var mask = (table.length >> 1) - 1;
+        var slot = slot(key, mask);
+
+        while (true) {
+            final var current = table[slot << 1];
+            if (current == key) {
+                table[(slot << 1) + 1] = Math.max(table[(slot << 1) + 1], value);
+                return;
+            }
+            if (current == 0) {
+                table[(slot << 1) + 1] = value;
+                table[slot << 1] = key;
+                size++;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int removeIf(final EntryPredicate predicate) {
+        final var before = size;
+
+        if (hasZeroKey && predicate.test(0, zeroValue)) {
+            hasZeroKey = false;
+            size--;
+        }
+
+        final var old = table;
+        final var rebuilt = new long[old.length];
+        final var mask = (old.length >> 1) - 1;
+
+        for (int i = 0; i < old.length; i += 2) {
+            final var key = old[i];
+            if (key == 0)
+                continue;
+
+            if (predicate.test(key, old[i + 1])) {
+                size--;
+                continue;
+            }
+
+            var slot = slot(key, mask);
+            while (rebuilt[slot << 1] != 0)
+                slot = (slot + 1) & mask;
+            rebuilt[slot << 1] = key;
+            rebuilt[(slot << 1) + 1] = old[i + 1];
+        }
+
+        table = rebuilt;
+        return before - size;
+    }
+
+    public boolean needsResize() {
+        return (size + 1) * 4L > (table.length >> 1) * 3L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return table.length >> 1;
+    }
+
+    private void resize(final int newCapacity) {
+        final var old = table;
+        final var rebuilt = new long[newCapacity << 1];
+        final var mask = newCapacity - 1;
+
+        for (int i = 0; i < old.length; i += 2) {
+            final var key = old[i];
+            if (key == 0)
+                continue;
+
+            var slot = slot(key, mask);
+            while (rebuilt[slot << 1] != 0)
+                slot = (slot + 1) & mask;
+            rebuilt[slot << 1] = key;
+            rebuilt[(slot << 1) + 1] = old[i + 1];
+        }
+
+        table = rebuilt;
+    }
+
+    private static int slot(final long key, final int mask) {
+        final var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final var minimum = Math.max(MIN_CAPACITY, (int) Math.min(1 << 30, (expectedSize * 4L + 2) / 3));
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+}
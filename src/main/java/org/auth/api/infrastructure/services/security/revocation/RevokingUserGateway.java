@@ -0,0 +1,58 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+
+import java.util.Optional;
+
+public class RevokingUserGateway implements UserGateway {
+    private final UserGateway delegate;
+    private final TokenRevocations tokenRevocations;
+
+    private RevokingUserGateway(final UserGateway delegate, final TokenRevocations tokenRevocations) {
+        this.delegate = delegate;
+        this.tokenRevocations = tokenRevocations;
+    }
+
+    public static RevokingUserGateway with(final UserGateway delegate, final TokenRevocations tokenRevocations) {
+        return new RevokingUserGateway(delegate, tokenRevocations);
+    }
+
+    @Override
+    public User save(final User user) {
+        final var savedUser = delegate.save(user);
+        final var id = user.getId().getValue();
+        tokenRevocations.register(id);
+        if (user.getUpdatedAt().isAfter(user.getCreatedAt()))
+            tokenRevocations.revoke(id, user.getUpdatedAt());
+        return savedUser;
+    }
+
+    @Override
+    public Optional<User> findById(final Identifier id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByEmail(final Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id) {
+        final var deleted = delegate.deleteById(id);
+        if (deleted)
+            tokenRevocations.revokeAll(id.getValue());
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id, final long version) {
+        final var deleted = delegate.deleteById(id, version);
+        if (deleted)
+            tokenRevocations.revokeAll(id.getValue());
+        return deleted;
+    }
+}
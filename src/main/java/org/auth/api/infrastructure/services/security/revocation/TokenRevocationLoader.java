@@ -0,0 +1,89 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import jakarta.annotation.PostConstruct;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.user.ScannableUserGateway;
+import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TokenRevocationLoader {
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationLoader.class);
+    private static final int PAGE_SIZE = 10000;
+
+    private final UserRepository userRepository;
+    private final ScannableUserGateway scannableUserGateway;
+    private final TokenRevocations tokenRevocations;
+    private final long expiry;
+
+    public TokenRevocationLoader(
+            final UserRepository userRepository,
+            final ObjectProvider<ScannableUserGateway> scannableUserGateway,
+            final TokenRevocations tokenRevocations,
+            @Value("${jwt.expiry}") final long expiry
+    ) {
+        this.userRepository = userRepository;
+        this.scannableUserGateway = scannableUserGateway.getIfAvailable();
+        this.tokenRevocations = tokenRevocations;
+        this.expiry = expiry;
+    }
+
+    @PostConstruct
+    public void load() {
+        final var window = Instant.now().minusSeconds(expiry);
+        final var users = new AtomicLong();
+        final var revoked = new AtomicLong();
+
+        if (scannableUserGateway == null) {
+            var after = new UUID(0, 0);
+            while (true) {
+                final var page = userRepository.findTimestampsAfter(after, PageRequest.ofSize(PAGE_SIZE));
+                for (final var user : page)
+                    if (register(user.getId().toString(), user.getCreatedAt(), user.getUpdatedAt(), window))
+                        revoked.incrementAndGet();
+
+                users.addAndGet(page.size());
+                if (page.size() < PAGE_SIZE)
+                    break;
+                after = page.get(page.size() - 1).getId();
+            }
+        } else {
+            scannableUserGateway.forEachUser(user -> {
+                if (register(user.getId().getValue(), user.getCreatedAt(), user.getUpdatedAt(), window))
+                    revoked.incrementAndGet();
+                users.incrementAndGet();
+            });
+        }
+
+        tokenRevocations.ready(this::exists);
+        logger.info("loaded {} users and {} token revocations", users.get(), revoked.get());
+    }
+
+    private boolean register(final String id, final Instant createdAt, final Instant updatedAt, final Instant window) {
+        tokenRevocations.register(id);
+        if (updatedAt.isAfter(createdAt) && updatedAt.isAfter(window)) {
+            tokenRevocations.revoke(id, updatedAt);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean exists(final String id) {
+        try {
+            if (scannableUserGateway != null)
+                return scannableUserGateway.findById(Identifier.with(UUID.fromString(id).toString())).isPresent();
+            return userRepository.existsById(UUID.fromString(id));
+        } catch (final IllegalArgumentException ex) {
+            return false;
+        }
+    }
+}
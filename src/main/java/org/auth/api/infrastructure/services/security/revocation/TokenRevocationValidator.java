@@ -0,0 +1,28 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class TokenRevocationValidator implements OAuth2TokenValidator<Jwt> {
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token has been revoked", null);
+
+    private final TokenRevocations tokenRevocations;
+
+    private TokenRevocationValidator(final TokenRevocations tokenRevocations) {
+        this.tokenRevocations = tokenRevocations;
+    }
+
+    public static TokenRevocationValidator with(final TokenRevocations tokenRevocations) {
+        return new TokenRevocationValidator(tokenRevocations);
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(final Jwt jwt) {
+        if (tokenRevocations.isRevoked(jwt.getSubject(), jwt.getIssuedAt()))
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        return OAuth2TokenValidatorResult.success();
+    }
+}
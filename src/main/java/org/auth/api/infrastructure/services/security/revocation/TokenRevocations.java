@@ -0,0 +1,160 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+public class TokenRevocations {
+    private final long expiry;
+    private final LongSupplier clock;
+    private final LongLongHashMap notBefore;
+    private final StampedLock lock;
+    private final BloomFilter liveUsers;
+    private volatile Predicate<String> userExists;
+    private final Counter notBeforeCounter;
+    private final Counter unknownUserCounter;
+
+    private TokenRevocations(
+            final long expiry,
+            final long expectedUsers,
+            final double falsePositiveRate,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        this.expiry = expiry;
+        this.clock = clock;
+        this.notBefore = LongLongHashMap.withExpectedSize(0);
+        this.lock = new StampedLock();
+        this.liveUsers = BloomFilter.with(expectedUsers, falsePositiveRate);
+
+        this.notBeforeCounter = Counter.builder("jwt.revoked")
+                .tag("reason", "not-before")
+                .register(registry);
+        this.unknownUserCounter = Counter.builder("jwt.revoked")
+                .tag("reason", "unknown-user")
+                .register(registry);
+        Gauge.builder("jwt.revocation.entries", this, TokenRevocations::size)
+                .register(registry);
+    }
+
+    public static TokenRevocations with(
+            final long expiry,
+            final long expectedUsers,
+            final double falsePositiveRate,
+            final MeterRegistry registry
+    ) {
+        return with(expiry, expectedUsers, falsePositiveRate, () -> System.currentTimeMillis() / 1000, registry);
+    }
+
+    public static TokenRevocations with(
+            final long expiry,
+            final long expectedUsers,
+            final double falsePositiveRate,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        return new TokenRevocations(expiry, expectedUsers, falsePositiveRate, clock, registry);
+    }
+
+    public void register(final String userId) {
+        final var id = parse(userId);
+        if (id != null)
+            liveUsers.put(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    public void revoke(final String userId, final Instant notBefore) {
+        final var id = parse(userId);
+        if (id != null)
+            put(key(id), notBefore.getEpochSecond());
+    }
+
+    public void revokeAll(final String userId) {
+        final var id = parse(userId);
+        if (id != null)
+            put(key(id), clock.getAsLong() + 1);
+    }
+
+    public void ready(final Predicate<String> userExists) {
+        this.userExists = userExists;
+    }
+
+    public boolean isRevoked(final String subject, final Instant issuedAt) {
+        final var id = parse(subject);
+        if (id == null)
+            return true;
+
+        final var issuedAtSeconds = issuedAt == null ? Long.MIN_VALUE : issuedAt.getEpochSecond();
+        if (issuedAtSeconds < get(key(id))) {
+            notBeforeCounter.increment();
+            return true;
+        }
+
+        final var exists = userExists;
+        if (exists == null || liveUsers.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+            return false;
+
+        if (exists.test(subject)) {
+            register(subject);
+            return false;
+        }
+
+        unknownUserCounter.increment();
+        return true;
+    }
+
+    public int size() {
+        final var stamp = lock.readLock();
+        try {
+            return notBefore.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long get(final long key) {
+        var stamp = lock.tryOptimisticRead();
+        var value = notBefore.get(key);
+        if (lock.validate(stamp))
+            return value;
+
+        stamp = lock.readLock();
+        try {
+            return notBefore.get(key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void put(final long key, final long value) {
+        final var stamp = lock.writeLock();
+        try {
+            if (notBefore.needsResize()) {
+                final var now = clock.getAsLong();
+                notBefore.removeIf((ignored, notBeforeSeconds) -> notBeforeSeconds + expiry < now);
+            }
+            notBefore.putMax(key, value);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static long key(final UUID id) {
+        return id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+    }
+
+    private static UUID parse(final String userId) {
+        if (userId == null)
+            return null;
+        try {
+            return UUID.fromString(userId);
+        } catch (final IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.auth.api.infrastructure.services.security.throttling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.LongSupplier;
+
+public class LoginThrottler {
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    private final boolean enabled;
+    private final long window;
+    private final LongSupplier clock;
+    private final StripedWindowCounters accountCounters;
+    private final StripedWindowCounters ipCounters;
+    private final Counter allowedCounter;
+    private final Counter accountRejectedCounter;
+    private final Counter ipRejectedCounter;
+
+    private LoginThrottler(
+            final boolean enabled,
+            final long window,
+            final int accountLimit,
+            final int ipLimit,
+            final int maxKeys,
+            final int stripes,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        final var evictedCounter = Counter.builder("login.throttle.evicted")
+                .register(registry);
+
+        this.enabled = enabled;
+        this.window = window;
+        this.clock = clock;
+        this.accountCounters = StripedWindowCounters.with(window, accountLimit, maxKeys, stripes, evictedCounter::increment);
+        this.ipCounters = StripedWindowCounters.with(window, ipLimit, maxKeys, stripes, evictedCounter::increment);
+
+        this.allowedCounter = Counter.builder("login.throttle")
+                .tag("result", "allowed")
+                .register(registry);
+        this.accountRejectedCounter = Counter.builder("login.throttle")
+                .tag("result", "account-limited")
+                .register(registry);
+        this.ipRejectedCounter = Counter.builder("login.throttle")
+                .tag("result", "ip-limited")
+                .register(registry);
+
+        Gauge.builder("login.throttle.keys", accountCounters, StripedWindowCounters::size)
+                .tag("key", "account")
+                .register(registry);
+        Gauge.builder("login.throttle.keys", ipCounters, StripedWindowCounters::size)
+                .tag("key", "ip")
+                .register(registry);
+    }
+
+    public static LoginThrottler with(
+            final boolean enabled,
+            final long window,
+            final int accountLimit,
+            final int ipLimit,
+            final int maxKeys,
+            final int stripes,
+            final MeterRegistry registry
+    ) {
+        return new LoginThrottler(
+                enabled, window, accountLimit, ipLimit, maxKeys, stripes, System::currentTimeMillis, registry
+        );
+    }
+
+    public static LoginThrottler with(
+            final boolean enabled,
+            final long window,
+            final int accountLimit,
+            final int ipLimit,
+            final int maxKeys,
+            final int stripes,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        return new LoginThrottler(enabled, window, accountLimit, ipLimit, maxKeys, stripes, clock, registry);
+    }
+
+    public boolean tryAcquire(final String account, final String ip) {
+        if (!enabled)
+            return true;
+
+        final var now = clock.getAsLong();
+
+        if (ip != null && !ipCounters.tryAcquire(ip, now)) {
+            ipRejectedCounter.increment();
+            return false;
+        }
+
+        if (account != null && !accountCounters.tryAcquire(account, now)) {
+            accountRejectedCounter.increment();
+            return false;
+        }
+
+        allowedCounter.increment();
+        return true;
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (window + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND);
+    }
+}
@@ -0,0 +1,37 @@
+package org.auth.api.infrastructure.services.security.throttling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class SlidingWindowCounter {
+    private static final int COUNT_BITS = 16;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLong state = new AtomicLong();
+
+    public boolean tryAcquire(final long now, final long window, final int limit) {
+        final var currentWindow = (int) (now / window);
+        final var elapsed = (double) (now % window) / window;
+
+        while (true) {
+            final var current = state.get();
+            final var stateWindow = (int) (current >>> (2 * COUNT_BITS));
+            var previousCount = (current >>> COUNT_BITS) & COUNT_MASK;
+            var currentCount = current & COUNT_MASK;
+
+            if (stateWindow != currentWindow) {
+                previousCount = stateWindow == currentWindow - 1 ? currentCount : 0;
+                currentCount = 0;
+            }
+
+            if (previousCount * (1 - elapsed) + currentCount >= limit)
+                return false;
+
+            final var next = ((long) currentWindow << (2 * COUNT_BITS))
+                    | (previousCount << COUNT_BITS)
+                    | Math.min(currentCount + 1, COUNT_MASK);
+
+            if (state.compareAndSet(current, next))
+                return true;
+        }
+    }
+}
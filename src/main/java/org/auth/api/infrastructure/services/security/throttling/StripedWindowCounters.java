@@ -0,0 +1,82 @@
+package org.auth.api.infrastructure.services.security.throttling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class StripedWindowCounters {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final long window;
+    private final int limit;
+    private final Stripe[] stripes;
+    private final Runnable onEviction;
+
+    private StripedWindowCounters(
+            final long window,
+            final int limit,
+            final int maxKeys,
+            final int stripes,
+            final Runnable onEviction
+    ) {
+        final var stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        final var stripeCapacity = Math.max(1, maxKeys / stripeCount);
+
+        this.window = window;
+        this.limit = limit;
+        this.stripes = new Stripe[stripeCount];
+        this.onEviction = onEviction;
+
+        for (var i = 0; i < stripeCount; i++)
+            this.stripes[i] = new Stripe(stripeCapacity);
+    }
+
+    public static StripedWindowCounters with(
+            final long window,
+            final int limit,
+            final int maxKeys,
+            final int stripes,
+            final Runnable onEviction
+    ) {
+        return new StripedWindowCounters(window, limit, maxKeys, stripes, onEviction);
+    }
+
+    public boolean tryAcquire(final String key, final long now) {
+        return counterFor(key).tryAcquire(now, window, limit);
+    }
+
+    public int size() {
+        var size = 0;
+        for (final var stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private SlidingWindowCounter counterFor(final String key) {
+        final var hash = key.hashCode();
+        final var stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        synchronized (stripe) {
+            return stripe.computeIfAbsent(key, k -> new SlidingWindowCounter());
+        }
+    }
+
+    private final class Stripe extends LinkedHashMap<String, SlidingWindowCounter> {
+        private final int capacity;
+
+        private Stripe(final int capacity) {
+            super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, SlidingWindowCounter> eldest) {
+            if (size() <= capacity)
+                return false;
+            onEviction.run();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.auth.api.infrastructure.token;
+
+import org.auth.api.domain.token.RefreshToken;
+import org.auth.api.domain.token.RefreshTokenGateway;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryRefreshTokenGateway implements RefreshTokenGateway {
+    private final Map<String, RefreshToken> tokens;
+
+    private InMemoryRefreshTokenGateway() {
+        this.tokens = new ConcurrentHashMap<>();
+    }
+
+    public static InMemoryRefreshTokenGateway create() {
+        return new InMemoryRefreshTokenGateway();
+    }
+
+    @Override
+    public RefreshToken save(final RefreshToken token) {
+        tokens.put(token.getHash(), token);
+        return token;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByHash(final String hash) {
+        return Optional.ofNullable(tokens.get(hash));
+    }
+
+    @Override
+    public boolean markUsed(final String hash, final Instant usedAt) {
+        final var token = tokens.get(hash);
+        return token != null && !token.isUsed() && tokens.replace(hash, token, token.markUsed(usedAt));
+    }
+
+    @Override
+    public void deleteByFamily(final String family) {
+        tokens.values().removeIf(token -> token.getFamily().equals(family));
+    }
+
+    @Override
+    public void deleteExpired(final Instant now) {
+        tokens.values().removeIf(token -> token.isExpired(now));
+    }
+}
@@ -0,0 +1,50 @@
+package org.auth.api.infrastructure.token;
+
+import org.auth.api.domain.token.RefreshToken;
+import org.auth.api.domain.token.RefreshTokenGateway;
+import org.auth.api.infrastructure.token.persitence.RefreshTokenJpaEntity;
+import org.auth.api.infrastructure.token.persitence.RefreshTokenRepository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public class RefreshTokenMySQLGateway implements RefreshTokenGateway {
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenMySQLGateway(final RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    public static RefreshTokenMySQLGateway with(final RefreshTokenRepository refreshTokenRepository) {
+        return new RefreshTokenMySQLGateway(refreshTokenRepository);
+    }
+
+    @Override
+    public RefreshToken save(final RefreshToken token) {
+        return refreshTokenRepository
+                .saveAndFlush(RefreshTokenJpaEntity.from(token))
+                .toAggregate();
+    }
+
+    @Override
+    public Optional<RefreshToken> findByHash(final String hash) {
+        return refreshTokenRepository
+                .findById(hash)
+                .map(RefreshTokenJpaEntity::toAggregate);
+    }
+
+    @Override
+    public boolean markUsed(final String hash, final Instant usedAt) {
+        return refreshTokenRepository.markUsed(hash, usedAt) == 1;
+    }
+
+    @Override
+    public void deleteByFamily(final String family) {
+        refreshTokenRepository.deleteByFamily(family);
+    }
+
+    @Override
+    public void deleteExpired(final Instant now) {
+        refreshTokenRepository.deleteExpired(now);
+    }
+}
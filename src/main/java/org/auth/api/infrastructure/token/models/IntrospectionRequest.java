@@ -0,0 +1,10 @@
+package org.auth.api.infrastructure.token.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record IntrospectionRequest(
+        @JsonProperty("tokens") List<String> tokens
+) {
+}
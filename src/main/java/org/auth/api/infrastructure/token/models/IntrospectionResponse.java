@@ -0,0 +1,13 @@
+package org.auth.api.infrastructure.token.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record IntrospectionResponse(
+        @JsonProperty("results") List<IntrospectionResult> results
+) {
+    public static IntrospectionResponse with(final List<IntrospectionResult> results) {
+        return new IntrospectionResponse(results);
+    }
+}
@@ -0,0 +1,15 @@
+package org.auth.api.infrastructure.token.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IntrospectionResult(
+        @JsonProperty("active") boolean active,
+        @JsonProperty("sub") String sub,
+        @JsonProperty("exp") Long exp
+) {
+    public static IntrospectionResult with(final boolean active, final String sub, final Long exp) {
+        return new IntrospectionResult(active, sub, exp);
+    }
+}
@@ -0,0 +1,8 @@
+package org.auth.api.infrastructure.token.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record RefreshTokenRequest(
+        @JsonProperty("refresh_token") String refreshToken
+) {
+}
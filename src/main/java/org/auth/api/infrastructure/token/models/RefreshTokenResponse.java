@@ -0,0 +1,11 @@
+package org.auth.api.infrastructure.token.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record RefreshTokenResponse(
+        @JsonProperty("refresh_token") String refreshToken
+) {
+    public static RefreshTokenResponse with(final String refreshToken) {
+        return new RefreshTokenResponse(refreshToken);
+    }
+}
@@ -0,0 +1,106 @@
+package org.auth.api.infrastructure.token.persitence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.auth.api.domain.token.RefreshToken;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity(name = "refresh_token")
+@Table(name = "refresh_tokens")
+public class RefreshTokenJpaEntity {
+    @Id
+    @Column(name = "hash", nullable = false, length = 43)
+    private String hash;
+    @Column(name = "family", nullable = false, length = 36)
+    private String family;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID userId;
+    @Column(name = "expires_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant expiresAt;
+    @Column(name = "used_at", columnDefinition = "DATETIME(6)")
+    private Instant usedAt;
+
+    private RefreshTokenJpaEntity(
+            final String hash,
+            final String family,
+            final UUID userId,
+            final Instant expiresAt,
+            final Instant usedAt
+    ) {
+        this.hash = hash;
+        this.family = family;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.usedAt = usedAt;
+    }
+
+    public RefreshTokenJpaEntity() { }
+
+    public static RefreshTokenJpaEntity from(final RefreshToken token) {
+        return new RefreshTokenJpaEntity(
+                token.getHash(),
+                token.getFamily(),
+                UUID.fromString(token.getUserId().getValue()),
+                token.getExpiresAt(),
+                token.getUsedAt()
+        );
+    }
+
+    public RefreshToken toAggregate() {
+        return RefreshToken.with(
+                getHash(),
+                getFamily(),
+                Identifier.with(getUserId().toString()),
+                getExpiresAt(),
+                getUsedAt()
+        );
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(final String hash) {
+        this.hash = hash;
+    }
+
+    public String getFamily() {
+        return family;
+    }
+
+    public void setFamily(final String family) {
+        this.family = family;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(final UUID userId) {
+        this.userId = userId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(final Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getUsedAt() {
+        return usedAt;
+    }
+
+    public void setUsedAt(final Instant usedAt) {
+        this.usedAt = usedAt;
+    }
+}
@@ -0,0 +1,28 @@
+package org.auth.api.infrastructure.token.persitence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenJpaEntity, String> {
+    @Transactional
+    @Modifying
+    @Query("UPDATE refresh_token t SET t.usedAt = :usedAt WHERE t.hash = :hash AND t.usedAt IS NULL")
+    int markUsed(@Param("hash") String hash, @Param("usedAt") Instant usedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM refresh_token t WHERE t.family = :family")
+    int deleteByFamily(@Param("family") String family);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM refresh_token t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,251 @@
+package org.auth.api.infrastructure.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.user.events.UserEvent;
+import org.auth.api.infrastructure.user.events.UserEventSubscriber;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class CachingUserGateway implements UserGateway, UserEventSubscriber {
+    private record Entry(User user, long expiresAt) { }
+
+    private final UserGateway delegate;
+    private final long ttl;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, Entry> byId;
+    private final Map<String, Entry> byEmail;
+    private final AtomicLong generation;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredCounter;
+    private final Counter sizeCounter;
+    private final Timer loadTimer;
+
+    private CachingUserGateway(
+            final UserGateway delegate,
+            final long ttl,
+            final int maxSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.byId = new ConcurrentHashMap<>();
+        this.byEmail = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+
+        this.hitCounter = Counter.builder("user.cache")
+                .tag("result", "hit")
+                .register(registry);
+        this.missCounter = Counter.builder("user.cache")
+                .tag("result", "miss")
+                .register(registry);
+        this.expiredCounter = Counter.builder("user.cache.evictions")
+                .tag("cause", "expired")
+                .register(registry);
+        this.sizeCounter = Counter.builder("user.cache.evictions")
+                .tag("cause", "size")
+                .register(registry);
+        this.loadTimer = Timer.builder("user.cache.load")
+                .register(registry);
+        Gauge.builder("user.cache.size", this, CachingUserGateway::size)
+                .register(registry);
+        Gauge.builder("user.cache.hit.ratio", this, CachingUserGateway::hitRatio)
+                .register(registry);
+    }
+
+    public static CachingUserGateway with(
+            final UserGateway delegate,
+            final long ttl,
+            final int maxSize,
+            final MeterRegistry registry
+    ) {
+        return with(delegate, ttl, maxSize, System::currentTimeMillis, registry);
+    }
+
+    public static CachingUserGateway with(
+            final UserGateway delegate,
+            final long ttl,
+            final int maxSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        return new CachingUserGateway(delegate, ttl, maxSize, clock, registry);
+    }
+
+    @Override
+    public User save(final User user) {
+        try {
+            return delegate.save(user);
+        } finally {
+            invalidate(user.getId().getValue(), emailKey(user.getEmail()));
+        }
+    }
+
+    @Override
+    public Optional<User> findById(final Identifier id) {
+        return lookup(byId, id.getValue(), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<User> findByEmail(final Email email) {
+        return lookup(byEmail, emailKey(email), () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            invalidate(id.getValue(), null);
+        }
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id, final long version) {
+        try {
+            return delegate.deleteById(id, version);
+        } finally {
+            invalidate(id.getValue(), null);
+        }
+    }
+
+    @Override
+    public void onEvent(final UserEvent event) {
+        invalidate(event.userId(), event.email() != null ? event.email().toLowerCase(Locale.ROOT) : null);
+    }
+
+    public int size() {
+        return byId.size() + byEmail.size();
+    }
+
+    private Optional<User> lookup(
+            final Map<String, Entry> index,
+            final String key,
+            final Supplier<Optional<User>> loader
+    ) {
+        final var now = clock.getAsLong();
+        final var entry = index.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            hitCounter.increment();
+            return Optional.ofNullable(entry.user()).map(CachingUserGateway::copy);
+        }
+
+        missCounter.increment();
+        final var loadGeneration = generation.get();
+        final var user = loadTimer.record(loader);
+
+        if (generation.get() == loadGeneration) {
+            final var entry = put(index, key, user.orElse(null), now);
+            if (generation.get() != loadGeneration) {
+                index.remove(key, entry);
+                remove(entry);
+            }
+        }
+
+        return user;
+    }
+
+    private Entry put(final Map<String, Entry> index, final String key, final User user, final long now) {
+        ensureCapacity(now);
+
+        if (user == null) {
+            final var entry = new Entry(null, now + ttl);
+            index.put(key, entry);
+            return entry;
+        }
+
+        final var entry = new Entry(copy(user), now + ttl);
+        byId.put(user.getId().getValue(), entry);
+        byEmail.put(emailKey(user.getEmail()), entry);
+        return entry;
+    }
+
+    private void invalidate(final String id, final String email) {
+        generation.incrementAndGet();
+        remove(byId.remove(id));
+        if (email != null)
+            remove(byEmail.remove(email));
+    }
+
+    private void remove(final Entry entry) {
+        if (entry == null || entry.user() == null)
+            return;
+        byId.remove(entry.user().getId().getValue(), entry);
+        byEmail.remove(emailKey(entry.user().getEmail()), entry);
+    }
+
+    private void ensureCapacity(final long now) {
+        if (size() + 2 <= maxSize)
+            return;
+
+        expiredCounter.increment(purge(byId, now) + purge(byEmail, now));
+        if (size() + 2 <= maxSize)
+            return;
+
+        final var target = Math.max(0, maxSize - maxSize / 8 - 2);
+        sizeCounter.increment(evict(byEmail, target) + evict(byId, target));
+    }
+
+    private int purge(final Map<String, Entry> index, final long now) {
+        var purged = 0;
+        for (final Iterator<Entry> iterator = index.values().iterator(); iterator.hasNext(); ) {
+            final var entry = iterator.next();
+            if (entry.expiresAt() <= now) {
+                iterator.remove();
+                remove(entry);
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    private int evict(final Map<String, Entry> index, final int target) {
+        var evicted = 0;
+        for (final Iterator<Entry> iterator = index.values().iterator(); iterator.hasNext() && size() > target; ) {
+            final var entry = iterator.next();
+            iterator.remove();
+            remove(entry);
+            evicted++;
+        }
+        return evicted;
+    }
+
+    private double hitRatio() {
+        final var hits = hitCounter.count();
+        final var total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static String emailKey(final Email email) {
+        return email.getAddress().toLowerCase(Locale.ROOT);
+    }
+
+    private static User copy(final User user) {
+        return User.with(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.getVersion()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+
+import java.util.function.Consumer;
+
+public interface ScannableUserGateway extends UserGateway {
+    void forEachUser(Consumer<User> action);
+}
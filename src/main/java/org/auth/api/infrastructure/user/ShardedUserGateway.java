@@ -0,0 +1,190 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserChange;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class ShardedUserGateway implements ScannableUserGateway {
+    private static final int SCAN_PAGE_SIZE = 10000;
+
+    private final List<UserJdbcGateway> shards;
+    private final UserShardMap shardMap;
+    private final UserEmailDirectory directory;
+    private final ReadWriteLock[] locks;
+    private final Map<Integer, Set<Identifier>> moving;
+
+    private ShardedUserGateway(
+            final List<UserJdbcGateway> shards,
+            final UserShardMap shardMap,
+            final UserEmailDirectory directory
+    ) {
+        if (shards.size() != shardMap.shardCount())
+            throw new IllegalArgumentException("user shard map expects " + shardMap.shardCount() + " shards");
+
+        this.shards = List.copyOf(shards);
+        this.shardMap = shardMap;
+        this.directory = directory;
+        this.locks = new ReadWriteLock[UserShardMap.BUCKETS];
+        this.moving = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < locks.length; i++)
+            locks[i] = new ReentrantReadWriteLock();
+    }
+
+    public static ShardedUserGateway with(
+            final List<UserJdbcGateway> shards,
+            final UserShardMap shardMap,
+            final UserEmailDirectory directory
+    ) {
+        return new ShardedUserGateway(shards, shardMap, directory);
+    }
+
+    @Override
+    public User save(final User user) {
+        final var changes = user.getChanges();
+        final var claimsEmail = user.isNew() || changes.contains(UserChange.EMAIL);
+
+        final var claimedEmail = claimsEmail && directory.claim(user.getEmail(), user.getId());
+
+        final User savedUser;
+        try {
+            savedUser = write(user.getId(), shard -> shard.save(user));
+        } catch (final RuntimeException ex) {
+            if (claimedEmail)
+                directory.release(user.getEmail(), user.getId());
+            throw ex;
+        }
+
+        if (claimsEmail && !user.isNew())
+            directory.releaseOthers(user.getId(), user.getEmail());
+
+        return savedUser;
+    }
+
+    @Override
+    public Optional<User> findById(final Identifier id) {
+        final var bucket = UserShardMap.bucketOf(id);
+        final var shard = shardMap.shardOf(bucket);
+        final var user = shards.get(shard).findById(id);
+
+        if (user.isEmpty() && shardMap.shardOf(bucket) != shard)
+            return shards.get(shardMap.shardOf(bucket)).findById(id);
+
+        return user;
+    }
+
+    @Override
+    public Optional<User> findByEmail(final Email email) {
+        return directory.find(email)
+                .flatMap(this::findById)
+                .filter(user -> user.getEmail().equals(email));
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id) {
+        final var deleted = write(id, shard -> shard.deleteById(id));
+        directory.releaseAll(id);
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id, final long version) {
+        final var deleted = write(id, shard -> shard.deleteById(id, version));
+        if (deleted)
+            directory.releaseAll(id);
+        return deleted;
+    }
+
+    @Override
+    public void forEachUser(final Consumer<User> action) {
+        for (final var shard : shards) {
+            var after = new UUID(0, 0);
+            List<User> page;
+            do {
+                page = shard.findAfter(after, SCAN_PAGE_SIZE);
+                page.forEach(action);
+                if (!page.isEmpty())
+                    after = UUID.fromString(page.get(page.size() - 1).getId().getValue());
+            } while (page.size() == SCAN_PAGE_SIZE);
+        }
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public void close() {
+        shards.forEach(UserJdbcGateway::close);
+    }
+
+    UserShardMap shardMap() {
+        return shardMap;
+    }
+
+    UserEmailDirectory directory() {
+        return directory;
+    }
+
+    UserJdbcGateway shard(final int shard) {
+        return shards.get(shard);
+    }
+
+    void beginMove(final int bucket) {
+        moving.put(bucket, ConcurrentHashMap.newKeySet());
+    }
+
+    void abortMove(final int bucket) {
+        moving.remove(bucket);
+    }
+
+    Set<Identifier> completeMove(final int bucket, final int target) {
+        final var lock = locks[bucket].writeLock();
+        lock.lock();
+        try {
+            final var source = shards.get(shardMap.shardOf(bucket));
+            final var touched = moving.remove(bucket);
+
+            for (final var id : touched) {
+                final var user = source.findById(id);
+                if (user.isPresent())
+                    shards.get(target).upsert(user.get());
+                else
+                    shards.get(target).deleteById(id);
+            }
+
+            shardMap.assign(bucket, target);
+            return touched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T write(final Identifier id, final Function<UserJdbcGateway, T> operation) {
+        final var bucket = UserShardMap.bucketOf(id);
+        final var lock = locks[bucket].readLock();
+        lock.lock();
+        try {
+            final var result = operation.apply(shards.get(shardMap.shardOf(bucket)));
+
+            final var touched = moving.get(bucket);
+            if (touched != null)
+                touched.add(id);
+
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+public class UserEmailDirectory {
+    private static final String INSERT = "INSERT INTO user_emails (email, user_id) VALUES (?, ?)";
+    private static final String FIND = "SELECT user_id FROM user_emails WHERE email = ?";
+    private static final String RELEASE = "DELETE FROM user_emails WHERE email = ? AND user_id = ?";
+    private static final String RELEASE_OTHERS = "DELETE FROM user_emails WHERE user_id = ? AND email <> ?";
+    private static final String RELEASE_ALL = "DELETE FROM user_emails WHERE user_id = ?";
+    private static final String RELEASE_STALE = RELEASE + " AND claimed_at < TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP)";
+    private static final String TOUCH = "UPDATE user_emails SET claimed_at = CURRENT_TIMESTAMP WHERE email = ? AND user_id = ?";
+    private static final String FIND_AFTER = "SELECT email, user_id FROM user_emails WHERE email > ? ORDER BY email LIMIT ?";
+
+    record Entry(Email email, Identifier id) { }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private UserEmailDirectory(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static UserEmailDirectory with(final JdbcTemplate jdbcTemplate) {
+        return new UserEmailDirectory(jdbcTemplate);
+    }
+
+    public boolean claim(final Email email, final Identifier id) {
+        try {
+            return jdbcTemplate.update(INSERT, email.getAddress(), UserJdbcGateway.toBytes(id)) > 0;
+        } catch (final DuplicateKeyException ex) {
+            if (find(email).filter(id::equals).isEmpty())
+                throw DuplicateEmailException.with(ex);
+            jdbcTemplate.update(TOUCH, email.getAddress(), UserJdbcGateway.toBytes(id));
+            return false;
+        }
+    }
+
+    public Optional<Identifier> find(final Email email) {
+        return jdbcTemplate.query(FIND, (rs, rowNum) -> rs.getBytes(1), email.getAddress())
+                .stream()
+                .findFirst()
+                .map(bytes -> Identifier.with(UserJdbcGateway.toUUID(bytes).toString()));
+    }
+
+    public void release(final Email email, final Identifier id) {
+        jdbcTemplate.update(RELEASE, email.getAddress(), UserJdbcGateway.toBytes(id));
+    }
+
+    public boolean releaseStale(final Email email, final Identifier id, final long graceSeconds) {
+        return jdbcTemplate.update(RELEASE_STALE, email.getAddress(), UserJdbcGateway.toBytes(id), -graceSeconds) > 0;
+    }
+
+    public void releaseOthers(final Identifier id, final Email email) {
+        jdbcTemplate.update(RELEASE_OTHERS, UserJdbcGateway.toBytes(id), email.getAddress());
+    }
+
+    public void releaseAll(final Identifier id) {
+        jdbcTemplate.update(RELEASE_ALL, (Object) UserJdbcGateway.toBytes(id));
+    }
+
+    List<Entry> findAfter(final String after, final int limit) {
+        return jdbcTemplate.query(FIND_AFTER, (rs, rowNum) -> new Entry(
+                Email.with(rs.getString(1)),
+                Identifier.with(UserJdbcGateway.toUUID(rs.getBytes(2)).toString())
+        ), after, limit);
+    }
+}
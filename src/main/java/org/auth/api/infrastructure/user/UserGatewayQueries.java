@@ -0,0 +1,26 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.user.UserQueryGateway;
+import org.auth.api.domain.user.UserSummary;
+import org.auth.api.domain.valueobjects.Identifier;
+
+import java.util.Optional;
+
+public class UserGatewayQueries implements UserQueryGateway {
+    private final UserGateway userGateway;
+
+    private UserGatewayQueries(final UserGateway userGateway) {
+        this.userGateway = userGateway;
+    }
+
+    public static UserGatewayQueries with(final UserGateway userGateway) {
+        return new UserGatewayQueries(userGateway);
+    }
+
+    @Override
+    public Optional<UserSummary> findSummaryById(final Identifier id) {
+        return userGateway.findById(id)
+                .map(user -> UserSummary.with(user.getId().getValue(), user.getEmail().getAddress(), user.getVersion()));
+    }
+}
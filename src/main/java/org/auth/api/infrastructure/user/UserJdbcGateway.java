@@ -0,0 +1,169 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.exceptions.VersionConflictException;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserChange;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.infrastructure.user.persitence.PasswordHashCodec;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.UUID;
+
+public class UserJdbcGateway implements UserGateway {
+    private static final String SELECT = "SELECT id, email, password, created_at, updated_at, version FROM users";
+    private static final String FIND_BY_ID = SELECT + " WHERE id = ?";
+    private static final String FIND_BY_EMAIL = SELECT + " WHERE email = ?";
+    private static final String INSERT = "INSERT INTO users (id, email, password, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE users SET email = COALESCE(?, email), password = COALESCE(?, password), updated_at = COALESCE(?, updated_at) WHERE id = ?";
+    private static final String UPDATE_VERSION = "UPDATE users SET email = COALESCE(?, email), password = COALESCE(?, password), updated_at = COALESCE(?, updated_at), version = version + 1 WHERE id = ? AND version = ?";
+    private static final String UPSERT = INSERT + " ON DUPLICATE KEY UPDATE email = VALUES(email), password = VALUES(password), created_at = VALUES(created_at), updated_at = VALUES(updated_at), version = VALUES(version)";
+    private static final String FIND_AFTER = SELECT + " WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String DELETE = "DELETE FROM users WHERE id = ?";
+    private static final String DELETE_VERSION = DELETE + " AND version = ?";
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final RowMapper<User> rowMapper = (rs, rowNum) -> User.with(
+            Identifier.with(toUUID(rs.getBytes(1)).toString()),
+            Email.with(rs.getString(2)),
+            Password.withEncodedValue(PasswordHashCodec.decode(rs.getBytes(3))),
+            rs.getTimestamp(4, utc()).toInstant(),
+            rs.getTimestamp(5, utc()).toInstant(),
+            rs.getLong(6)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private UserJdbcGateway(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static UserJdbcGateway with(final JdbcTemplate jdbcTemplate) {
+        return new UserJdbcGateway(jdbcTemplate);
+    }
+
+    @Override
+    public User save(final User user) {
+        try {
+            if (user.isNew())
+                insert(user);
+            else
+                update(user);
+            return User.with(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getPassword(),
+                    user.getCreatedAt(),
+                    user.getUpdatedAt(),
+                    user.getSavedVersion()
+            );
+        } catch (final DataIntegrityViolationException ex) {
+            if (UserMySQLGateway.violatesEmailConstraint(ex))
+                throw DuplicateEmailException.with(ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    public Optional<User> findById(final Identifier id) {
+        return jdbcTemplate.query(FIND_BY_ID, rowMapper, (Object) toBytes(id)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<User> findByEmail(final Email email) {
+        return jdbcTemplate.query(FIND_BY_EMAIL, rowMapper, email.getAddress()).stream().findFirst();
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id) {
+        return jdbcTemplate.update(DELETE, (Object) toBytes(id)) > 0;
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id, final long version) {
+        return jdbcTemplate.update(DELETE_VERSION, toBytes(id), version) > 0;
+    }
+
+    List<User> findAfter(final UUID after, final int limit) {
+        return jdbcTemplate.query(FIND_AFTER, rowMapper, toBytes(after), limit);
+    }
+
+    void upsert(final User user) {
+        write(UPSERT, user);
+    }
+
+    void close() {
+        if (!(jdbcTemplate.getDataSource() instanceof AutoCloseable dataSource))
+            return;
+
+        try {
+            dataSource.close();
+        } catch (final Exception ex) {
+            throw new IllegalStateException("could not close user shard data source", ex);
+        }
+    }
+
+    private void insert(final User user) {
+        write(INSERT, user);
+    }
+
+    private void write(final String sql, final User user) {
+        jdbcTemplate.update(sql, ps -> {
+            ps.setBytes(1, toBytes(user.getId()));
+            ps.setString(2, user.getEmail().getAddress());
+            ps.setBytes(3, PasswordHashCodec.encode(user.getPassword().getValue()));
+            ps.setTimestamp(4, Timestamp.from(user.getCreatedAt()), utc());
+            ps.setTimestamp(5, Timestamp.from(user.getUpdatedAt()), utc());
+            ps.setLong(6, user.getSavedVersion());
+        });
+    }
+
+    private void update(final User user) {
+        final var changes = user.getChanges();
+        if (changes.isEmpty())
+            return;
+
+        final var versioned = changes.contains(UserChange.VERSION);
+        final var updated = jdbcTemplate.update(versioned ? UPDATE_VERSION : UPDATE, ps -> {
+            ps.setString(1, changes.contains(UserChange.EMAIL) ? user.getEmail().getAddress() : null);
+            ps.setBytes(2, changes.contains(UserChange.PASSWORD) ? PasswordHashCodec.encode(user.getPassword().getValue()) : null);
+            ps.setTimestamp(3, changes.contains(UserChange.UPDATED_AT) ? Timestamp.from(user.getUpdatedAt()) : null, utc());
+            ps.setBytes(4, toBytes(user.getId()));
+            if (versioned)
+                ps.setLong(5, user.getVersion());
+        });
+
+        if (versioned && updated == 0)
+            throw VersionConflictException.with(null);
+    }
+
+    static byte[] toBytes(final Identifier id) {
+        return toBytes(UUID.fromString(id.getValue()));
+    }
+
+    static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    static UUID toUUID(final byte[] bytes) {
+        final var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static Calendar utc() {
+        return Calendar.getInstance(UTC);
+    }
+}
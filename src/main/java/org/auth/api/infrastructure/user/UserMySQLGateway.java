@@ -1,34 +1,72 @@
 package org.auth.api.infrastructure.user;
 
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserChange;
 import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.utils.TimeUtils;
 import org.auth.api.domain.valueobjects.Email;
 import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.user.events.UserEventType;
+import org.auth.api.infrastructure.user.persitence.PasswordHashCodec;
+import org.auth.api.infrastructure.user.persitence.UserEventJpaEntity;
+import org.auth.api.infrastructure.user.persitence.UserEventRepository;
 import org.auth.api.infrastructure.user.persitence.UserJpaEntity;
 import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class UserMySQLGateway implements UserGateway {
+    private static final String EMAIL_CONSTRAINT = "idx_user_email";
+
     private final UserRepository userRepository;
+    private final UserEventRepository userEventRepository;
+    private final boolean events;
 
-    public UserMySQLGateway(final UserRepository userRepository) {
+    public UserMySQLGateway(
+            final UserRepository userRepository,
+            final UserEventRepository userEventRepository,
+            @Value("${user.events.enabled}") final boolean events
+    ) {
         this.userRepository = userRepository;
+        this.userEventRepository = userEventRepository;
+        this.events = events;
     }
 
     @Override
+    @Transactional
     public User save(final User user) {
-        return userRepository
-                .saveAndFlush(UserJpaEntity.from(user))
-                .toAggregate();
+        try {
+            if (user.isNew()) {
+                final var savedUser = userRepository
+                        .saveAndFlush(UserJpaEntity.from(user))
+                        .toAggregate();
+                publish(user.getId(), UserEventType.CREATED, user.getEmail(), null);
+                return savedUser;
+            }
+
+            update(user);
+            return UserJpaEntity.from(user).toAggregate();
+        } catch (final DataIntegrityViolationException ex) {
+            if (violatesEmailConstraint(ex))
+                throw DuplicateEmailException.with(ex);
+            throw ex;
+        }
     }
 
     @Override
     public Optional<User> findById(final Identifier id) {
         return userRepository
-                .findById(id.getValue())
+                .findById(UUID.fromString(id.getValue()))
                 .map(UserJpaEntity::toAggregate);
     }
 
@@ -40,7 +78,63 @@ public class UserMySQLGateway implements UserGateway {
     }
 
     @Override
-    public void deleteById(final Identifier id) {
-        userRepository.deleteById(id.getValue());
+    @Transactional
+    public boolean deleteById(final Identifier id) {
+        final var deleted = userRepository.deleteUserById(UUID.fromString(id.getValue())) > 0;
+        if (deleted)
+            publish(id, UserEventType.DELETED, null, null);
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteById(final Identifier id, final long version) {
+        final var deleted = userRepository.deleteUserByIdAndVersion(UUID.fromString(id.getValue()), version) > 0;
+        if (deleted)
+            publish(id, UserEventType.DELETED, null, null);
+        return deleted;
+    }
+
+    private void update(final User user) {
+        final var changes = user.getChanges();
+        if (changes.isEmpty())
+            return;
+
+        final var id = UUID.fromString(user.getId().getValue());
+        final var email = changes.contains(UserChange.EMAIL) ? user.getEmail().getAddress() : null;
+        final var password = changes.contains(UserChange.PASSWORD) ? PasswordHashCodec.encode(user.getPassword().getValue()) : null;
+        final var updatedAt = changes.contains(UserChange.UPDATED_AT) ? user.getUpdatedAt() : null;
+
+        if (changes.contains(UserChange.VERSION)) {
+            if (userRepository.updateUserVersion(id, user.getVersion(), email, password, updatedAt) == 0)
+                throw VersionConflictException.with(null);
+        } else if (userRepository.updateUser(id, email, password, updatedAt) == 0) {
+            return;
+        }
+
+        final var revokes = changes.contains(UserChange.UPDATED_AT) && user.getUpdatedAt().isAfter(user.getCreatedAt());
+        publish(user.getId(), UserEventType.UPDATED, user.getEmail(), revokes ? user.getUpdatedAt() : null);
+    }
+
+    private void publish(final Identifier id, final UserEventType type, final Email email, final Instant revokeBefore) {
+        if (!events)
+            return;
+
+        userEventRepository.save(UserEventJpaEntity.with(
+                UUID.fromString(id.getValue()),
+                type,
+                email != null ? email.getAddress() : null,
+                revokeBefore,
+                TimeUtils.now()
+        ));
+    }
+
+    static boolean violatesEmailConstraint(final Throwable ex) {
+        for (var cause = ex; cause != null; cause = cause.getCause()) {
+            final var message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(EMAIL_CONSTRAINT))
+                return true;
+        }
+        return false;
     }
 }
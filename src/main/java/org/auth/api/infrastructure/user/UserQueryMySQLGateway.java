@@ -0,0 +1,46 @@
+package org.auth.api.infrastructure.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.auth.api.domain.user.UserQueryGateway;
+import org.auth.api.domain.user.UserSummary;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.datasource.DataSourceRoute;
+import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.auth.api.infrastructure.user.persitence.UserSummaryRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Service
+public class UserQueryMySQLGateway implements UserQueryGateway {
+    private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public UserQueryMySQLGateway(final UserRepository userRepository, final EntityManagerFactory entityManagerFactory) {
+        this.userRepository = userRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public Optional<UserSummary> findSummaryById(final Identifier id) {
+        return replica(() -> userRepository
+                .findSummaryById(UUID.fromString(id.getValue()))
+                .map(UserSummaryRow::toSummary));
+    }
+
+    private <T> T replica(final Supplier<T> read) {
+        if (TransactionSynchronizationManager.isActualTransactionActive())
+            return read.get();
+
+        final var openEntityManager = TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        try {
+            return DataSourceRoute.replica(read);
+        } finally {
+            if (openEntityManager != null)
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, openEntityManager);
+        }
+    }
+}
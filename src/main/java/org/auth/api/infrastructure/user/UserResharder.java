@@ -0,0 +1,137 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class UserResharder {
+    private static final Logger logger = LoggerFactory.getLogger(UserResharder.class);
+    private static final int PAGE_SIZE = 500;
+    private static final long CLAIM_GRACE_SECONDS = 300;
+
+    private final ShardedUserGateway gateway;
+
+    private UserResharder(final ShardedUserGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public static UserResharder with(final ShardedUserGateway gateway) {
+        return new UserResharder(gateway);
+    }
+
+    public synchronized int rebalance() {
+        final var shardMap = gateway.shardMap();
+        final var shardCount = gateway.shardCount();
+        var moved = 0;
+
+        for (int source = 0; source < shardCount; source++) {
+            final var targets = new HashMap<Integer, Integer>();
+            for (int bucket = 0; bucket < UserShardMap.BUCKETS; bucket++)
+                if (shardMap.shardOf(bucket) == source && bucket % shardCount != source)
+                    targets.put(bucket, bucket % shardCount);
+
+            if (!targets.isEmpty())
+                moved += move(source, targets);
+        }
+
+        reconcile();
+        return moved;
+    }
+
+    public synchronized int reconcile() {
+        final var directory = gateway.directory();
+        final var claimed = new AtomicInteger();
+        gateway.forEachUser(user -> {
+            try {
+                if (directory.claim(user.getEmail(), user.getId()))
+                    claimed.incrementAndGet();
+            } catch (final DuplicateEmailException ex) {
+                logger.warn("user {} has an email claimed by another user", user.getId().getValue());
+            }
+        });
+
+        var released = 0;
+        var after = "";
+        List<UserEmailDirectory.Entry> page;
+        do {
+            page = directory.findAfter(after, PAGE_SIZE);
+            for (final var entry : page) {
+                final var owner = gateway.findById(entry.id())
+                        .filter(user -> user.getEmail().equals(entry.email()));
+                if (owner.isEmpty() && directory.releaseStale(entry.email(), entry.id(), CLAIM_GRACE_SECONDS))
+                    released++;
+            }
+
+            if (!page.isEmpty())
+                after = page.get(page.size() - 1).email().getAddress();
+        } while (page.size() == PAGE_SIZE);
+
+        logger.info("reconciled the user email directory: claimed {} emails and released {}", claimed.get(), released);
+        return claimed.get() + released;
+    }
+
+    public synchronized int move(final int bucket, final int target) {
+        if (target < 0 || target >= gateway.shardCount())
+            throw new IllegalArgumentException("unknown user shard: " + target);
+
+        final var source = gateway.shardMap().shardOf(bucket);
+        if (source == target)
+            return 0;
+
+        return move(source, Map.of(bucket, target));
+    }
+
+    private int move(final int source, final Map<Integer, Integer> targets) {
+        targets.keySet().forEach(gateway::beginMove);
+        try {
+            final var copied = copy(gateway.shard(source), targets);
+            var moved = 0;
+
+            for (final var entry : targets.entrySet()) {
+                final var ids = copied.computeIfAbsent(entry.getKey(), bucket -> new HashSet<>());
+                ids.addAll(gateway.completeMove(entry.getKey(), entry.getValue()));
+                ids.forEach(gateway.shard(source)::deleteById);
+                moved += ids.size();
+            }
+
+            logger.info("moved {} buckets and {} users off user shard {}", targets.size(), moved, source);
+            return moved;
+        } finally {
+            targets.keySet().forEach(gateway::abortMove);
+        }
+    }
+
+    private Map<Integer, Set<Identifier>> copy(final UserJdbcGateway source, final Map<Integer, Integer> targets) {
+        final var copied = new HashMap<Integer, Set<Identifier>>();
+        var after = new UUID(0, 0);
+        List<User> page;
+
+        do {
+            page = source.findAfter(after, PAGE_SIZE);
+            for (final var user : page) {
+                final var bucket = UserShardMap.bucketOf(user.getId());
+                final var target = targets.get(bucket);
+                if (target == null)
+                    continue;
+
+                gateway.shard(target).upsert(user);
+                copied.computeIfAbsent(bucket, key -> new HashSet<>()).add(user.getId());
+            }
+
+            if (!page.isEmpty())
+                after = UUID.fromString(page.get(page.size() - 1).getId().getValue());
+        } while (page.size() == PAGE_SIZE);
+
+        return copied;
+    }
+}
@@ -0,0 +1,113 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.valueobjects.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.UUID;
+
+public class UserShardMap {
+    public static final int BUCKETS = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(UserShardMap.class);
+
+    private static final String SELECT = "SELECT bucket, shard FROM user_shard_buckets";
+    private static final String INSERT = "INSERT INTO user_shard_buckets (bucket, shard) VALUES (?, ?)";
+    private static final String UPDATE = "UPDATE user_shard_buckets SET shard = ? WHERE bucket = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int shardCount;
+    private volatile int[] shards;
+
+    private UserShardMap(final JdbcTemplate jdbcTemplate, final int shardCount) {
+        if (shardCount < 1)
+            throw new IllegalArgumentException("at least one user shard is required");
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardCount = shardCount;
+        reload();
+    }
+
+    public static UserShardMap load(final JdbcTemplate jdbcTemplate, final int shardCount) {
+        return new UserShardMap(jdbcTemplate, shardCount);
+    }
+
+    public static int bucketOf(final Identifier id) {
+        final var bits = UUID.fromString(id.getValue()).getLeastSignificantBits();
+        return (int) (bits ^ (bits >>> 32)) & (BUCKETS - 1);
+    }
+
+    public int shardOf(final int bucket) {
+        return shards[bucket];
+    }
+
+    public int shardOf(final Identifier id) {
+        return shardOf(bucketOf(id));
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public synchronized void assign(final int bucket, final int shard) {
+        if (shard < 0 || shard >= shardCount)
+            throw new IllegalArgumentException("unknown user shard: " + shard);
+
+        jdbcTemplate.update(UPDATE, shard, bucket);
+
+        final var next = shards.clone();
+        next[bucket] = shard;
+        shards = next;
+    }
+
+    public synchronized void reload() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_shard_buckets", Integer.class) < BUCKETS)
+            initialize();
+
+        final var next = new int[BUCKETS];
+        final var loaded = new BitSet(BUCKETS);
+        jdbcTemplate.query(SELECT, rs -> {
+            final var bucket = rs.getInt(1);
+            final var shard = rs.getInt(2);
+            if (bucket < 0 || bucket >= BUCKETS)
+                throw new IllegalStateException("unknown user shard bucket: " + bucket);
+            if (shard >= shardCount)
+                throw new IllegalStateException("bucket " + bucket + " is on user shard " + shard + " but only " + shardCount + " are configured");
+            next[bucket] = shard;
+            loaded.set(bucket);
+        });
+
+        if (loaded.cardinality() != BUCKETS)
+            throw new IllegalStateException("user shard map has " + loaded.cardinality() + " of " + BUCKETS + " buckets");
+        shards = next;
+    }
+
+    private void initialize() {
+        final var existing = new BitSet(BUCKETS);
+        jdbcTemplate.query("SELECT bucket FROM user_shard_buckets", rs -> {
+            existing.set(rs.getInt(1));
+        });
+
+        final var rows = new ArrayList<Object[]>(BUCKETS);
+        for (int bucket = existing.nextClearBit(0); bucket < BUCKETS; bucket = existing.nextClearBit(bucket + 1))
+            rows.add(new Object[]{ bucket, bucket % shardCount });
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT, rows);
+        } catch (final DuplicateKeyException ex) {
+            rows.forEach(this::insertIfAbsent);
+        }
+    }
+
+    private void insertIfAbsent(final Object[] row) {
+        try {
+            jdbcTemplate.update(INSERT, row);
+        } catch (final DuplicateKeyException ex) {
+            logger.debug("bucket {} was assigned concurrently", row[0]);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.auth.api.infrastructure.user;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Endpoint(id = "usershards")
+public class UserShardsEndpoint {
+    private final ShardedUserGateway gateway;
+    private final UserResharder resharder;
+
+    private UserShardsEndpoint(final ShardedUserGateway gateway, final UserResharder resharder) {
+        this.gateway = gateway;
+        this.resharder = resharder;
+    }
+
+    public static UserShardsEndpoint with(final ShardedUserGateway gateway, final UserResharder resharder) {
+        return new UserShardsEndpoint(gateway, resharder);
+    }
+
+    @ReadOperation
+    public Map<Integer, Integer> buckets() {
+        final var buckets = new TreeMap<Integer, Integer>();
+        for (int shard = 0; shard < gateway.shardCount(); shard++)
+            buckets.put(shard, 0);
+        for (int bucket = 0; bucket < UserShardMap.BUCKETS; bucket++)
+            buckets.merge(gateway.shardMap().shardOf(bucket), 1, Integer::sum);
+        return buckets;
+    }
+
+    @WriteOperation
+    public int rebalance() {
+        return resharder.rebalance();
+    }
+}
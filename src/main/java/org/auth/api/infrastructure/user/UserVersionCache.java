@@ -0,0 +1,103 @@
+package org.auth.api.infrastructure.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public class UserVersionCache {
+    private final boolean enabled;
+    private final long ttl;
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private record Entry(long version, long expiresAt) { }
+
+    private UserVersionCache(
+            final boolean enabled,
+            final long ttl,
+            final int maxSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new ConcurrentHashMap<>();
+
+        this.hitCounter = Counter.builder("user.version.cache")
+                .tag("result", "hit")
+                .register(registry);
+        this.missCounter = Counter.builder("user.version.cache")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("user.version.cache.size", entries, Map::size)
+                .register(registry);
+    }
+
+    public static UserVersionCache with(
+            final boolean enabled,
+            final long ttl,
+            final int maxSize,
+            final MeterRegistry registry
+    ) {
+        return new UserVersionCache(enabled, ttl, maxSize, System::currentTimeMillis, registry);
+    }
+
+    public static UserVersionCache with(
+            final boolean enabled,
+            final long ttl,
+            final int maxSize,
+            final LongSupplier clock,
+            final MeterRegistry registry
+    ) {
+        return new UserVersionCache(enabled, ttl, maxSize, clock, registry);
+    }
+
+    public OptionalLong find(final String userId) {
+        if (!enabled)
+            return OptionalLong.empty();
+
+        final var entry = entries.get(userId);
+        if (entry == null || entry.expiresAt() <= clock.getAsLong()) {
+            missCounter.increment();
+            return OptionalLong.empty();
+        }
+
+        hitCounter.increment();
+        return OptionalLong.of(entry.version());
+    }
+
+    public void put(final String userId, final long version) {
+        if (!enabled)
+            return;
+
+        final var now = clock.getAsLong();
+        if (entries.size() >= maxSize && !entries.containsKey(userId)) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= maxSize)
+                return;
+        }
+
+        final var entry = new Entry(version, now + ttl);
+        entries.merge(userId, entry, (current, next) ->
+                current.expiresAt() > now && current.version() > next.version() ? current : next
+        );
+    }
+
+    public void evict(final String userId) {
+        entries.remove(userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
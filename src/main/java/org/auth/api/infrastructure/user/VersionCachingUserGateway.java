@@ -0,0 +1,62 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+
+import java.util.Optional;
+
+public class VersionCachingUserGateway implements UserGateway {
+    private final UserGateway delegate;
+    private final UserVersionCache userVersionCache;
+
+    private VersionCachingUserGateway(final UserGateway delegate, final UserVersionCache userVersionCache) {
+        this.delegate = delegate;
+        this.userVersionCache = userVersionCache;
+    }
+
+    public static VersionCachingUserGateway with(
+            final UserGateway delegate,
+            final UserVersionCache userVersionCache
+    ) {
+        return new VersionCachingUserGateway(delegate, userVersionCache);
+    }
+
+    @Override
+    public User save(final User user) {
+        final User savedUser;
+        try {
+            savedUser = delegate.save(user);
+        } catch (final RuntimeException ex) {
+            userVersionCache.evict(user.getId().getValue());
+            throw ex;
+        }
+        userVersionCache.put(savedUser.getId().getValue(), savedUser.getVersion());
+        return savedUser;
+    }
+
+    @Override
+    public Optional<User> findById(final Identifier id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByEmail(final Email email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id) {
+        final var deleted = delegate.deleteById(id);
+        userVersionCache.evict(id.getValue());
+        return deleted;
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id, final long version) {
+        final var deleted = delegate.deleteById(id, version);
+        userVersionCache.evict(id.getValue());
+        return deleted;
+    }
+}
@@ -0,0 +1,21 @@
+package org.auth.api.infrastructure.user.events;
+
+import java.time.Instant;
+
+public record UserEvent(
+        long id,
+        String userId,
+        UserEventType type,
+        String email,
+        Instant revokeBefore
+) {
+    public static UserEvent with(
+            final long id,
+            final String userId,
+            final UserEventType type,
+            final String email,
+            final Instant revokeBefore
+    ) {
+        return new UserEvent(id, userId, type, email, revokeBefore);
+    }
+}
@@ -0,0 +1,150 @@
+package org.auth.api.infrastructure.user.events;
+
+import org.auth.api.domain.utils.TimeUtils;
+import org.auth.api.infrastructure.user.persitence.UserEventJpaEntity;
+import org.auth.api.infrastructure.user.persitence.UserEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class UserEventPoller {
+    private static final Logger logger = LoggerFactory.getLogger(UserEventPoller.class);
+    private static final int MAX_GAPS = 10000;
+    private static final long PURGE_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    private final UserEventRepository userEventRepository;
+    private final List<UserEventSubscriber> subscribers;
+    private final int batchSize;
+    private final long gapTimeout;
+    private final long retention;
+    private final LongSupplier clock;
+    private final Map<Long, Long> gaps;
+    private final ScheduledExecutorService scheduler;
+    private long cursor;
+
+    private UserEventPoller(
+            final UserEventRepository userEventRepository,
+            final List<UserEventSubscriber> subscribers,
+            final long pollInterval,
+            final int batchSize,
+            final long gapTimeout,
+            final long retention,
+            final LongSupplier clock
+    ) {
+        this.userEventRepository = userEventRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.clock = clock;
+        this.gaps = new LinkedHashMap<>();
+        this.cursor = userEventRepository.findLastId();
+
+        if (pollInterval > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-events-"));
+            this.scheduler.scheduleWithFixedDelay(this::pollSafely, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+            this.scheduler.scheduleWithFixedDelay(this::purge, PURGE_INTERVAL, PURGE_INTERVAL, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public static UserEventPoller with(
+            final UserEventRepository userEventRepository,
+            final List<UserEventSubscriber> subscribers,
+            final long pollInterval,
+            final int batchSize,
+            final long gapTimeout,
+            final long retention
+    ) {
+        return with(userEventRepository, subscribers, pollInterval, batchSize, gapTimeout, retention, System::currentTimeMillis);
+    }
+
+    public static UserEventPoller with(
+            final UserEventRepository userEventRepository,
+            final List<UserEventSubscriber> subscribers,
+            final long pollInterval,
+            final int batchSize,
+            final long gapTimeout,
+            final long retention,
+            final LongSupplier clock
+    ) {
+        return new UserEventPoller(userEventRepository, subscribers, pollInterval, batchSize, gapTimeout, retention, clock);
+    }
+
+    public synchronized int poll() {
+        final var now = clock.getAsLong();
+        var dispatched = 0;
+        List<UserEventJpaEntity> page;
+
+        do {
+            page = userEventRepository.findAfter(cursor, PageRequest.ofSize(batchSize));
+            for (final var event : page) {
+                for (var missing = cursor + 1; missing < event.getId() && gaps.size() < MAX_GAPS; missing++)
+                    gaps.put(missing, now);
+                dispatch(event.toEvent());
+                cursor = event.getId();
+            }
+            dispatched += page.size();
+        } while (page.size() == batchSize);
+
+        if (!gaps.isEmpty()) {
+            for (final var event : userEventRepository.findByIds(gaps.keySet())) {
+                gaps.remove(event.getId());
+                dispatch(event.toEvent());
+                dispatched++;
+            }
+            gaps.values().removeIf(firstSeen -> now - firstSeen >= gapTimeout);
+        }
+
+        return dispatched;
+    }
+
+    public synchronized long cursor() {
+        return cursor;
+    }
+
+    public synchronized int pendingGaps() {
+        return gaps.size();
+    }
+
+    public void shutdown() {
+        if (scheduler != null)
+            scheduler.shutdownNow();
+    }
+
+    private void dispatch(final UserEvent event) {
+        for (final var subscriber : subscribers) {
+            try {
+                subscriber.onEvent(event);
+            } catch (final Exception ex) {
+                logger.warn("user event subscriber failed on event {}", event.id(), ex);
+            }
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (final Exception ex) {
+            logger.warn("failed to poll user events", ex);
+        }
+    }
+
+    private void purge() {
+        try {
+            userEventRepository.deleteOccurredBefore(TimeUtils.now().minusMillis(retention));
+        } catch (final Exception ex) {
+            logger.warn("failed to purge user events", ex);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package org.auth.api.infrastructure.user.events;
+
+public interface UserEventSubscriber {
+    void onEvent(UserEvent event);
+}
@@ -0,0 +1,7 @@
+package org.auth.api.infrastructure.user.events;
+
+public enum UserEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,114 @@
+package org.auth.api.infrastructure.user.log;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+final class LocationIndex {
+    static final long NO_LOCATION = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private long[] locations;
+    private int size;
+
+    private LocationIndex(final int capacity) {
+        allocate(capacity);
+    }
+
+    static LocationIndex withExpectedSize(final int expectedSize) {
+        return new LocationIndex(capacityFor(expectedSize));
+    }
+
+    long find(final long key, final LongPredicate matches) {
+        final var mask = locations.length - 1;
+        for (var slot = slot(key, mask); locations[slot] != NO_LOCATION; slot = (slot + 1) & mask)
+            if (keys[slot] == key && matches.test(locations[slot]))
+                return locations[slot];
+        return NO_LOCATION;
+    }
+
+    void put(final long key, final long location) {
+        if ((size + 1) * 4L > locations.length * 3L)
+            resize(locations.length << 1);
+
+        final var mask = locations.length - 1;
+        var slot = slot(key, mask);
+        while (locations[slot] != NO_LOCATION)
+            slot = (slot + 1) & mask;
+
+        keys[slot] = key;
+        locations[slot] = location;
+        size++;
+    }
+
+    boolean remove(final long key, final long location) {
+        var slot = indexOf(key, location);
+        if (slot < 0)
+            return false;
+
+        final var mask = locations.length - 1;
+        var next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (locations[next] == NO_LOCATION)
+                break;
+
+            final var home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                locations[slot] = locations[next];
+                slot = next;
+            }
+        }
+
+        locations[slot] = NO_LOCATION;
+        size--;
+        return true;
+    }
+
+    void forEach(final LongConsumer action) {
+        for (final var location : locations)
+            if (location != NO_LOCATION)
+                action.accept(location);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(final long key, final long location) {
+        final var mask = locations.length - 1;
+        for (var slot = slot(key, mask); locations[slot] != NO_LOCATION; slot = (slot + 1) & mask)
+            if (keys[slot] == key && locations[slot] == location)
+                return slot;
+        return -1;
+    }
+
+    private void resize(final int capacity) {
+        final var oldKeys = keys;
+        final var oldLocations = locations;
+        allocate(capacity);
+        size = 0;
+
+        for (int i = 0; i < oldLocations.length; i++)
+            if (oldLocations[i] != NO_LOCATION)
+                put(oldKeys[i], oldLocations[i]);
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        locations = new long[capacity];
+        Arrays.fill(locations, NO_LOCATION);
+    }
+
+    private static int slot(final long key, final int mask) {
+        final var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final var minimum = Math.max(MIN_CAPACITY, (int) Math.min(1 << 30, (expectedSize * 4L + 2) / 3));
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+}
@@ -0,0 +1,110 @@
+package org.auth.api.infrastructure.user.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+final class LogSegment {
+    private final int id;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int position;
+    private long liveBytes;
+
+    private LogSegment(final int id, final Path path, final MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static LogSegment open(final Path directory, final int id, final int size) {
+        final var path = directory.resolve(fileName(id));
+        try (final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var length = Math.max(channel.size(), size);
+            return new LogSegment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, length));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static String fileName(final int id) {
+        return String.format("%010d.log", id);
+    }
+
+    static int parseId(final Path path) {
+        final var name = path.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - 4));
+    }
+
+    int id() {
+        return id;
+    }
+
+    int position() {
+        return position;
+    }
+
+    void position(final int position) {
+        this.position = position;
+    }
+
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    void addLiveBytes(final long bytes) {
+        liveBytes += bytes;
+    }
+
+    boolean fits(final int length) {
+        return position + length <= buffer.capacity();
+    }
+
+    int append(final byte[] bytes) {
+        final var offset = position;
+        buffer.put(offset, bytes);
+        position += bytes.length;
+        return offset;
+    }
+
+    UserRecord read(final int offset) {
+        return UserRecord.read(buffer, offset);
+    }
+
+    boolean hasTail() {
+        var offset = position;
+        for (; offset + Long.BYTES <= buffer.capacity(); offset += Long.BYTES)
+            if (buffer.getLong(offset) != 0)
+                return true;
+        for (; offset < buffer.capacity(); offset++)
+            if (buffer.get(offset) != 0)
+                return true;
+        return false;
+    }
+
+    void clearTail() {
+        final var zeros = new byte[Math.min(8192, buffer.capacity() - position)];
+        for (int offset = position; offset < buffer.capacity(); offset += zeros.length)
+            buffer.put(offset, zeros, 0, Math.min(zeros.length, buffer.capacity() - offset));
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void force(final int offset, final int length) {
+        buffer.force(offset, length);
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package org.auth.api.infrastructure.user.log;
+
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.exceptions.VersionConflictException;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserChange;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.user.ScannableUserGateway;
+import org.auth.api.infrastructure.user.persitence.PasswordHashCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class UserLogGateway implements ScannableUserGateway {
+    private static final Logger logger = LoggerFactory.getLogger(UserLogGateway.class);
+    private static final int INITIAL_INDEX_SIZE = 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean sync;
+    private final ReentrantReadWriteLock lock;
+    private final NavigableMap<Integer, LogSegment> segments;
+    private final LocationIndex ids;
+    private final LocationIndex emails;
+    private final ScheduledExecutorService scheduler;
+    private LogSegment active;
+
+    private UserLogGateway(
+            final Path directory,
+            final int segmentSize,
+            final long compactionInterval,
+            final boolean sync
+    ) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.lock = new ReentrantReadWriteLock();
+        this.segments = new TreeMap<>();
+        this.ids = LocationIndex.withExpectedSize(INITIAL_INDEX_SIZE);
+        this.emails = LocationIndex.withExpectedSize(INITIAL_INDEX_SIZE);
+
+        recover();
+
+        if (compactionInterval > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-log-"));
+            this.scheduler.scheduleWithFixedDelay(this::compactSafely, compactionInterval, compactionInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public static UserLogGateway open(
+            final Path directory,
+            final int segmentSize,
+            final long compactionInterval,
+            final boolean sync
+    ) {
+        return new UserLogGateway(directory, segmentSize, compactionInterval, sync);
+    }
+
+    public static UserLogGateway open(final Path directory, final int segmentSize, final long compactionInterval) {
+        return open(directory, segmentSize, compactionInterval, false);
+    }
+
+    @Override
+    public User save(final User user) {
+        lock.writeLock().lock();
+        try {
+            if (user.isNew())
+                insert(user);
+            else
+                update(user);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return User.with(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.getSavedVersion()
+        );
+    }
+
+    @Override
+    public Optional<User> findById(final Identifier id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(findRecord(UUID.fromString(id.getValue()))).map(UserRecord::toUser);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<User> findByEmail(final Email email) {
+        lock.readLock().lock();
+        try {
+            final var location = locateEmail(email.getAddress());
+            return location == LocationIndex.NO_LOCATION
+                    ? Optional.empty()
+                    : Optional.of(read(location).toUser());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id) {
+        final var uuid = UUID.fromString(id.getValue());
+
+        lock.writeLock().lock();
+        try {
+            if (locateId(uuid) == LocationIndex.NO_LOCATION)
+                return false;
+            write(UserRecord.delete(uuid));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteById(final Identifier id, final long version) {
+        final var uuid = UUID.fromString(id.getValue());
+
+        lock.writeLock().lock();
+        try {
+            final var current = findRecord(uuid);
+            if (current == null || current.version() != version)
+                return false;
+            write(UserRecord.delete(uuid));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEachUser(final Consumer<User> action) {
+        final var users = new ArrayList<User>();
+
+        lock.readLock().lock();
+        try {
+            ids.forEach(location -> users.add(read(location).toUser()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        users.forEach(action);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int compact() {
+        final List<LogSegment> candidates;
+
+        lock.readLock().lock();
+        try {
+            candidates = segments.values().stream()
+                    .filter(segment -> segment != active)
+                    .filter(segment -> segment.liveBytes() * 2 < segment.position())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        for (final var segment : candidates) {
+            lock.writeLock().lock();
+            try {
+                compact(segment);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        return candidates.size();
+    }
+
+    public void close() {
+        if (scheduler != null)
+            scheduler.shutdownNow();
+
+        lock.writeLock().lock();
+        try {
+            segments.values().forEach(LogSegment::force);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    byte[] storedPassword(final Identifier id) {
+        lock.readLock().lock();
+        try {
+            final var record = findRecord(UUID.fromString(id.getValue()));
+            return record != null ? record.password() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(final User user) {
+        final var record = UserRecord.put(user);
+
+        if (locateId(record.id()) != LocationIndex.NO_LOCATION)
+            throw new IllegalStateException("user " + record.id() + " already exists");
+        if (locateEmail(record.email()) != LocationIndex.NO_LOCATION)
+            throw DuplicateEmailException.with(null);
+
+        write(record);
+    }
+
+    private void update(final User user) {
+        final var changes = user.getChanges();
+        if (changes.isEmpty())
+            return;
+
+        final var versioned = changes.contains(UserChange.VERSION);
+        final var current = findRecord(UUID.fromString(user.getId().getValue()));
+        if (versioned && (current == null || current.version() != user.getVersion()))
+            throw VersionConflictException.with(null);
+        if (current == null)
+            return;
+
+        final var email = changes.contains(UserChange.EMAIL) ? user.getEmail().getAddress() : current.email();
+        if (changes.contains(UserChange.EMAIL)) {
+            final var owner = locateEmail(email);
+            if (owner != LocationIndex.NO_LOCATION && !read(owner).id().equals(current.id()))
+                throw DuplicateEmailException.with(null);
+        }
+
+        write(UserRecord.put(
+                current.id(),
+                email,
+                changes.contains(UserChange.PASSWORD) ? PasswordHashCodec.encode(user.getPassword().getValue()) : current.password(),
+                current.createdAt(),
+                changes.contains(UserChange.UPDATED_AT) ? user.getUpdatedAt() : current.updatedAt(),
+                versioned ? current.version() + 1 : current.version()
+        ));
+    }
+
+    private void write(final UserRecord record) {
+        final var bytes = record.encode();
+        if (bytes.length > segmentSize)
+            throw new IllegalArgumentException("user record exceeds segment size");
+
+        if (!active.fits(bytes.length))
+            roll();
+
+        final var offset = active.append(bytes);
+        if (sync)
+            active.force(offset, bytes.length);
+
+        index(record, active, offset);
+    }
+
+    private void index(final UserRecord record, final LogSegment segment, final int offset) {
+        final var previous = locateId(record.id());
+        if (previous != LocationIndex.NO_LOCATION) {
+            final var old = read(previous);
+            ids.remove(idKey(old.id()), previous);
+            emails.remove(emailKey(old.email()), previous);
+            segments.get(segmentOf(previous)).addLiveBytes(-old.size());
+        }
+
+        if (record.isPut()) {
+            final var location = location(segment.id(), offset);
+            ids.put(idKey(record.id()), location);
+            emails.put(emailKey(record.email()), location);
+            segment.addLiveBytes(record.size());
+        }
+    }
+
+    private void compact(final LogSegment segment) {
+        if (segments.get(segment.id()) != segment)
+            return;
+
+        final var hasOlderSegment = segments.firstKey() < segment.id();
+
+        for (int offset = 0; offset < segment.position(); ) {
+            final var record = segment.read(offset);
+            final var location = location(segment.id(), offset);
+            offset += record.size();
+
+            if (record.isPut()) {
+                if (ids.find(idKey(record.id()), candidate -> candidate == location) != LocationIndex.NO_LOCATION)
+                    write(record);
+            } else if (hasOlderSegment && locateId(record.id()) == LocationIndex.NO_LOCATION) {
+                write(record);
+            }
+        }
+
+        active.force();
+        segments.remove(segment.id());
+        segment.delete();
+        logger.debug("compacted user log segment {}", segment.id());
+    }
+
+    private void compactSafely() {
+        try {
+            compact();
+        } catch (final Exception ex) {
+            logger.warn("failed to compact user log", ex);
+        }
+    }
+
+    private void roll() {
+        active.force();
+        active = LogSegment.open(directory, active.id() + 1, segmentSize);
+        segments.put(active.id(), active);
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            try (final var files = Files.list(directory)) {
+                files.filter(path -> path.getFileName().toString().endsWith(".log"))
+                        .map(LogSegment::parseId)
+                        .sorted()
+                        .forEach(id -> replay(LogSegment.open(directory, id, segmentSize)));
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (segments.isEmpty()) {
+            active = LogSegment.open(directory, 0, segmentSize);
+            segments.put(active.id(), active);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+
+        for (final var segment : segments.values()) {
+            if (segment != active && segment.hasTail())
+                throw new IllegalStateException(
+                        "corrupted record in sealed user log segment " + segment.id() + " at offset " + segment.position()
+                );
+        }
+
+        if (active.hasTail()) {
+            logger.warn("discarding torn tail of user log segment {} at offset {}", active.id(), active.position());
+            active.clearTail();
+            active.force();
+        }
+
+        logger.info("recovered {} users from {} user log segments", ids.size(), segments.size());
+    }
+
+    private void replay(final LogSegment segment) {
+        segments.put(segment.id(), segment);
+
+        var offset = 0;
+        for (var record = segment.read(offset); record != null; record = segment.read(offset)) {
+            index(record, segment, offset);
+            offset += record.size();
+        }
+        segment.position(offset);
+    }
+
+    private UserRecord findRecord(final UUID id) {
+        final var location = locateId(id);
+        return location != LocationIndex.NO_LOCATION ? read(location) : null;
+    }
+
+    private long locateId(final UUID id) {
+        return ids.find(idKey(id), location -> read(location).id().equals(id));
+    }
+
+    private long locateEmail(final String email) {
+        return emails.find(emailKey(email), location -> read(location).email().equalsIgnoreCase(email));
+    }
+
+    private UserRecord read(final long location) {
+        return segments.get(segmentOf(location)).read((int) location);
+    }
+
+    private static long location(final int segment, final int offset) {
+        return ((long) segment << 32) | offset;
+    }
+
+    private static int segmentOf(final long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static long idKey(final UUID id) {
+        return id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+    }
+
+    private static long emailKey(final String email) {
+        var hash = 0xcbf29ce484222325L;
+        for (final var c : email.toLowerCase(Locale.ROOT).toCharArray()) {
+            hash ^= c;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,146 @@
+package org.auth.api.infrastructure.user.log;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.infrastructure.user.persitence.PasswordHashCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+record UserRecord(
+        byte type,
+        UUID id,
+        String email,
+        byte[] password,
+        Instant createdAt,
+        Instant updatedAt,
+        long version
+) {
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    static final int HEADER = 8;
+
+    static UserRecord put(
+            final UUID id,
+            final String email,
+            final byte[] password,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final long version
+    ) {
+        return new UserRecord(PUT, id, email, password, createdAt, updatedAt, version);
+    }
+
+    static UserRecord put(final User user) {
+        return put(
+                UUID.fromString(user.getId().getValue()),
+                user.getEmail().getAddress(),
+                PasswordHashCodec.encode(user.getPassword().getValue()),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.getSavedVersion()
+        );
+    }
+
+    static UserRecord delete(final UUID id) {
+        return new UserRecord(DELETE, id, null, null, null, null, 0);
+    }
+
+    static UserRecord read(final ByteBuffer buffer, final int offset) {
+        if (offset + HEADER > buffer.capacity())
+            return null;
+
+        final var length = buffer.getInt(offset);
+        if (length <= 0 || length > buffer.capacity() - offset - HEADER)
+            return null;
+
+        final var payload = new byte[length];
+        buffer.get(offset + HEADER, payload);
+        if (checksum(payload) != buffer.getInt(offset + 4))
+            return null;
+
+        return decode(ByteBuffer.wrap(payload));
+    }
+
+    boolean isPut() {
+        return type == PUT;
+    }
+
+    int size() {
+        return HEADER + payloadSize();
+    }
+
+    byte[] encode() {
+        final var payload = ByteBuffer.allocate(payloadSize())
+                .put(type)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+
+        if (isPut()) {
+            final var emailBytes = email.getBytes(StandardCharsets.UTF_8);
+            payload.putLong(createdAt.getEpochSecond())
+                    .putInt(createdAt.getNano())
+                    .putLong(updatedAt.getEpochSecond())
+                    .putInt(updatedAt.getNano())
+                    .putLong(version)
+                    .putShort((short) emailBytes.length)
+                    .put(emailBytes)
+                    .putShort((short) password.length)
+                    .put(password);
+        }
+
+        final var bytes = payload.array();
+        return ByteBuffer.allocate(HEADER + bytes.length)
+                .putInt(bytes.length)
+                .putInt(checksum(bytes))
+                .put(bytes)
+                .array();
+    }
+
+    User toUser() {
+        return User.with(
+                Identifier.with(id.toString()),
+                Email.with(email),
+                Password.withEncodedValue(PasswordHashCodec.decode(password)),
+                createdAt,
+                updatedAt,
+                version
+        );
+    }
+
+    private int payloadSize() {
+        if (!isPut())
+            return 17;
+        return 17 + 32 + 2 + email.getBytes(StandardCharsets.UTF_8).length + 2 + password.length;
+    }
+
+    private static UserRecord decode(final ByteBuffer payload) {
+        final var type = payload.get();
+        final var id = new UUID(payload.getLong(), payload.getLong());
+        if (type == DELETE)
+            return delete(id);
+        if (type != PUT)
+            return null;
+
+        final var createdAt = Instant.ofEpochSecond(payload.getLong(), payload.getInt());
+        final var updatedAt = Instant.ofEpochSecond(payload.getLong(), payload.getInt());
+        final var version = payload.getLong();
+        final var email = new byte[payload.getShort()];
+        payload.get(email);
+        final var password = new byte[payload.getShort()];
+        payload.get(password);
+
+        return put(id, new String(email, StandardCharsets.UTF_8), password, createdAt, updatedAt, version);
+    }
+
+    private static int checksum(final byte[] bytes) {
+        final var crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
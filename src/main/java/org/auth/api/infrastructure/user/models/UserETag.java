@@ -0,0 +1,67 @@
+package org.auth.api.infrastructure.user.models;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public record UserETag(
+        String id,
+        long version
+) {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    public static UserETag with(final String id, final long version) {
+        return new UserETag(id, version);
+    }
+
+    public static Set<Long> expectedVersions(final String ifMatch, final String id) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.strip()))
+            return null;
+
+        final var versions = new HashSet<Long>();
+        for (final var tag : ifMatch.split(",")) {
+            final var value = unquote(tag.strip());
+            final var separator = value != null ? value.lastIndexOf('.') : -1;
+            if (separator < 0 || !id.equals(value.substring(0, separator)))
+                continue;
+
+            final var version = parseVersion(value.substring(separator + 1));
+            if (version != null)
+                versions.add(version);
+        }
+        return Set.copyOf(versions);
+    }
+
+    public String value() {
+        return "\"" + id + "." + version + "\"";
+    }
+
+    public boolean matches(final String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank())
+            return false;
+        if (ANY.equals(ifNoneMatch.strip()))
+            return true;
+
+        for (final var tag : ifNoneMatch.split(",")) {
+            final var value = tag.strip();
+            final var strong = value.startsWith(WEAK_PREFIX) ? value.substring(WEAK_PREFIX.length()) : value;
+            if (value().equals(strong))
+                return true;
+        }
+        return false;
+    }
+
+    private static Long parseVersion(final String version) {
+        try {
+            return Long.parseLong(version);
+        } catch (final NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static String unquote(final String tag) {
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\""))
+            return null;
+        return tag.substring(1, tag.length() - 1);
+    }
+}
@@ -0,0 +1,95 @@
+package org.auth.api.infrastructure.user.persitence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+public final class PasswordHashCodec {
+    private static final byte BCRYPT = 1;
+    private static final byte PREFIXED_BCRYPT = 2;
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+    private static final String ALPHABET = "./ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final Pattern bcryptPattern = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final int HEADER_LENGTH = 7;
+    private static final int DIGEST_CHARS = 53;
+    private static final int DIGEST_BYTES = (DIGEST_CHARS * 6 + 7) / 8;
+    private static final byte[] decodeTable = createDecodeTable();
+
+    private PasswordHashCodec() { }
+
+    public static byte[] encode(final String encodedPassword) {
+        if (encodedPassword.startsWith(BCRYPT_PREFIX)) {
+            final var bcrypt = encodedPassword.substring(BCRYPT_PREFIX.length());
+            if (bcryptPattern.matcher(bcrypt).matches())
+                return encodeBCrypt(PREFIXED_BCRYPT, bcrypt);
+        } else if (bcryptPattern.matcher(encodedPassword).matches()) {
+            return encodeBCrypt(BCRYPT, encodedPassword);
+        }
+        return encodedPassword.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static String decode(final byte[] storedPassword) {
+        if (storedPassword.length == 3 + DIGEST_BYTES) {
+            if (storedPassword[0] == BCRYPT)
+                return decodeBCrypt(storedPassword);
+            if (storedPassword[0] == PREFIXED_BCRYPT)
+                return BCRYPT_PREFIX + decodeBCrypt(storedPassword);
+        }
+        return new String(storedPassword, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encodeBCrypt(final byte tag, final String bcrypt) {
+        final var bytes = new byte[3 + DIGEST_BYTES];
+        bytes[0] = tag;
+        bytes[1] = (byte) bcrypt.charAt(2);
+        bytes[2] = (byte) Integer.parseInt(bcrypt, 4, 6, 10);
+
+        var buffer = 0;
+        var bits = 0;
+        var position = 3;
+        for (var i = HEADER_LENGTH; i < bcrypt.length(); i++) {
+            buffer = (buffer << 6) | decodeTable[bcrypt.charAt(i)];
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                bytes[position++] = (byte) (buffer >>> bits);
+            }
+        }
+        if (bits > 0)
+            bytes[position] = (byte) (buffer << (8 - bits));
+        return bytes;
+    }
+
+    private static String decodeBCrypt(final byte[] bytes) {
+        final var builder = new StringBuilder(HEADER_LENGTH + DIGEST_CHARS)
+                .append("$2")
+                .append((char) bytes[1])
+                .append('$');
+
+        final var cost = bytes[2];
+        if (cost < 10)
+            builder.append('0');
+        builder.append(cost).append('$');
+
+        var buffer = 0;
+        var bits = 0;
+        var position = 3;
+        for (var i = 0; i < DIGEST_CHARS; i++) {
+            if (bits < 6) {
+                buffer = (buffer << 8) | (bytes[position++] & 0xFF);
+                bits += 8;
+            }
+            bits -= 6;
+            builder.append(ALPHABET.charAt((buffer >>> bits) & 0x3F));
+        }
+        return builder.toString();
+    }
+
+    private static byte[] createDecodeTable() {
+        final var table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+        for (var i = 0; i < ALPHABET.length(); i++)
+            table[ALPHABET.charAt(i)] = (byte) i;
+        return table;
+    }
+}
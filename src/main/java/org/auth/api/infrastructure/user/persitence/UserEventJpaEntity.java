@@ -0,0 +1,98 @@
+package org.auth.api.infrastructure.user.persitence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.auth.api.infrastructure.user.events.UserEvent;
+import org.auth.api.infrastructure.user.events.UserEventType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity(name = "user_event")
+@Table(name = "user_events")
+public class UserEventJpaEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID userId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private UserEventType type;
+    @Column(name = "email", length = 100)
+    private String email;
+    @Column(name = "revoke_before", columnDefinition = "DATETIME(6)")
+    private Instant revokeBefore;
+    @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant occurredAt;
+
+    private UserEventJpaEntity(
+            final UUID userId,
+            final UserEventType type,
+            final String email,
+            final Instant revokeBefore,
+            final Instant occurredAt
+    ) {
+        this.userId = userId;
+        this.type = type;
+        this.email = email;
+        this.revokeBefore = revokeBefore;
+        this.occurredAt = occurredAt;
+    }
+
+    public UserEventJpaEntity() { }
+
+    public static UserEventJpaEntity with(
+            final UUID userId,
+            final UserEventType type,
+            final String email,
+            final Instant revokeBefore,
+            final Instant occurredAt
+    ) {
+        return new UserEventJpaEntity(userId, type, email, revokeBefore, occurredAt);
+    }
+
+    public UserEvent toEvent() {
+        return UserEvent.with(
+                getId(),
+                getUserId().toString(),
+                getType(),
+                getEmail(),
+                getRevokeBefore()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UserEventType getType() {
+        return type;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Instant getRevokeBefore() {
+        return revokeBefore;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
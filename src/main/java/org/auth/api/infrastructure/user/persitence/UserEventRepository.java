@@ -0,0 +1,30 @@
+package org.auth.api.infrastructure.user.persitence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserEventRepository extends JpaRepository<UserEventJpaEntity, Long> {
+    @Query("SELECT e FROM user_event e WHERE e.id > :after ORDER BY e.id")
+    List<UserEventJpaEntity> findAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT e FROM user_event e WHERE e.id IN :ids ORDER BY e.id")
+    List<UserEventJpaEntity> findByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM user_event e")
+    long findLastId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM user_event e WHERE e.occurredAt < :before")
+    int deleteOccurredBefore(@Param("before") Instant before);
+}
@@ -3,70 +3,103 @@ package org.auth.api.infrastructure.user.persitence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import org.auth.api.domain.user.User;
 import org.auth.api.domain.valueobjects.Email;
 import org.auth.api.domain.valueobjects.Identifier;
 import org.auth.api.domain.valueobjects.Password;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
+import java.util.UUID;
 
 @Entity(name = "user")
 @Table(name = "users")
-public class UserJpaEntity {
+@DynamicUpdate
+public class UserJpaEntity implements Persistable<UUID> {
     @Id
-    @Column(name = "id", nullable = false)
-    private String id;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID id;
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
-    @Column(name = "password", nullable = false, length = 100)
-    private String password;
+    @Column(name = "password", nullable = false, columnDefinition = "VARBINARY(255)")
+    private byte[] password;
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant createdAt;
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
+    @Column(name = "version", nullable = false)
+    private long version;
+    @Transient
+    private boolean isNew;
 
     private UserJpaEntity(
-            final String id,
+            final UUID id,
             final String email,
-            final String password,
+            final byte[] password,
             final Instant createdAt,
-            final Instant updatedAt
+            final Instant updatedAt,
+            final long version,
+            final boolean isNew
     ) {
         this.id = id;
         this.email = email;
         this.password = password;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
+        this.isNew = isNew;
     }
 
     public UserJpaEntity() { }
 
     public static UserJpaEntity from(final User user) {
         return new UserJpaEntity(
-                user.getId().getValue(),
+                UUID.fromString(user.getId().getValue()),
                 user.getEmail().getAddress(),
-                user.getPassword().getValue(),
+                PasswordHashCodec.encode(user.getPassword().getValue()),
                 user.getCreatedAt(),
-                user.getUpdatedAt()
+                user.getUpdatedAt(),
+                user.getSavedVersion(),
+                user.isNew()
         );
     }
 
     public User toAggregate() {
         return User.with(
-                Identifier.with(getId()),
+                Identifier.with(getId().toString()),
                 Email.with(getEmail()),
-                Password.withEncodedValue(getPassword()),
+                Password.withEncodedValue(PasswordHashCodec.decode(getPassword())),
                 getCreatedAt(),
-                getUpdatedAt()
+                getUpdatedAt(),
+                getVersion()
         );
     }
 
-    public String getId() {
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public UUID getId() {
         return id;
     }
 
-    public void setId(final String id) {
+    public void setId(final UUID id) {
         this.id = id;
     }
 
@@ -78,11 +111,11 @@ public class UserJpaEntity {
         this.email = email;
     }
 
-    public String getPassword() {
+    public byte[] getPassword() {
         return password;
     }
 
-    public void setPassword(final String password) {
+    public void setPassword(final byte[] password) {
         this.password = password;
     }
 
@@ -101,4 +134,12 @@ public class UserJpaEntity {
     public void setUpdatedAt(final Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
 }
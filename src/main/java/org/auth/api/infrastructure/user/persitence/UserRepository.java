@@ -1,11 +1,56 @@
 package org.auth.api.infrastructure.user.persitence;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<UserJpaEntity, String> {
+public interface UserRepository extends JpaRepository<UserJpaEntity, UUID> {
     Optional<UserJpaEntity> findByEmail(String email);
+
+    @Query("SELECT new org.auth.api.infrastructure.user.persitence.UserSummaryRow(u.id, u.email, u.version) FROM user u WHERE u.id = :id")
+    Optional<UserSummaryRow> findSummaryById(@Param("id") UUID id);
+
+    @Query("SELECT u.id AS id, u.createdAt AS createdAt, u.updatedAt AS updatedAt FROM user u WHERE u.id > :after ORDER BY u.id")
+    List<UserTimestamps> findTimestampsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE user u SET u.email = COALESCE(:email, u.email), u.password = COALESCE(:password, u.password), u.updatedAt = COALESCE(:updatedAt, u.updatedAt) WHERE u.id = :id")
+    int updateUser(
+            @Param("id") UUID id,
+            @Param("email") String email,
+            @Param("password") byte[] password,
+            @Param("updatedAt") Instant updatedAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE user u SET u.email = COALESCE(:email, u.email), u.password = COALESCE(:password, u.password), u.updatedAt = COALESCE(:updatedAt, u.updatedAt), u.version = u.version + 1 WHERE u.id = :id AND u.version = :version")
+    int updateUserVersion(
+            @Param("id") UUID id,
+            @Param("version") long version,
+            @Param("email") String email,
+            @Param("password") byte[] password,
+            @Param("updatedAt") Instant updatedAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM user u WHERE u.id = :id")
+    int deleteUserById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM user u WHERE u.id = :id AND u.version = :version")
+    int deleteUserByIdAndVersion(@Param("id") UUID id, @Param("version") long version);
 }
@@ -0,0 +1,15 @@
+package org.auth.api.infrastructure.user.persitence;
+
+import org.auth.api.domain.user.UserSummary;
+
+import java.util.UUID;
+
+public record UserSummaryRow(
+        UUID id,
+        String email,
+        long version
+) {
+    public UserSummary toSummary() {
+        return UserSummary.with(id.toString(), email, version);
+    }
+}
@@ -0,0 +1,10 @@
+package org.auth.api.infrastructure.user.persitence;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface UserTimestamps {
+    UUID getId();
+    Instant getCreatedAt();
+    Instant getUpdatedAt();
+}
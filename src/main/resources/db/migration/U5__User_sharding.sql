@@ -0,0 +1,2 @@
+DROP TABLE user_shard_buckets;
+DROP TABLE user_emails;
@@ -0,0 +1 @@
+ALTER TABLE user_emails DROP COLUMN claimed_at;
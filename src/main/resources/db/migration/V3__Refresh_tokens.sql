@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+  hash VARCHAR(43) NOT NULL PRIMARY KEY,
+  family VARCHAR(36) NOT NULL,
+  user_id VARCHAR(36) NOT NULL,
+  expires_at DATETIME(6) NOT NULL,
+  used_at DATETIME(6) NULL,
+  CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_token_family ON refresh_tokens (family);
+CREATE INDEX idx_refresh_token_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS user_emails (
+  email VARCHAR(100) NOT NULL PRIMARY KEY,
+  user_id BINARY(16) NOT NULL
+);
+
+CREATE INDEX idx_user_emails_user_id ON user_emails (user_id);
+
+CREATE TABLE IF NOT EXISTS user_shard_buckets (
+  bucket INT NOT NULL PRIMARY KEY,
+  shard INT NOT NULL
+);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS user_events (
+  id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  user_id BINARY(16) NOT NULL,
+  type VARCHAR(16) NOT NULL,
+  email VARCHAR(100) NULL,
+  revoke_before DATETIME(6) NULL,
+  occurred_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_user_events_occurred_at ON user_events (occurred_at);
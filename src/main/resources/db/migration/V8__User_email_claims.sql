@@ -0,0 +1 @@
+ALTER TABLE user_emails ADD COLUMN claimed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
@@ -2,12 +2,13 @@ package org.auth.api.application.user;
 
 import org.auth.api.application.user.create.CreateUserInput;
 import org.auth.api.application.user.create.DefaultCreateUser;
+import org.auth.api.domain.exceptions.BusyException;
+import org.auth.api.domain.exceptions.DuplicateEmailException;
 import org.auth.api.domain.exceptions.GatewayException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
-import org.auth.api.domain.user.User;
+import org.auth.api.domain.password.PasswordHasher;
 import org.auth.api.domain.user.UserGateway;
-import org.auth.api.domain.valueobjects.Email;
-import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -17,7 +18,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Objects;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -30,12 +30,18 @@ import static org.mockito.Mockito.*;
 public class CreateUserTest {
     @Mock
     private UserGateway gateway;
+    @Mock
+    private PasswordHasher passwordHasher;
     @InjectMocks
     private DefaultCreateUser useCase;
 
     @BeforeEach
     public void cleanUp() {
         reset(gateway);
+        reset(passwordHasher);
+
+        lenient().when(passwordHasher.hash(any()))
+                .thenAnswer(invocation -> PasswordFixture.encode(invocation.getArgument(0)));
     }
 
     @Test
@@ -44,9 +50,6 @@ public class CreateUserTest {
         final var expectedEmail = "test@mail.com";
         final var expectedPassword = "test12";
 
-        when(gateway.findByEmail(any()))
-                .thenReturn(Optional.empty());
-
         when(gateway.save(any()))
                 .thenAnswer(returnsFirstArg());
 
@@ -57,9 +60,7 @@ public class CreateUserTest {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        verify(gateway, times(1)).findByEmail(argThat(email ->
-            Objects.equals(expectedEmail, email.getAddress())
-        ));
+        verify(gateway, times(0)).findByEmail(any());
 
         verify(gateway, times(1)).save(argThat(user ->
             Objects.nonNull(user) &&
@@ -170,10 +171,9 @@ public class CreateUserTest {
         // given
         final var expectedEmail = "test@mail.com";
         final var expectedPassword = "test12";
-        final var expectedUser = User.newUser(Email.with(expectedEmail), Password.withRawValue(expectedEmail));
 
-        when(gateway.findByEmail(any()))
-                .thenReturn(Optional.of(expectedUser));
+        doThrow(DuplicateEmailException.with(null))
+                .when(gateway).save(any());
 
         // when
         final var actualException = assertThrows(NotificationException.class, () ->
@@ -190,20 +190,21 @@ public class CreateUserTest {
         assertEquals(1, emailErrors.size());
         assertEquals("email already used", emailErrors.get(0));
 
-        verify(gateway, times(1)).findByEmail(argThat(email ->
-            Objects.equals(expectedEmail, email.getAddress())
+        verify(gateway, times(0)).findByEmail(any());
+        verify(gateway, times(1)).save(argThat(user ->
+            Objects.equals(expectedEmail, user.getEmail().getAddress())
         ));
     }
 
     @Test
-    public void givenAValidData_whenCallsExecuteAndGatewayThrowsAnExceptionTryingFindUser_thenThrowsAnInternalErrorException() {
+    public void givenAValidData_whenCallsExecuteAndGatewayThrowsAnExceptionTryingSaveUser_thenThrowsAnInternalErrorException() {
         // given
         final var expectedEmail = "test@mail.com";
         final var expectedPassword = "test12";
         final var expectedExceptionMessage = "user gateway error";
 
         doThrow(GatewayException.with(expectedExceptionMessage, null))
-                .when(gateway).findByEmail(any());
+                .when(gateway).save(any());
 
         // when
         final var actualException = assertThrows(GatewayException.class, () ->
@@ -213,32 +214,27 @@ public class CreateUserTest {
         // then
         assertEquals(expectedExceptionMessage, actualException.getMessage());
 
-        verify(gateway, times(1)).findByEmail(any());
-        verify(gateway, times(0)).save(any());
+        verify(gateway, times(1)).save(any());
     }
 
     @Test
-    public void givenAValidData_whenCallsExecuteAndGatewayThrowsAnExceptionTryingSaveUser_thenThrowsAnInternalErrorException() {
+    public void givenAValidData_whenCallsExecuteAndPasswordHasherIsBusy_thenThrowsABusyException() {
         // given
         final var expectedEmail = "test@mail.com";
         final var expectedPassword = "test12";
-        final var expectedExceptionMessage = "user gateway error";
-
-        when(gateway.findByEmail(any()))
-                .thenReturn(Optional.empty());
 
-        doThrow(GatewayException.with(expectedExceptionMessage, null))
-                .when(gateway).save(any());
+        doThrow(BusyException.with(BusyException.PASSWORD_HASHER_BUSY, null))
+                .when(passwordHasher).hash(any());
 
         // when
-        final var actualException = assertThrows(GatewayException.class, () ->
+        final var actualException = assertThrows(BusyException.class, () ->
                 useCase.execute(CreateUserInput.with(expectedEmail, expectedPassword))
         );
 
         // then
-        assertEquals(expectedExceptionMessage, actualException.getMessage());
+        assertEquals(BusyException.PASSWORD_HASHER_BUSY, actualException.getMessage());
 
-        verify(gateway, times(1)).findByEmail(any());
-        verify(gateway, times(1)).save(any());
+        verify(gateway, times(0)).findByEmail(any());
+        verify(gateway, times(0)).save(any());
     }
 }
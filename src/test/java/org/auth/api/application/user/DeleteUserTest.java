@@ -2,6 +2,7 @@ package org.auth.api.application.user;
 
 import org.auth.api.application.user.delete.DefaultDeleteUser;
 import org.auth.api.application.user.delete.DeleteUserInput;
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.exceptions.notification.IdentifierException;
 import org.auth.api.domain.exceptions.notification.NotFoundException;
 import org.auth.api.domain.user.User;
@@ -9,7 +10,7 @@ import org.auth.api.domain.user.UserGateway;
 import org.auth.api.domain.utils.IDUtils;
 import org.auth.api.domain.valueobjects.Email;
 import org.auth.api.domain.valueobjects.Identifier;
-import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -23,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -45,26 +47,21 @@ public class DeleteUserTest {
     @Test
     public void givenAValidAndExistentUserId_whenCallsExecute_thenDeletesTheUser() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
         final var expectedId = expectedUser.getId().getValue();
 
-        when(gateway.findById(any()))
-                .thenReturn(Optional.of(expectedUser));
-
-        doNothing()
-                .when(gateway).deleteById(any());
+        when(gateway.deleteById(any()))
+                .thenReturn(true);
 
         // when
-        useCase.execute(DeleteUserInput.with(expectedId));
+        useCase.execute(DeleteUserInput.with(expectedId, null));
 
         // then
-        verify(gateway, times(1)).findById(argThat(id ->
-                Objects.equals(expectedId, id.getValue())
-        ));
-
         verify(gateway, times(1)).deleteById(argThat(id ->
                 Objects.equals(expectedId, id.getValue())
         ));
+
+        verify(gateway, times(0)).findById(any());
     }
 
     @Test
@@ -74,12 +71,12 @@ public class DeleteUserTest {
         final var expectedError = "%s with id %s was not found".formatted(User.class.getSimpleName(), expectedId)
                 .toLowerCase();
 
-        when(gateway.findById(any()))
-                .thenReturn(Optional.empty());
+        when(gateway.deleteById(any()))
+                .thenReturn(false);
 
         // when
         final var actualException = assertThrows(NotFoundException.class, () ->
-                useCase.execute(DeleteUserInput.with(expectedId))
+                useCase.execute(DeleteUserInput.with(expectedId, null))
         );
 
         final var actualErrors = actualException.getNotification().getNotifications();
@@ -89,7 +86,7 @@ public class DeleteUserTest {
         assertEquals(1, actualErrors.get("id").size());
         assertEquals(expectedError, actualErrors.get("id").get(0));
 
-        verify(gateway, times(1)).findById(argThat(id ->
+        verify(gateway, times(1)).deleteById(argThat(id ->
                 Objects.equals(expectedId, id.getValue())
         ));
     }
@@ -102,7 +99,7 @@ public class DeleteUserTest {
 
         // when
         final var actualException = assertThrows(IdentifierException.class, () ->
-                useCase.execute(DeleteUserInput.with(expectedId))
+                useCase.execute(DeleteUserInput.with(expectedId, null))
         );
 
         final var actualErrors = actualException.getNotification().getNotifications();
@@ -112,6 +109,113 @@ public class DeleteUserTest {
         assertEquals(1, actualErrors.get("id").size());
         assertEquals(expectedError, actualErrors.get("id").get(0));
 
+        verify(gateway, times(0)).deleteById(any());
+    }
+
+    @Test
+    public void givenTheCurrentVersion_whenCallsExecute_thenDeletesTheUserConditionally() {
+        // given
+        final var expectedId = IDUtils.newUUID();
+
+        when(gateway.deleteById(any(), eq(3L)))
+                .thenReturn(true);
+
+        // when
+        useCase.execute(DeleteUserInput.with(expectedId, Set.of(3L)));
+
+        // then
+        verify(gateway, times(1)).deleteById(argThat(id ->
+                Objects.equals(expectedId, id.getValue())
+        ), eq(3L));
+
+        verify(gateway, times(0)).deleteById(any());
         verify(gateway, times(0)).findById(any());
     }
+
+    @Test
+    public void givenAStaleVersion_whenCallsExecute_thenThrowsAVersionConflictException() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var expectedId = expectedUser.getId().getValue();
+
+        when(gateway.deleteById(any(), eq(3L)))
+                .thenReturn(false);
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(expectedUser));
+
+        // when
+        final var actualException = assertThrows(VersionConflictException.class, () ->
+                useCase.execute(DeleteUserInput.with(expectedId, Set.of(3L)))
+        );
+
+        // then
+        assertEquals(VersionConflictException.VERSION_CONFLICT, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAVersionOfANonExistentUser_whenCallsExecute_thenThrowsANotFoundException() {
+        // given
+        final var expectedId = IDUtils.newUUID();
+
+        when(gateway.deleteById(any(), eq(3L)))
+                .thenReturn(false);
+        when(gateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () ->
+                useCase.execute(DeleteUserInput.with(expectedId, Set.of(3L)))
+        );
+
+        // then
+        assertEquals(1, actualException.getNotification().getNotifications().get("id").size());
+        verify(gateway, times(0)).deleteById(any());
+    }
+
+    @Test
+    public void givenSeveralVersionsIncludingTheCurrentOne_whenCallsExecute_thenDeletesTheCurrentVersion() {
+        // given
+        final var newUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var expectedUser = User.with(
+                newUser.getId(),
+                newUser.getEmail(),
+                newUser.getPassword(),
+                newUser.getCreatedAt(),
+                newUser.getUpdatedAt(),
+                3
+        );
+        final var expectedId = expectedUser.getId().getValue();
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(expectedUser));
+        when(gateway.deleteById(any(), eq(3L)))
+                .thenReturn(true);
+
+        // when
+        useCase.execute(DeleteUserInput.with(expectedId, Set.of(2L, 3L)));
+
+        // then
+        verify(gateway, times(1)).deleteById(argThat(id ->
+                Objects.equals(expectedId, id.getValue())
+        ), eq(3L));
+    }
+
+    @Test
+    public void givenSeveralStaleVersions_whenCallsExecute_thenThrowsAVersionConflictException() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var expectedId = expectedUser.getId().getValue();
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(expectedUser));
+
+        // when
+        final var actualException = assertThrows(VersionConflictException.class, () ->
+                useCase.execute(DeleteUserInput.with(expectedId, Set.of(1L, 2L)))
+        );
+
+        // then
+        assertEquals(VersionConflictException.VERSION_CONFLICT, actualException.getMessage());
+        verify(gateway, times(0)).deleteById(any(), anyLong());
+    }
 }
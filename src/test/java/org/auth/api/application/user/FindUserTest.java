@@ -6,9 +6,10 @@ import org.auth.api.domain.exceptions.GatewayException;
 import org.auth.api.domain.exceptions.notification.NotFoundException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
 import org.auth.api.domain.user.User;
-import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.user.UserQueryGateway;
+import org.auth.api.domain.user.UserSummary;
 import org.auth.api.domain.valueobjects.Email;
-import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -26,7 +27,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class FindUserTest {
     @Mock
-    private UserGateway gateway;
+    private UserQueryGateway gateway;
     @InjectMocks
     private DefaultFindUser useCase;
 
@@ -38,10 +39,14 @@ public class FindUserTest {
     @Test
     public void givenAValidUserId_whenCallsExecute_thenReturnsTheUserInfo() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
 
-        when(gateway.findById(expectedUser.getId()))
-                .thenReturn(Optional.of(expectedUser));
+        when(gateway.findSummaryById(expectedUser.getId()))
+                .thenReturn(Optional.of(UserSummary.with(
+                        expectedUser.getId().getValue(),
+                        expectedUser.getEmail().getAddress(),
+                        expectedUser.getVersion()
+                )));
 
         // when
         final var actualOutput = useCase.execute(FindUserInput.with(expectedUser.getId().getValue()));
@@ -49,8 +54,9 @@ public class FindUserTest {
         // then
         assertEquals(expectedUser.getId().getValue(), actualOutput.id());
         assertEquals(expectedUser.getEmail().getAddress(), actualOutput.email());
+        assertEquals(expectedUser.getVersion(), actualOutput.version());
 
-        verify(gateway, times(1)).findById(any());
+        verify(gateway, times(1)).findSummaryById(any());
     }
 
     @Test
@@ -110,10 +116,10 @@ public class FindUserTest {
     @Test
     public void givenANonExistentUserId_whenCallsExecute_thenThrowsANotFoundException() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
         final var expectedExceptionMessage = "user with id %s was not found".formatted(expectedUser.getId().getValue());
 
-        when(gateway.findById(expectedUser.getId()))
+        when(gateway.findSummaryById(expectedUser.getId()))
                 .thenReturn(Optional.empty());
 
         // when
@@ -129,17 +135,17 @@ public class FindUserTest {
         assertEquals(1, errors.get("id").size());
         assertEquals(expectedExceptionMessage, errors.get("id").get(0));
 
-        verify(gateway, times(1)).findById(any());
+        verify(gateway, times(1)).findSummaryById(any());
     }
 
     @Test
     public void givenAValidUserId_whenCallsExecuteAndGatewayThrowsAnException_thenThrowsAInternalErrorException() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
         final var expectedExceptionMessage = "user gateway error";
 
         doThrow(GatewayException.with(expectedExceptionMessage, null))
-                .when(gateway).findById(expectedUser.getId());
+                .when(gateway).findSummaryById(expectedUser.getId());
 
         // when
         final var actualException = assertThrows(GatewayException.class,
@@ -147,6 +153,6 @@ public class FindUserTest {
 
         // then
         assertEquals(expectedExceptionMessage, actualException.getMessage());
-        verify(gateway, times(1)).findById(any());
+        verify(gateway, times(1)).findSummaryById(any());
     }
 }
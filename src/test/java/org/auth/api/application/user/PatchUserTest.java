@@ -0,0 +1,228 @@
+package org.auth.api.application.user;
+
+import org.auth.api.application.user.patch.DefaultPatchUser;
+import org.auth.api.application.user.patch.PatchUserInput;
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.exceptions.VersionConflictException;
+import org.auth.api.domain.exceptions.notification.NotFoundException;
+import org.auth.api.domain.exceptions.notification.NotificationException;
+import org.auth.api.domain.password.PasswordHasher;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.utils.IDUtils;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class PatchUserTest {
+    @Mock
+    private UserGateway gateway;
+    @Mock
+    private PasswordHasher passwordHasher;
+    @InjectMocks
+    private DefaultPatchUser useCase;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(gateway);
+        reset(passwordHasher);
+
+        lenient().when(passwordHasher.hash(any()))
+                .thenAnswer(invocation -> PasswordFixture.encode(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void givenOnlyAnEmail_whenCallsExecute_thenUpdatesTheEmailWithoutHashingThePassword() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = "newtest@mail.com";
+        final var expectedPassword = actualUser.getPassword();
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        when(gateway.findByEmail(any()))
+                .thenReturn(Optional.empty());
+
+        when(gateway.save(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        useCase.execute(PatchUserInput.with(expectedId, expectedEmail, null, null));
+
+        // then
+        verify(passwordHasher, never()).hash(any());
+
+        verify(gateway, times(1)).save(argThat(user ->
+                Objects.equals(expectedEmail, user.getEmail().getAddress()) &&
+                Objects.equals(expectedPassword, user.getPassword())
+        ));
+    }
+
+    @Test
+    public void givenOnlyAPassword_whenCallsExecute_thenUpdatesThePasswordWithoutCheckingTheEmail() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = actualUser.getEmail();
+        final var expectedPassword = "newtest123";
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        when(gateway.save(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        useCase.execute(PatchUserInput.with(expectedId, null, expectedPassword, null));
+
+        // then
+        verify(gateway, never()).findByEmail(any());
+        verify(passwordHasher, times(1)).hash(expectedPassword);
+
+        verify(gateway, times(1)).save(argThat(user ->
+                Objects.equals(expectedEmail, user.getEmail()) &&
+                PasswordFixture.matches(expectedPassword, user.getPassword().getValue())
+        ));
+    }
+
+    @Test
+    public void givenNoFields_whenCallsExecute_thenDoesNotSaveTheUser() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var expectedId = actualUser.getId().getValue();
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        // when
+        useCase.execute(PatchUserInput.with(expectedId, null, null, null));
+
+        // then
+        verify(passwordHasher, never()).hash(any());
+        verify(gateway, never()).save(any());
+    }
+
+    @Test
+    public void givenAnInvalidEmail_whenCallsExecute_thenThrowsANotificationException() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = "test@mailcom";
+
+        final var expectedErrors = Map.of(
+                "email", List.of("email is invalid")
+        );
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        // when
+        final var actualException = assertThrows(NotificationException.class, () ->
+                useCase.execute(PatchUserInput.with(expectedId, expectedEmail, null, null))
+        );
+
+        final var actualErrors = actualException.getNotification().getNotifications();
+
+        // then
+        assertEquals(expectedErrors.size(), actualErrors.size());
+        assertEquals(expectedErrors.get("email").get(0), actualErrors.get("email").get(0));
+
+        verify(gateway, never()).save(any());
+    }
+
+    @Test
+    public void givenANonExistentId_whenCallsExecute_thenThrowsANotFoundException() {
+        // given
+        final var expectedId = IDUtils.newUUID();
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        assertThrows(NotFoundException.class, () ->
+                useCase.execute(PatchUserInput.with(expectedId, "test@mail.com", null, null))
+        );
+
+        // then
+        verify(gateway, times(1)).findById(argThat(id ->
+                Objects.equals(expectedId, id.getValue())
+        ));
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsExecute_thenThrowsAVersionConflictException() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var expectedId = actualUser.getId().getValue();
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        // when
+        final var actualException = assertThrows(VersionConflictException.class, () ->
+                useCase.execute(PatchUserInput.with(expectedId, "newtest@mail.com", null, Set.of(2L)))
+        );
+
+        // then
+        assertEquals(VersionConflictException.VERSION_CONFLICT, actualException.getMessage());
+
+        verify(gateway, never()).findByEmail(any());
+        verify(gateway, never()).save(any());
+    }
+
+    @Test
+    public void givenAnEmailTakenConcurrently_whenCallsExecute_thenThrowsANotificationException() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = "newtest@mail.com";
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        when(gateway.findByEmail(any()))
+                .thenReturn(Optional.empty());
+
+        doThrow(DuplicateEmailException.with(null))
+                .when(gateway).save(any());
+
+        // when
+        final var actualException = assertThrows(NotificationException.class, () ->
+                useCase.execute(PatchUserInput.with(expectedId, expectedEmail, null, null))
+        );
+
+        final var actualErrors = actualException.getNotification().getNotifications();
+
+        // then
+        assertEquals(1, actualErrors.size());
+        assertEquals(List.of(DuplicateEmailException.EMAIL_ALREADY_USED), actualErrors.get("email"));
+
+        verify(gateway, times(1)).save(any());
+    }
+}
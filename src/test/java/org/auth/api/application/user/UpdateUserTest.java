@@ -2,15 +2,17 @@ package org.auth.api.application.user;
 
 import org.auth.api.application.user.update.DefaultUpdateUser;
 import org.auth.api.application.user.update.UpdateUserInput;
+import org.auth.api.domain.exceptions.DuplicateEmailException;
 import org.auth.api.domain.exceptions.GatewayException;
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.exceptions.notification.NotFoundException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
+import org.auth.api.domain.password.PasswordHasher;
 import org.auth.api.domain.user.User;
 import org.auth.api.domain.user.UserGateway;
 import org.auth.api.domain.utils.IDUtils;
-import org.auth.api.domain.utils.PasswordUtils;
 import org.auth.api.domain.valueobjects.Email;
-import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,18 +38,24 @@ import static org.mockito.Mockito.*;
 public class UpdateUserTest {
     @Mock
     private UserGateway gateway;
+    @Mock
+    private PasswordHasher passwordHasher;
     @InjectMocks
     private DefaultUpdateUser useCase;
 
     @BeforeEach
     public void cleanUp() {
         reset(gateway);
+        reset(passwordHasher);
+
+        lenient().when(passwordHasher.hash(any()))
+                .thenAnswer(invocation -> PasswordFixture.encode(invocation.getArgument(0)));
     }
 
     @Test
     public void givenValidData_whenCallsExecute_thenUpdatesUserData() {
         // given
-        final var actualUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
 
         final var expectedId = actualUser.getId().getValue();
         final var expectedEmail = "newtest@mail.com";
@@ -62,7 +71,7 @@ public class UpdateUserTest {
                 .thenAnswer(returnsFirstArg());
 
         // when
-        useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword));
+        useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, null));
 
         // then
         verify(gateway, times(1)).findById(argThat(id ->
@@ -75,14 +84,14 @@ public class UpdateUserTest {
 
         verify(gateway, times(1)).save(argThat(user ->
             Objects.equals(expectedEmail, user.getEmail().getAddress()) &&
-            PasswordUtils.verifyPassword(expectedPassword, user.getPassword().getValue())
+            PasswordFixture.matches(expectedPassword, user.getPassword().getValue())
         ));
     }
 
     @Test
     public void givenInvalidData_whenCallsExecute_thenThrowsANotificationException() {
         // given
-        final var actualUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
 
         final var expectedId = actualUser.getId().getValue();
         final var expectedEmail = "test@mailcom";
@@ -98,7 +107,7 @@ public class UpdateUserTest {
 
         // when
         final var actualException = assertThrows(NotificationException.class, () ->
-                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword))
+                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, null))
         );
 
         final var actualErrors = actualException.getNotification().getNotifications();
@@ -130,7 +139,7 @@ public class UpdateUserTest {
 
         // when
         final var actualException = assertThrows(NotificationException.class, () ->
-            useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword))
+            useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, null))
         );
 
         final var actualErrors = actualException.getNotification().getNotifications();
@@ -145,8 +154,8 @@ public class UpdateUserTest {
     @Test
     public void givenAnAlreadyUsedEmail_whenCallsExecute_thenThrowsANotificationException() {
         // given
-        final var actualUser1 = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
-        final var actualUser2 = User.newUser(Email.with("newtest@mail.com"), Password.withRawValue("test123"));
+        final var actualUser1 = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var actualUser2 = User.newUser(Email.with("newtest@mail.com"), PasswordFixture.withRawValue("test123"));
 
         final var expectedId = actualUser1.getId().getValue();
         final var expectedEmail = "newtest@mail.com";
@@ -164,7 +173,7 @@ public class UpdateUserTest {
 
         // when
         final var actualException = assertThrows(NotificationException.class, () ->
-                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword))
+                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, null))
         );
 
         final var actualErrors = actualException.getNotification().getNotifications();
@@ -201,7 +210,7 @@ public class UpdateUserTest {
 
         // when
         final var actualException = assertThrows(NotFoundException.class, () ->
-                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword))
+                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, null))
         );
 
         final var actualErrors = actualException.getNotification().getNotifications();
@@ -220,7 +229,7 @@ public class UpdateUserTest {
     @Test
     public void givenValidData_whenCallsExecuteAndGatewayThrowsAnException_thenThrowsAGatewayException() {
         // given
-        final var actualUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test123"));
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
 
         final var expectedId = actualUser.getId().getValue();
         final var expectedEmail = "newtest@mail.com";
@@ -231,7 +240,7 @@ public class UpdateUserTest {
 
         // when
         final var actualException = assertThrows(GatewayException.class, () ->
-                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword))
+                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, null))
         );
 
         // then
@@ -241,4 +250,113 @@ public class UpdateUserTest {
                 Objects.equals(expectedId, id.getValue())
         ));
     }
+
+    @Test
+    public void givenAStaleVersion_whenCallsExecute_thenThrowsAVersionConflictException() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = "newtest@mail.com";
+        final var expectedPassword = "newtest123";
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        // when
+        final var actualException = assertThrows(VersionConflictException.class, () ->
+                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, Set.of(1L)))
+        );
+
+        // then
+        assertEquals(VersionConflictException.VERSION_CONFLICT, actualException.getMessage());
+
+        verify(gateway, times(0)).save(any());
+    }
+
+    @Test
+    public void givenAConcurrentUpdate_whenCallsExecute_thenThrowsAVersionConflictException() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = "newtest@mail.com";
+        final var expectedPassword = "newtest123";
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        when(gateway.findByEmail(any()))
+                .thenReturn(Optional.empty());
+
+        doThrow(VersionConflictException.with(null))
+                .when(gateway).save(any());
+
+        // when
+        final var actualException = assertThrows(VersionConflictException.class, () ->
+                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, Set.of(0L)))
+        );
+
+        // then
+        assertEquals(VersionConflictException.VERSION_CONFLICT, actualException.getMessage());
+
+        verify(gateway, times(1)).save(argThat(user ->
+                user.getVersion() == 0 && user.getSavedVersion() == 1
+        ));
+    }
+
+    @Test
+    public void givenAnEmailTakenConcurrently_whenCallsExecute_thenThrowsANotificationException() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = "newtest@mail.com";
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        when(gateway.findByEmail(any()))
+                .thenReturn(Optional.empty());
+
+        doThrow(DuplicateEmailException.with(null))
+                .when(gateway).save(any());
+
+        // when
+        final var actualException = assertThrows(NotificationException.class, () ->
+                useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, "newtest123", null))
+        );
+
+        final var actualErrors = actualException.getNotification().getNotifications();
+
+        // then
+        assertEquals(1, actualErrors.size());
+        assertEquals(List.of(DuplicateEmailException.EMAIL_ALREADY_USED), actualErrors.get("email"));
+
+        verify(gateway, times(1)).save(any());
+    }
+
+    @Test
+    public void givenSeveralVersionsIncludingTheCurrentOne_whenCallsExecute_thenUpdatesUserData() {
+        // given
+        final var actualUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+        final var expectedId = actualUser.getId().getValue();
+        final var expectedEmail = "newtest@mail.com";
+        final var expectedPassword = "newtest123";
+
+        when(gateway.findById(any()))
+                .thenReturn(Optional.of(actualUser));
+
+        when(gateway.findByEmail(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        useCase.execute(UpdateUserInput.with(expectedId, expectedEmail, expectedPassword, Set.of(0L, 5L)));
+
+        // then
+        verify(gateway, times(1)).save(argThat(user ->
+                user.getVersion() == 0 && user.getSavedVersion() == 1
+        ));
+    }
 }
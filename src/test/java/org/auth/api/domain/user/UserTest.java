@@ -5,10 +5,12 @@ import org.auth.api.domain.utils.IDUtils;
 import org.auth.api.domain.valueobjects.Email;
 import org.auth.api.domain.valueobjects.Identifier;
 import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,7 +20,7 @@ public class UserTest {
     public void givenValidData_whenCallsNewUser_thenCreatesAnUser() {
         // given
         final var expectedEmail = Email.with("test@mail.com");
-        final var expectedPassword = Password.withRawValue("test123");
+        final var expectedPassword = PasswordFixture.withRawValue("test123");
 
         // when
         final var actualUser = User.newUser(expectedEmail, expectedPassword);
@@ -30,6 +32,7 @@ public class UserTest {
         assertNotNull(actualUser.getCreatedAt());
         assertNotNull(actualUser.getUpdatedAt());
         assertEquals(actualUser.getCreatedAt(), actualUser.getUpdatedAt());
+        assertEquals(0, actualUser.getVersion());
     }
 
     @Test
@@ -55,9 +58,10 @@ public class UserTest {
         // given
         final var expectedId = Identifier.with(IDUtils.newUUID());
         final var expectedEmail = Email.with("test@mail.com");
-        final var expectedPassword = Password.withRawValue("test123");
+        final var expectedPassword = PasswordFixture.withRawValue("test123");
         final var expectedCreatedAt = Instant.now();
         final var expectedUpdatedAt = Instant.now();
+        final var expectedVersion = 3L;
 
         // when
         final var actualUser = User.with(
@@ -65,7 +69,8 @@ public class UserTest {
                 expectedEmail,
                 expectedPassword,
                 expectedCreatedAt,
-                expectedUpdatedAt
+                expectedUpdatedAt,
+                expectedVersion
         );
 
         // then
@@ -74,6 +79,7 @@ public class UserTest {
         assertEquals(expectedPassword, actualUser.getPassword());
         assertEquals(expectedCreatedAt, actualUser.getCreatedAt());
         assertEquals(expectedUpdatedAt, actualUser.getUpdatedAt());
+        assertEquals(expectedVersion, actualUser.getVersion());
     }
 
     @Test
@@ -91,7 +97,8 @@ public class UserTest {
                 expectedEmail,
                 expectedPassword,
                 expectedCreatedAt,
-                expectedUpdatedAt
+                expectedUpdatedAt,
+                0
         ));
 
         final var errors = actualException.getErrorHandler().getErrors();
@@ -110,7 +117,7 @@ public class UserTest {
         // given
         final var expectedId = Identifier.with(IDUtils.newUUID());
         final var expectedEmail = Email.with("test@mail.com");
-        final var expectedPassword = Password.withRawValue("test123");
+        final var expectedPassword = PasswordFixture.withRawValue("test123");
         final var expectedCreatedAt = Instant.now();
         final var expectedUpdatedAt = expectedCreatedAt.minusSeconds(1);
 
@@ -120,7 +127,8 @@ public class UserTest {
                 expectedEmail,
                 expectedPassword,
                 expectedCreatedAt,
-                expectedUpdatedAt
+                expectedUpdatedAt,
+                0
         ));
 
         final var errors = actualException.getErrorHandler().getErrors();
@@ -130,10 +138,35 @@ public class UserTest {
         assertEquals("update at must not come before created at", errors.get(0).message());
     }
 
+    @Test
+    public void givenANegativeVersion_whenCallsWith_thenThrowsAValidationException() {
+        // given
+        final var expectedId = Identifier.with(IDUtils.newUUID());
+        final var expectedEmail = Email.with("test@mail.com");
+        final var expectedPassword = PasswordFixture.withRawValue("test123");
+        final var expectedCreatedAt = Instant.now();
+
+        // when
+        final var actualException = assertThrows(ValidationException.class, () -> User.with(
+                expectedId,
+                expectedEmail,
+                expectedPassword,
+                expectedCreatedAt,
+                expectedCreatedAt,
+                -1
+        ));
+
+        final var errors = actualException.getErrorHandler().getErrors();
+
+        // then
+        assertEquals(1, errors.size());
+        assertEquals("version must not be negative", errors.get(0).message());
+    }
+
     @Test
     public void givenAnUserAndANewEmail_whenCallsUpdateEmail_thenUpdatesUserEmail() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test12"));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
 
         final var expectedId = expectedUser.getId();
         final var newEmail = Email.with("newtest@mail.com");
@@ -156,11 +189,11 @@ public class UserTest {
     @Test
     public void givenAnUserAndANewPassword_whenCallsUpdateEmail_thenUpdatesUserPassword() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test12"));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
 
         final var expectedId = expectedUser.getId();
         final var expectedEmail = expectedUser.getEmail();
-        final var newPassword = Password.withRawValue("newtest12");
+        final var newPassword = PasswordFixture.withRawValue("newtest12");
         final var expectedCreatedAt = expectedUser.getCreatedAt();
         final var oldUpdatedAt = expectedUser.getUpdatedAt();
 
@@ -175,4 +208,64 @@ public class UserTest {
         assertNotEquals(oldUpdatedAt, expectedUser.getUpdatedAt());
         assertTrue(expectedUser.getUpdatedAt().isAfter(expectedUser.getCreatedAt()));
     }
+
+    @Test
+    public void givenAnUserAndARehashedPassword_whenCallsRehashPassword_thenReplacesThePasswordKeepingUpdatedAt() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+
+        final var expectedId = expectedUser.getId();
+        final var expectedEmail = expectedUser.getEmail();
+        final var newPassword = PasswordFixture.withRawValue("test12");
+        final var expectedCreatedAt = expectedUser.getCreatedAt();
+        final var expectedUpdatedAt = expectedUser.getUpdatedAt();
+
+        // when
+        expectedUser.rehashPassword(newPassword);
+
+        // then
+        assertEquals(expectedId, expectedUser.getId());
+        assertEquals(expectedEmail, expectedUser.getEmail());
+        assertEquals(newPassword, expectedUser.getPassword());
+        assertEquals(expectedCreatedAt, expectedUser.getCreatedAt());
+        assertEquals(expectedUpdatedAt, expectedUser.getUpdatedAt());
+    }
+
+    @Test
+    public void givenALoadedUser_whenCallsUpdates_thenTracksTheChanges() {
+        // given
+        final var newUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var loadedUser = User.with(
+                newUser.getId(),
+                newUser.getEmail(),
+                newUser.getPassword(),
+                newUser.getCreatedAt(),
+                newUser.getUpdatedAt(),
+                2
+        );
+        final var rehashedUser = User.with(
+                newUser.getId(),
+                newUser.getEmail(),
+                newUser.getPassword(),
+                newUser.getCreatedAt(),
+                newUser.getUpdatedAt(),
+                2
+        );
+
+        // when
+        loadedUser.updateEmail(Email.with("other@mail.com"));
+        rehashedUser.rehashPassword(PasswordFixture.withRawValue("test123"));
+
+        // then
+        assertTrue(newUser.isNew());
+        assertTrue(newUser.getChanges().isEmpty());
+
+        assertFalse(loadedUser.isNew());
+        assertEquals(Set.of(UserChange.EMAIL, UserChange.UPDATED_AT, UserChange.VERSION), loadedUser.getChanges());
+        assertEquals(3, loadedUser.getSavedVersion());
+
+        assertFalse(rehashedUser.isNew());
+        assertEquals(Set.of(UserChange.PASSWORD), rehashedUser.getChanges());
+        assertEquals(2, rehashedUser.getSavedVersion());
+    }
 }
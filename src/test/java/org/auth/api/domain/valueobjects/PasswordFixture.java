@@ -0,0 +1,54 @@
+package org.auth.api.domain.valueobjects;
+
+import org.auth.api.domain.password.PasswordHasher;
+import org.auth.api.domain.utils.PasswordUtils;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+public final class PasswordFixture {
+    private static final PasswordEncoder encoder = createEncoder();
+
+    public static final PasswordHasher HASHER = new PasswordHasher() {
+        @Override
+        public String hash(final String rawPassword) {
+            return encode(rawPassword);
+        }
+
+        @Override
+        public boolean verify(final String rawPassword, final String encodedPassword) {
+            return matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public boolean needsRehash(final String encodedPassword) {
+            return false;
+        }
+    };
+
+    private PasswordFixture() { }
+
+    public static Password withRawValue(final String value) {
+        return Password.withRawValue(value, HASHER);
+    }
+
+    public static String encode(final String rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    public static boolean matches(final String rawPassword, final String encodedPassword) {
+        return encoder.matches(rawPassword, encodedPassword);
+    }
+
+    private static PasswordEncoder createEncoder() {
+        final var bcrypt = new BCryptPasswordEncoder();
+        final var delegating = new DelegatingPasswordEncoder(
+                PasswordUtils.LEGACY_ALGORITHM,
+                Map.of(PasswordUtils.LEGACY_ALGORITHM, bcrypt)
+        );
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+}
@@ -12,7 +12,7 @@ public class PasswordTest {
     @Test
     public void givenAValidPassword_whenCallsWithRawValue_thenCreatesAPassword() {
         final var expectedPassword = "test12";
-        final var actualPassword = Password.withRawValue(expectedPassword);
+        final var actualPassword = Password.withRawValue(expectedPassword, PasswordFixture.HASHER);
         assertNotEquals(expectedPassword, actualPassword.getValue());
         assertTrue(PasswordUtils.isEncodedPassword(actualPassword.getValue()));
     }
@@ -20,7 +20,7 @@ public class PasswordTest {
     @Test
     public void givenAPasswordWithLessThan6Characters_whenCallsWithRawValue_thenThrowsAValidationException() {
         final String expectedPassword = "test1";
-        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword));
+        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword, PasswordFixture.HASHER));
         final var errors = actualException.getErrorHandler().getErrors();
         assertEquals(1, errors.size());
         assertEquals("password must have more than 5 characters", errors.get(0).message());
@@ -29,7 +29,7 @@ public class PasswordTest {
     @Test
     public void givenANullPassword_whenCallsWithRawValue_thenThrowsAValidationException() {
         final String expectedPassword = null;
-        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword));
+        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword, PasswordFixture.HASHER));
         final var errors = actualException.getErrorHandler().getErrors();
         assertEquals(1, errors.size());
         assertEquals("password must not be null", errors.get(0).message());
@@ -38,7 +38,7 @@ public class PasswordTest {
     @Test
     public void givenAEmptyPassword_whenCallsWithRawValue_thenThrowsAValidationException() {
         final String expectedPassword = "   ";
-        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword));
+        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword, PasswordFixture.HASHER));
         final var errors = actualException.getErrorHandler().getErrors();
         assertEquals(1, errors.size());
         assertEquals("password must not be empty", errors.get(0).message());
@@ -47,7 +47,7 @@ public class PasswordTest {
     @Test
     public void givenAPasswordLessThan6Characters_whenCallsWithRawValue_thenThrowsAValidationException() {
         final String expectedPassword = "12345";
-        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword));
+        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword, PasswordFixture.HASHER));
         final var errors = actualException.getErrorHandler().getErrors();
         assertEquals(1, errors.size());
         assertEquals("password must have more than 5 characters", errors.get(0).message());
@@ -57,7 +57,7 @@ public class PasswordTest {
     public void givenAPasswordGreaterThan100Characters_whenCallsWithRawValue_thenThrowsAValidationException() {
         final String expectedPassword = "1HIU213123ui789#@asdlakjdkwqe123l123817sadu&892313yusdaiudy12371283asdhauey178231893123iU*(&89213huis";
         assertEquals(101, expectedPassword.length());
-        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword));
+        final var actualException = assertThrows(ValidationException.class, () -> Password.withRawValue(expectedPassword, PasswordFixture.HASHER));
         final var errors = actualException.getErrorHandler().getErrors();
         assertEquals(1, errors.size());
         assertEquals("password must not have more than 100 characters", errors.get(0).message());
@@ -65,7 +65,7 @@ public class PasswordTest {
 
     @Test
     public void givenAnEncodedPassword_whenCallsWithEncodedValue_thenCreatesAPassword() {
-        final var expectedPassword = PasswordUtils.encodePassword("test12");
+        final var expectedPassword = PasswordFixture.encode("test12");
         final var actualPassword = Password.withEncodedValue(expectedPassword);
         assertEquals(expectedPassword, actualPassword.getValue());
     }
@@ -78,4 +78,29 @@ public class PasswordTest {
         assertEquals(1, errors.size());
         assertEquals("password must be encoded", errors.get(0).message());
     }
+
+    @Test
+    public void givenALegacyBCryptPassword_whenCallsWithEncodedValue_thenCreatesABCryptPassword() {
+        final var expectedPassword = "$2a$10$abcdefghijklmnopqrstuuCCNOYVtkKAM2nfiLvJvBcBLSkw0zGu2";
+        final var actualPassword = Password.withEncodedValue(expectedPassword);
+        assertEquals(expectedPassword, actualPassword.getValue());
+        assertEquals("bcrypt", actualPassword.getAlgorithm());
+    }
+
+    @Test
+    public void givenAnAlgorithmPrefixedPassword_whenCallsWithEncodedValue_thenCreatesAPasswordWithThatAlgorithm() {
+        final var expectedPassword = "{argon2}$argon2id$v=19$m=16384,t=2,p=1$c2FsdHNhbHRzYWx0$aGFzaGhhc2hoYXNoaGFzaGhhc2g";
+        final var actualPassword = Password.withEncodedValue(expectedPassword);
+        assertEquals(expectedPassword, actualPassword.getValue());
+        assertEquals("argon2", actualPassword.getAlgorithm());
+    }
+
+    @Test
+    public void givenAPrefixWithoutHash_whenCallsWithEncodedValue_thenThrowsAValidationException() {
+        final var expectedPassword = "{argon2}";
+        final var actualException = assertThrows(ValidationException.class, () -> Password.withEncodedValue(expectedPassword));
+        final var errors = actualException.getErrorHandler().getErrors();
+        assertEquals(1, errors.size());
+        assertEquals("password must be encoded", errors.get(0).message());
+    }
 }
@@ -1,7 +1,12 @@
 package org.auth.api.infrastructure;
 
 
+import org.auth.api.infrastructure.config.AdminConfig;
+import org.auth.api.infrastructure.config.AuthenticationConfig;
+import org.auth.api.infrastructure.config.IntrospectionConfig;
+import org.auth.api.infrastructure.config.LoginThrottlingConfig;
 import org.auth.api.infrastructure.config.ObjectMapperConfig;
+import org.auth.api.infrastructure.config.PasswordHasherConfig;
 import org.auth.api.infrastructure.config.SecurityConfig;
 import org.auth.api.infrastructure.config.UserDetailsConfig;
 import org.auth.api.infrastructure.services.security.AuthTokenService;
@@ -18,7 +23,17 @@ import java.lang.annotation.*;
 @Inherited
 @ActiveProfiles("test-integration")
 @Tag("integrationTest")
-@Import({SecurityConfig.class, ObjectMapperConfig.class, AuthTokenService.class, UserDetailsConfig.class})
+@Import({
+        SecurityConfig.class,
+        ObjectMapperConfig.class,
+        PasswordHasherConfig.class,
+        AuthenticationConfig.class,
+        LoginThrottlingConfig.class,
+        IntrospectionConfig.class,
+        AdminConfig.class,
+        AuthTokenService.class,
+        UserDetailsConfig.class
+})
 @WebMvcTest
 public @interface ControllerTest {
     @AliasFor(annotation = WebMvcTest.class , attribute = "controllers")
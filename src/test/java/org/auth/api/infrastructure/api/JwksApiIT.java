@@ -0,0 +1,40 @@
+package org.auth.api.infrastructure.api;
+
+import org.auth.api.infrastructure.ControllerTest;
+import org.auth.api.infrastructure.services.security.jwt.JwtKeyRing;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = JwksApi.class)
+public class JwksApiIT {
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void givenAnAnonymousClient_whenAccessesJwks_thenReturnsThePublicKeysWithCacheHeaders() throws Exception {
+        // given
+        final var expectedKid = jwtKeyRing.getSigningKey().kid();
+
+        // when
+        final var request = get("/.well-known/jwks.json")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid", equalTo(expectedKid)))
+                .andExpect(jsonPath("$.keys[0].kty", equalTo("RSA")))
+                .andExpect(jsonPath("$.keys[0].alg", equalTo("RS256")))
+                .andExpect(jsonPath("$.keys[0].d").doesNotExist());
+    }
+}
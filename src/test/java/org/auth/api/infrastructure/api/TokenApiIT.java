@@ -0,0 +1,127 @@
+package org.auth.api.infrastructure.api;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.ControllerTest;
+import org.auth.api.infrastructure.config.json.Json;
+import org.auth.api.infrastructure.services.security.AuthTokenService;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.auth.api.infrastructure.token.models.IntrospectionRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.auth.api.infrastructure.config.UserDetailsConfig.USER_EMAIL;
+import static org.auth.api.infrastructure.config.UserDetailsConfig.USER_PASSWORD;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = TokenApi.class)
+public class TokenApiIT {
+    private static final String CLIENT_ID = "introspector";
+    private static final String CLIENT_SECRET = "introspector-secret";
+
+    @Autowired
+    private AuthTokenService authTokenService;
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void givenValidAndInvalidTokens_whenAccessesIntrospect_thenReturnsTheStateOfEachToken() throws Exception {
+        // given
+        final var user = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var token = authTokenService.createToken(UserCredentials.with(user)).substring("Bearer ".length());
+        final var requestContent = Json.marshal(new IntrospectionRequest(List.of(token, "invalid")));
+
+        // when
+        final var request = post("/tokens/introspect")
+                .with(httpBasic(CLIENT_ID, CLIENT_SECRET))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].active", equalTo(true)))
+                .andExpect(jsonPath("$.results[0].sub", equalTo(user.getId().getValue())))
+                .andExpect(jsonPath("$.results[0].exp", notNullValue()))
+                .andExpect(jsonPath("$.results[1].active", equalTo(false)))
+                .andExpect(jsonPath("$.results[1].sub").doesNotExist());
+    }
+
+    @Test
+    public void givenTooManyTokens_whenAccessesIntrospect_thenReturnsBadRequest() throws Exception {
+        // given
+        final var requestContent = Json.marshal(new IntrospectionRequest(Collections.nCopies(101, "token")));
+
+        // when
+        final var request = post("/tokens/introspect")
+                .with(httpBasic(CLIENT_ID, CLIENT_SECRET))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenAnAnonymousCaller_whenAccessesIntrospect_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var requestContent = Json.marshal(new IntrospectionRequest(List.of("token")));
+
+        // when
+        final var request = post("/tokens/introspect")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void givenAWrongClientSecret_whenAccessesIntrospect_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var requestContent = Json.marshal(new IntrospectionRequest(List.of("token")));
+
+        // when
+        final var request = post("/tokens/introspect")
+                .with(httpBasic(CLIENT_ID, CLIENT_SECRET + "1"))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void givenUserCredentials_whenAccessesIntrospect_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var requestContent = Json.marshal(new IntrospectionRequest(List.of("token")));
+
+        // when
+        final var request = post("/tokens/introspect")
+                .with(httpBasic(USER_EMAIL, USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isUnauthorized());
+    }
+}
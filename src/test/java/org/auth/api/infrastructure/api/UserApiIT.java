@@ -5,25 +5,42 @@ import org.auth.api.application.user.create.CreateUserOutput;
 import org.auth.api.application.user.delete.DeleteUser;
 import org.auth.api.application.user.find.FindUser;
 import org.auth.api.application.user.find.FindUserOutput;
+import org.auth.api.application.user.patch.PatchUser;
 import org.auth.api.application.user.update.UpdateUser;
+import org.auth.api.domain.exceptions.BusyException;
 import org.auth.api.domain.exceptions.GatewayException;
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.exceptions.notification.NotificationException;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
 import org.auth.api.domain.validation.Error;
 import org.auth.api.domain.validation.ErrorHandler;
 import org.auth.api.domain.validation.Notification;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.auth.api.infrastructure.ControllerTest;
 import org.auth.api.infrastructure.config.UserDetailsConfig;
 import org.auth.api.infrastructure.config.json.Json;
 import org.auth.api.infrastructure.services.security.AuthTokenService;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.auth.api.infrastructure.services.security.refresh.RefreshTokenService;
+import org.auth.api.infrastructure.token.models.RefreshTokenRequest;
+import org.auth.api.infrastructure.user.UserVersionCache;
 import org.auth.api.infrastructure.user.models.UserRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.auth.api.infrastructure.config.UserDetailsConfig.*;
@@ -47,7 +64,15 @@ public class UserApiIT {
     @MockBean
     private UpdateUser updateUserUC;
     @MockBean
+    private PatchUser patchUserUC;
+    @MockBean
     private DeleteUser deleteUserUC;
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+    @MockBean
+    private UserVersionCache userVersionCache;
+    @SpyBean
+    private JwtDecoder jwtDecoder;
     @Autowired
     private MockMvc mvc;
 
@@ -56,6 +81,10 @@ public class UserApiIT {
         reset(createUserUC);
         reset(findUserUC);
         reset(updateUserUC);
+        reset(patchUserUC);
+        reset(refreshTokenService);
+        reset(userVersionCache);
+        reset(jwtDecoder);
     }
 
     private String getAuthToken() throws Exception {
@@ -166,6 +195,30 @@ public class UserApiIT {
         ));
     }
 
+    @Test
+    public void givenValidData_whenAccessesCreateUserAndPasswordHasherIsBusy_thenReturnsServiceUnavailable() throws Exception {
+        // given
+        final var expectedEmail = "test@mail.com";
+        final var expectedPassword = "test12";
+
+        final var requestContent = Json.marshal(new UserRequest(expectedEmail, expectedPassword));
+
+        doThrow(BusyException.with(BusyException.PASSWORD_HASHER_BUSY, null))
+                .when(createUserUC).execute(any());
+
+        // when
+        final var actualRequest = post("/users/new")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(actualRequest)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(content().string(BusyException.PASSWORD_HASHER_BUSY));
+    }
+
     @Test
     public void givenValidCredentials_whenAccessesLoginUser_thenReturnsAnAuthorizationToken() throws Exception {
         // given
@@ -189,6 +242,75 @@ public class UserApiIT {
         assertEquals(UserDetailsConfig.USER_ID, sub);
     }
 
+    @Test
+    public void givenValidCredentials_whenAccessesLoginUser_thenReturnsARefreshToken() throws Exception {
+        // given
+        final var expectedRefreshToken = "refresh-token";
+
+        when(refreshTokenService.issue(Identifier.with(USER_ID)))
+                .thenReturn(expectedRefreshToken);
+
+        // when
+        final var request = post("/users/login")
+                .with(httpBasic(USER_EMAIL, USER_PASSWORD));
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Authorization"))
+                .andExpect(jsonPath("$.refresh_token", equalTo(expectedRefreshToken)));
+
+        verify(refreshTokenService, times(1)).issue(Identifier.with(USER_ID));
+    }
+
+    @Test
+    public void givenAValidRefreshToken_whenAccessesRefreshToken_thenReturnsANewAuthorizationToken() throws Exception {
+        // given
+        final var user = User.newUser(Email.with(USER_EMAIL), PasswordFixture.withRawValue(USER_PASSWORD));
+        final var expectedRefreshToken = "rotated-refresh-token";
+        final var requestContent = Json.marshal(new RefreshTokenRequest("refresh-token"));
+
+        when(refreshTokenService.refresh("refresh-token"))
+                .thenReturn(new RefreshTokenService.Refreshed(UserCredentials.with(user), expectedRefreshToken));
+
+        // when
+        final var request = post("/users/token/refresh")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        final var response = mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refresh_token", equalTo(expectedRefreshToken)))
+                .andReturn()
+                .getResponse();
+
+        final var token = response.getHeader("Authorization");
+        assertNotNull(token);
+        assertEquals(user.getId().getValue(), authTokenService.getSub(token));
+    }
+
+    @Test
+    public void givenAnInvalidRefreshToken_whenAccessesRefreshToken_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var requestContent = Json.marshal(new RefreshTokenRequest("refresh-token"));
+
+        when(refreshTokenService.refresh("refresh-token"))
+                .thenThrow(new BadCredentialsException("invalid refresh token"));
+
+        // when
+        final var request = post("/users/token/refresh")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().doesNotExist("Authorization"));
+    }
+
     @Test
     public void givenInvalidCredentials_whenAccessesLoginUser_thenReturnsUnauthorized() throws Exception {
         // given
@@ -210,7 +332,7 @@ public class UserApiIT {
         final var token = getAuthToken();
 
         when(findUserUC.execute(any()))
-                .thenReturn(FindUserOutput.with(USER_ID, USER_EMAIL));
+                .thenReturn(FindUserOutput.with(USER_ID, USER_EMAIL, 3));
 
         // when
         final var request = get("/users")
@@ -221,12 +343,86 @@ public class UserApiIT {
         mvc.perform(request)
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + USER_ID + ".3\""))
                 .andExpect(jsonPath("$.id", equalTo(USER_ID)))
                 .andExpect(jsonPath("$.email", equalTo(USER_EMAIL)));
 
         verify(findUserUC, times(1)).execute(argThat(input ->
             Objects.equals(USER_ID, input.id())
         ));
+        verify(userVersionCache, times(1)).put(USER_ID, 3);
+
+        verify(jwtDecoder, times(1)).decode(any());
+    }
+
+    @Test
+    public void givenACachedVersionMatchingIfNoneMatch_whenAccessesFindUser_thenReturnsNotModifiedWithoutReadingTheUser() throws Exception {
+        // given
+        final var token = getAuthToken();
+        final var eTag = "\"" + USER_ID + ".3\"";
+
+        when(userVersionCache.find(USER_ID))
+                .thenReturn(OptionalLong.of(3));
+
+        // when
+        final var request = get("/users")
+                .header("Authorization", token)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(findUserUC, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUnchangedUserNotCached_whenAccessesFindUserWithIfNoneMatch_thenReturnsNotModified() throws Exception {
+        // given
+        final var token = getAuthToken();
+        final var eTag = "\"" + USER_ID + ".3\"";
+
+        when(findUserUC.execute(any()))
+                .thenReturn(FindUserOutput.with(USER_ID, USER_EMAIL, 3));
+
+        // when
+        final var request = get("/users")
+                .header("Authorization", token)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        verify(findUserUC, times(1)).execute(any());
+    }
+
+    @Test
+    public void givenAStaleIfNoneMatch_whenAccessesFindUser_thenReturnsTheCurrentUser() throws Exception {
+        // given
+        final var token = getAuthToken();
+
+        when(userVersionCache.find(USER_ID))
+                .thenReturn(OptionalLong.of(4));
+        when(findUserUC.execute(any()))
+                .thenReturn(FindUserOutput.with(USER_ID, USER_EMAIL, 4));
+
+        // when
+        final var request = get("/users")
+                .header("Authorization", token)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + USER_ID + ".3\"")
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + USER_ID + ".4\""))
+                .andExpect(jsonPath("$.email", equalTo(USER_EMAIL)));
     }
 
     @Test
@@ -270,7 +466,106 @@ public class UserApiIT {
         verify(updateUserUC, times(1)).execute(argThat(input ->
                 Objects.equals(authUserId, input.id()) &&
                 Objects.equals(expectedEmail, input.email()) &&
-                Objects.equals(expectedPassword, input.password())
+                Objects.equals(expectedPassword, input.password()) &&
+                input.versions() == null
+        ));
+    }
+
+    @Test
+    public void givenAnIfMatchHeader_whenAccessesUpdateUser_thenUpdatesTheExpectedVersion() throws Exception {
+        // given
+        final var authToken = getAuthToken();
+        final var requestContent = Json.marshal(new UserRequest("updatetest@mail.com", "update123"));
+
+        doNothing()
+                .when(updateUserUC).execute(any());
+
+        // when
+        final var request = put("/users")
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, "\"" + USER_ID + ".3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        verify(updateUserUC, times(1)).execute(argThat(input ->
+                Objects.equals(USER_ID, input.id()) &&
+                Objects.equals(Set.of(3L), input.versions())
+        ));
+    }
+
+    @Test
+    public void givenSeveralIfMatchTags_whenAccessesUpdateUser_thenAcceptsAnyOfTheirVersions() throws Exception {
+        // given
+        final var authToken = getAuthToken();
+        final var requestContent = Json.marshal(new UserRequest("updatetest@mail.com", "update123"));
+
+        doNothing()
+                .when(updateUserUC).execute(any());
+
+        // when
+        final var request = put("/users")
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, "\"" + USER_ID + ".3\", W/\"" + USER_ID + ".5\", \"" + USER_ID + ".4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        verify(updateUserUC, times(1)).execute(argThat(input ->
+                Objects.equals(Set.of(3L, 4L), input.versions())
+        ));
+    }
+
+    @Test
+    public void givenAStaleIfMatchHeader_whenAccessesUpdateUser_thenReturnsPreconditionFailed() throws Exception {
+        // given
+        final var authToken = getAuthToken();
+        final var requestContent = Json.marshal(new UserRequest("updatetest@mail.com", "update123"));
+
+        doThrow(VersionConflictException.with(null))
+                .when(updateUserUC).execute(any());
+
+        // when
+        final var request = put("/users")
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, "\"" + USER_ID + ".2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().string(VersionConflictException.VERSION_CONFLICT));
+    }
+
+    @Test
+    public void givenAnIfMatchHeaderOfAnotherUser_whenAccessesUpdateUser_thenNoVersionCanMatch() throws Exception {
+        // given
+        final var authToken = getAuthToken();
+        final var requestContent = Json.marshal(new UserRequest("updatetest@mail.com", "update123"));
+
+        doNothing()
+                .when(updateUserUC).execute(any());
+
+        // when
+        final var request = put("/users")
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, "\"" + UUID.randomUUID() + ".3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        verify(updateUserUC, times(1)).execute(argThat(input ->
+                input.versions().isEmpty()
         ));
     }
 
@@ -337,6 +632,54 @@ public class UserApiIT {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    public void givenValidCredentialsAndOnlyAnEmail_whenAccessesPatchUser_thenPatchesUserData() throws Exception {
+        // given
+        final var expectedEmail = "patchtest@mail.com";
+
+        final var authUserId = USER_ID;
+        final var authToken = getAuthToken();
+        final var requestContent = Json.marshal(new UserRequest(expectedEmail, null));
+
+        doNothing()
+                .when(patchUserUC).execute(any());
+
+        // when
+        final var request = patch("/users")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        verify(patchUserUC, times(1)).execute(argThat(input ->
+                Objects.equals(authUserId, input.id()) &&
+                Objects.equals(expectedEmail, input.email()) &&
+                input.password() == null
+        ));
+    }
+
+    @Test
+    public void givenInvalidCredentialsAndValidData_whenAccessesPatchUser_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var authToken = "";
+        final var requestContent = Json.marshal(new UserRequest("patchtest@mail.com", null));
+
+        // when
+        final var request = patch("/users")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isUnauthorized());
+
+        verify(patchUserUC, never()).execute(any());
+    }
+
     @Test
     public void givenValidUserCredentials_whenAccessesDeleteUser_thenDeletesTheUser() throws Exception {
         // given
@@ -354,8 +697,32 @@ public class UserApiIT {
                 .andExpect(status().isNoContent());
 
         verify(deleteUserUC, times(1)).execute(argThat(input ->
-                Objects.equals(USER_ID, input.id()))
-        );
+                Objects.equals(USER_ID, input.id()) &&
+                input.versions() == null
+        ));
+    }
+
+    @Test
+    public void givenAnIfMatchHeader_whenAccessesDeleteUser_thenDeletesTheExpectedVersion() throws Exception {
+        // given
+        final var authToken = getAuthToken();
+
+        doNothing()
+                .when(deleteUserUC).execute(any());
+
+        // when
+        final var request = delete("/users")
+                .header("Authorization", authToken)
+                .header(HttpHeaders.IF_MATCH, "\"" + USER_ID + ".5\"");
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        verify(deleteUserUC, times(1)).execute(argThat(input ->
+                Objects.equals(USER_ID, input.id()) &&
+                Objects.equals(Set.of(5L), input.versions())
+        ));
     }
 
     @Test
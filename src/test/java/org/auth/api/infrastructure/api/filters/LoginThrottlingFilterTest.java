@@ -0,0 +1,95 @@
+package org.auth.api.infrastructure.api.filters;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.infrastructure.services.security.throttling.LoginThrottler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class LoginThrottlingFilterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private static MockHttpServletRequest loginRequest(final String email, final String ip) {
+        final var credentials = Base64.getEncoder().encodeToString((email + ":test123").getBytes(StandardCharsets.UTF_8));
+        final var request = new MockHttpServletRequest("POST", "/users/login");
+        request.setServletPath("/users/login");
+        request.setRemoteAddr(ip);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials);
+        return request;
+    }
+
+    private static MockHttpServletResponse perform(
+            final LoginThrottlingFilter filter,
+            final MockHttpServletRequest request
+    ) throws Exception {
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    public void givenTooManyAttemptsForAnAccount_whenCallsLogin_thenReturnsTooManyRequestsBeforeAuthentication() throws Exception {
+        // given
+        final var filter = new LoginThrottlingFilter(LoginThrottler.with(true, 60000, 2, 100, 100, 4, registry));
+
+        assertEquals(HttpStatus.OK.value(), perform(filter, loginRequest("test@mail.com", "10.0.0.1")).getStatus());
+        assertEquals(HttpStatus.OK.value(), perform(filter, loginRequest("TEST@mail.com", "10.0.0.2")).getStatus());
+
+        // when
+        final var request = loginRequest("test@mail.com", "10.0.0.3");
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("60", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(LoginThrottlingFilter.TOO_MANY_LOGIN_ATTEMPTS, response.getContentAsString());
+        assertNull(chain.getRequest());
+
+        assertEquals(HttpStatus.OK.value(), perform(filter, loginRequest("other@mail.com", "10.0.0.3")).getStatus());
+        assertEquals(1, registry.get("login.throttle").tag("result", "account-limited").counter().count());
+    }
+
+    @Test
+    public void givenTooManyAttemptsFromAnIp_whenCallsLogin_thenReturnsTooManyRequests() throws Exception {
+        // given
+        final var filter = new LoginThrottlingFilter(LoginThrottler.with(true, 60000, 100, 2, 100, 4, registry));
+
+        perform(filter, loginRequest("first@mail.com", "10.0.0.1"));
+        perform(filter, loginRequest("second@mail.com", "10.0.0.1"));
+
+        // when
+        final var response = perform(filter, loginRequest("third@mail.com", "10.0.0.1"));
+
+        // then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals(1, registry.get("login.throttle").tag("result", "ip-limited").counter().count());
+    }
+
+    @Test
+    public void givenAnotherEndpoint_whenCallsIt_thenIsNeverThrottled() throws Exception {
+        // given
+        final var filter = new LoginThrottlingFilter(LoginThrottler.with(true, 60000, 1, 1, 100, 4, registry));
+
+        // when
+        for (var i = 0; i < 3; i++) {
+            final var request = new MockHttpServletRequest("GET", "/users");
+            request.setServletPath("/users");
+            final var response = perform(filter, request);
+
+            // then
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+        }
+    }
+}
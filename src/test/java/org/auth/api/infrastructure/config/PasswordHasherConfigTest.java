@@ -0,0 +1,81 @@
+package org.auth.api.infrastructure.config;
+
+import org.auth.api.infrastructure.services.security.hashing.PooledPasswordHasher;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class PasswordHasherConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PasswordHasherConfig.class)
+            .withPropertyValues(
+                    "password.hasher.pool-size=1",
+                    "password.hasher.queue-capacity=4",
+                    "password.hasher.timeout=10000",
+                    "password.bcrypt.strength=4",
+                    "password.bcrypt.budget=80",
+                    "password.bcrypt.min-strength=4",
+                    "password.bcrypt.max-strength=4",
+                    "password.argon2.memory=1024",
+                    "password.argon2.iterations=1",
+                    "password.argon2.parallelism=1",
+                    "password.scrypt.cpu-cost=1024",
+                    "password.scrypt.memory-cost=8",
+                    "password.scrypt.parallelization=1",
+                    "password.pbkdf2.iterations=1000"
+            );
+
+    @Test
+    public void givenEachAlgorithm_whenCallsHash_thenStoresTheAlgorithmIdAndVerifies() {
+        for (final var algorithm : new String[] { "bcrypt", "argon2", "scrypt", "pbkdf2" }) {
+            contextRunner
+                    .withPropertyValues("password.hasher.algorithm=" + algorithm)
+                    .run(context -> {
+                        final var hasher = context.getBean(PooledPasswordHasher.class);
+
+                        final var actualHash = hasher.hash("test123");
+
+                        assertTrue(actualHash.startsWith("{" + algorithm + "}"));
+                        assertTrue(actualHash.length() <= 255);
+                        assertTrue(hasher.verify("test123", actualHash));
+                        assertFalse(hasher.verify("test1234", actualHash));
+                        assertFalse(hasher.needsRehash(actualHash));
+                    });
+        }
+    }
+
+    @Test
+    public void givenALegacyBCryptHash_whenCallsVerify_thenVerifiesAndAsksForRehash() {
+        contextRunner
+                .withPropertyValues("password.hasher.algorithm=bcrypt")
+                .run(context -> {
+                    final var hasher = context.getBean(PooledPasswordHasher.class);
+                    final var legacyHash = new BCryptPasswordEncoder(4).encode("test123");
+
+                    assertTrue(hasher.verify("test123", legacyHash));
+                    assertTrue(hasher.needsRehash(legacyHash));
+                });
+    }
+
+    @Test
+    public void givenAHashOfAnotherAlgorithm_whenCallsNeedsRehash_thenAsksForRehash() {
+        contextRunner
+                .withPropertyValues("password.hasher.algorithm=bcrypt")
+                .run(context -> {
+                    final var bcryptHash = context.getBean(PooledPasswordHasher.class).hash("test123");
+
+                    contextRunner
+                            .withPropertyValues("password.hasher.algorithm=argon2")
+                            .run(argon2Context -> {
+                                final var hasher = argon2Context.getBean(PooledPasswordHasher.class);
+
+                                assertTrue(hasher.verify("test123", bcryptHash));
+                                assertTrue(hasher.needsRehash(bcryptHash));
+                            });
+                });
+    }
+}
@@ -3,6 +3,7 @@ package org.auth.api.infrastructure.config;
 import org.auth.api.domain.user.User;
 import org.auth.api.domain.valueobjects.Email;
 import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.auth.api.infrastructure.services.security.AuthUserService;
 import org.auth.api.infrastructure.services.security.models.UserCredentials;
 import org.mockito.BDDMockito;
@@ -18,7 +19,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class UserDetailsConfig {
     public static final String USER_EMAIL = "test@mail.com";
     public static final String USER_PASSWORD = "test123";
-    private static final User USER = User.newUser(Email.with(USER_EMAIL), Password.withRawValue(USER_PASSWORD));
+    private static final User USER = User.newUser(Email.with(USER_EMAIL), PasswordFixture.withRawValue(USER_PASSWORD));
     public static final String USER_ID = USER.getId().getValue();
 
     @Bean
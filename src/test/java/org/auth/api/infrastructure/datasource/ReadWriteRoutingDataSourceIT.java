@@ -0,0 +1,126 @@
+package org.auth.api.infrastructure.datasource;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.user.UserJdbcGateway;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("integrationTest")
+public class ReadWriteRoutingDataSourceIT {
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    public void cleanUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+    }
+
+    private static DataSource createDatabase(final String name) {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "root",
+                "root123"
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static String node(final JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    @Test
+    public void givenNoRoute_whenQueries_thenUsesThePrimary() {
+        // given
+        final var jdbcTemplate = new JdbcTemplate(ReadWriteRoutingDataSource.with(primary, List.of(replica)));
+
+        // when
+        final var actualNode = node(jdbcTemplate);
+
+        // then
+        assertEquals("primary", actualNode);
+    }
+
+    @Test
+    public void givenAReplicaRoute_whenQueries_thenUsesAReplicaOnlyInsideTheRoute() {
+        // given
+        final var jdbcTemplate = new JdbcTemplate(ReadWriteRoutingDataSource.with(primary, List.of(replica)));
+
+        // when
+        final var actualInside = DataSourceRoute.replica(() -> node(jdbcTemplate));
+        final var actualAfter = node(jdbcTemplate);
+
+        // then
+        assertEquals("replica", actualInside);
+        assertEquals("primary", actualAfter);
+        assertFalse(DataSourceRoute.isReplica());
+    }
+
+    @Test
+    public void givenManyReplicas_whenQueriesOnReplicas_thenBalancesBetweenThem() {
+        // given
+        final var otherReplica = createDatabase("other");
+        final var jdbcTemplate = new JdbcTemplate(ReadWriteRoutingDataSource.with(primary, List.of(replica, otherReplica)));
+
+        // when
+        final var actualNodes = DataSourceRoute.replica(() -> List.of(
+                node(jdbcTemplate),
+                node(jdbcTemplate),
+                node(jdbcTemplate),
+                node(jdbcTemplate)
+        ));
+
+        // then
+        assertEquals(List.of("replica", "other", "replica", "other"), actualNodes);
+    }
+
+    @Test
+    public void givenNoReplicas_whenQueriesOnReplicas_thenUsesThePrimary() {
+        // given
+        final var jdbcTemplate = new JdbcTemplate(ReadWriteRoutingDataSource.with(primary, List.of()));
+
+        // when
+        final var actualNode = DataSourceRoute.replica(() -> node(jdbcTemplate));
+
+        // then
+        assertEquals("primary", actualNode);
+    }
+
+    @Test
+    public void givenASavedUser_whenReadsWithAndWithoutTheReplicaRoute_thenOnlyThePrimaryHasTheWrite() {
+        // given
+        final var gateway = UserJdbcGateway.with(new JdbcTemplate(ReadWriteRoutingDataSource.with(primary, List.of(replica))));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+
+        // when
+        gateway.save(expectedUser);
+        final var actualPrimary = gateway.findByEmail(expectedUser.getEmail());
+        final var actualReplica = DataSourceRoute.replica(() -> gateway.findByEmail(expectedUser.getEmail()));
+
+        // then
+        assertTrue(actualPrimary.isPresent());
+        assertEquals(expectedUser.getId(), actualPrimary.get().getId());
+        assertTrue(actualReplica.isEmpty());
+    }
+}
@@ -1,12 +1,13 @@
 package org.auth.api.infrastructure.e2e;
 
 import org.auth.api.domain.user.User;
-import org.auth.api.domain.utils.PasswordUtils;
 import org.auth.api.domain.valueobjects.Email;
-import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
 import org.auth.api.infrastructure.E2ETest;
 import org.auth.api.infrastructure.config.json.Json;
 import org.auth.api.infrastructure.services.security.AuthTokenService;
+import org.auth.api.infrastructure.token.models.RefreshTokenRequest;
+import org.auth.api.infrastructure.token.models.RefreshTokenResponse;
 import org.auth.api.infrastructure.user.models.UserRequest;
 import org.auth.api.infrastructure.user.persitence.UserJpaEntity;
 import org.auth.api.infrastructure.user.persitence.UserRepository;
@@ -21,6 +22,8 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.UUID;
+
 import static java.util.Objects.requireNonNull;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.*;
@@ -181,7 +184,7 @@ public class UserApiE2ETest {
         // given
         final var email = "test@mail.com";
         final var password = "test123";
-        final var user = User.newUser(Email.with(email), Password.withRawValue(password));
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
         final var id = user.getId().getValue();
 
         userRepository.save(UserJpaEntity.from(user));
@@ -204,6 +207,50 @@ public class UserApiE2ETest {
         assertEquals(id, sub);
     }
 
+    @Test
+    public void givenARefreshToken_whenAccessesRefreshTokenTwice_thenRotatesItAndRevokesTheFamilyOnReuse() throws Exception {
+        // given
+        final var email = "test@mail.com";
+        final var password = "test123";
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
+
+        userRepository.save(UserJpaEntity.from(user));
+
+        final var loginContent = mvc.perform(post("/users/login")
+                        .with(httpBasic(email, password))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        final var refreshToken = Json.unmarshal(loginContent, RefreshTokenResponse.class).refreshToken();
+
+        // when
+        final var refreshResponse = mvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(Json.marshal(new RefreshTokenRequest(refreshToken)))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        final var rotatedToken = Json.unmarshal(refreshResponse.getContentAsString(), RefreshTokenResponse.class).refreshToken();
+
+        // then
+        assertEquals(user.getId().getValue(), authTokenService.getSub(refreshResponse.getHeader("Authorization")));
+
+        mvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(Json.marshal(new RefreshTokenRequest(refreshToken)))
+                )
+                .andExpect(status().isUnauthorized());
+
+        mvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(Json.marshal(new RefreshTokenRequest(rotatedToken)))
+                )
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     public void givenInvalidCredentials_whenAccessesLoginUser_thenReturnsUnauthorized() throws Exception {
         // given
@@ -224,7 +271,7 @@ public class UserApiE2ETest {
         // given
         final var email = "test@mail.com";
         final var password = "test123";
-        final var user = User.newUser(Email.with(email), Password.withRawValue(password));
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
         final var id = user.getId().getValue();
 
         userRepository.save(UserJpaEntity.from(user));
@@ -265,7 +312,7 @@ public class UserApiE2ETest {
         // given
         final var email = "update@mail.com";
         final var password = "update123";
-        final var user = User.newUser(Email.with(email), Password.withRawValue(password));
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
         final var id = user.getId().getValue();
 
         userRepository.save(UserJpaEntity.from(user));
@@ -287,10 +334,10 @@ public class UserApiE2ETest {
                 .andExpect(status().isNoContent());
 
         assertEquals(1, userRepository.count());
-        final var actualUser = userRepository.findById(id).get().toAggregate();
+        final var actualUser = userRepository.findById(UUID.fromString(id)).get().toAggregate();
 
         assertEquals(actualUser.getEmail().getAddress(), expectedEmail);
-        assertTrue(PasswordUtils.verifyPassword(expectedPassword, actualUser.getPassword().getValue()));
+        assertTrue(PasswordFixture.matches(expectedPassword, actualUser.getPassword().getValue()));
     }
 
     @Test
@@ -298,7 +345,7 @@ public class UserApiE2ETest {
         // given
         final var email = "update@mail.com";
         final var password = "update123";
-        final var user = User.newUser(Email.with(email), Password.withRawValue(password));
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
         final var id = user.getId().getValue();
 
         userRepository.save(UserJpaEntity.from(user));
@@ -323,13 +370,13 @@ public class UserApiE2ETest {
                 .andExpect(jsonPath("$.password[0]", equalTo("password must have more than 5 characters")));
 
         assertEquals(1, userRepository.count());
-        final var actualUser = userRepository.findById(id).get().toAggregate();
+        final var actualUser = userRepository.findById(UUID.fromString(id)).get().toAggregate();
 
         assertNotEquals(actualUser.getEmail().getAddress(), expectedEmail);
-        assertFalse(PasswordUtils.verifyPassword(expectedPassword, actualUser.getPassword().getValue()));
+        assertFalse(PasswordFixture.matches(expectedPassword, actualUser.getPassword().getValue()));
 
         assertEquals(actualUser.getEmail().getAddress(), email);
-        assertTrue(PasswordUtils.verifyPassword(password, actualUser.getPassword().getValue()));
+        assertTrue(PasswordFixture.matches(password, actualUser.getPassword().getValue()));
     }
 
     @Test
@@ -337,7 +384,7 @@ public class UserApiE2ETest {
         // given
         final var email = "update@mail.com";
         final var password = "update123";
-        final var user = User.newUser(Email.with(email), Password.withRawValue(password));
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
         final var id = user.getId().getValue();
 
         userRepository.save(UserJpaEntity.from(user));
@@ -359,13 +406,46 @@ public class UserApiE2ETest {
                 .andExpect(status().isUnauthorized());
 
         assertEquals(1, userRepository.count());
-        final var actualUser = userRepository.findById(id).get().toAggregate();
+        final var actualUser = userRepository.findById(UUID.fromString(id)).get().toAggregate();
 
         assertNotEquals(actualUser.getEmail().getAddress(), expectedEmail);
-        assertFalse(PasswordUtils.verifyPassword(expectedPassword, actualUser.getPassword().getValue()));
+        assertFalse(PasswordFixture.matches(expectedPassword, actualUser.getPassword().getValue()));
 
         assertEquals(actualUser.getEmail().getAddress(), email);
-        assertTrue(PasswordUtils.verifyPassword(password, actualUser.getPassword().getValue()));
+        assertTrue(PasswordFixture.matches(password, actualUser.getPassword().getValue()));
+    }
+
+    @Test
+    public void givenValidCredentialsAndOnlyAnEmail_whenAccessesPatchUser_thenKeepsThePassword() throws Exception {
+        // given
+        final var email = "patch@mail.com";
+        final var password = "patch123";
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
+        final var id = user.getId().getValue();
+
+        userRepository.save(UserJpaEntity.from(user));
+        assertEquals(1, userRepository.count());
+
+        final var authToken = getAuthToken(email, password);
+
+        final var expectedEmail = "newpatch@mail.com";
+        final var expectedPassword = user.getPassword().getValue();
+        final var requestContent = Json.marshal(new UserRequest(expectedEmail, null));
+
+        // when
+        final var request = patch("/users")
+                .header("Authorization", authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestContent);
+        // then
+        mvc.perform(request)
+                .andExpect(status().isNoContent());
+
+        assertEquals(1, userRepository.count());
+        final var actualUser = userRepository.findById(UUID.fromString(id)).get().toAggregate();
+
+        assertEquals(expectedEmail, actualUser.getEmail().getAddress());
+        assertEquals(expectedPassword, actualUser.getPassword().getValue());
     }
 
     @Test
@@ -373,7 +453,7 @@ public class UserApiE2ETest {
         // given
         final var email = "test@mail.com";
         final var password = "test123";
-        final var user = User.newUser(Email.with(email), Password.withRawValue(password));
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
 
         userRepository.save(UserJpaEntity.from(user));
         assertEquals(1, userRepository.count());
@@ -390,12 +470,38 @@ public class UserApiE2ETest {
         assertEquals(0, userRepository.count());
     }
 
+    @Test
+    public void givenADeletedUser_whenAccessesFindUserWithAnOldToken_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var email = "test@mail.com";
+        final var password = "test123";
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
+
+        userRepository.save(UserJpaEntity.from(user));
+
+        final var authToken = getAuthToken(email, password);
+
+        mvc.perform(delete("/users")
+                        .header("Authorization", authToken)
+                )
+                .andExpect(status().isNoContent());
+
+        // when
+        final var request = get("/users")
+                .header("Authorization", authToken)
+                .accept(MediaType.APPLICATION_JSON);
+
+        // then
+        mvc.perform(request)
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     public void givenInvalidUserCredentials_whenAccessesDeleteUser_thenReturnsUnauthorized() throws Exception {
         // given
         final var email = "test@mail.com";
         final var password = "test123";
-        final var user = User.newUser(Email.with(email), Password.withRawValue(password));
+        final var user = User.newUser(Email.with(email), PasswordFixture.withRawValue(password));
         final var id = user.getId().getValue();
 
         userRepository.save(UserJpaEntity.from(user));
@@ -411,6 +517,6 @@ public class UserApiE2ETest {
                 .andExpect(status().isUnauthorized());
 
         assertEquals(1, userRepository.count());
-        assertTrue(userRepository.findById(id).isPresent());
+        assertTrue(userRepository.findById(UUID.fromString(id)).isPresent());
     }
 }
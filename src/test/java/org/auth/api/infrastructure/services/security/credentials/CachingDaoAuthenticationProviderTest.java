@@ -0,0 +1,80 @@
+package org.auth.api.infrastructure.services.security.credentials;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("unitTest")
+public class CachingDaoAuthenticationProviderTest {
+    private static final String USER_EMAIL = "test@mail.com";
+    private static final String USER_PASSWORD = "test123";
+
+    private CachingDaoAuthenticationProvider newProvider(final BCryptPasswordEncoder encoder, final boolean enabled) {
+        final var user = User.newUser(
+                Email.with(USER_EMAIL),
+                Password.withEncodedValue(encoder.encode(USER_PASSWORD))
+        );
+        final UserDetailsService userDetailsService = username -> UserCredentials.with(user);
+        final var cache = VerifiedCredentialCache.with(enabled, 5000, 10, new SimpleMeterRegistry());
+        return CachingDaoAuthenticationProvider.with(userDetailsService, encoder, cache);
+    }
+
+    @Test
+    public void givenRepeatedValidCredentials_whenCallsAuthenticate_thenVerifiesThePasswordOnce() {
+        // given
+        final var encoder = spy(new BCryptPasswordEncoder(4));
+        final var provider = newProvider(encoder, true);
+
+        // when
+        final var first = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(USER_EMAIL, USER_PASSWORD));
+        final var second = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(USER_EMAIL, USER_PASSWORD));
+
+        // then
+        assertTrue(first.isAuthenticated());
+        assertTrue(second.isAuthenticated());
+        verify(encoder, times(1)).matches(any(), anyString());
+    }
+
+    @Test
+    public void givenAWrongPasswordAfterACachedLogin_whenCallsAuthenticate_thenThrowsBadCredentials() {
+        // given
+        final var encoder = spy(new BCryptPasswordEncoder(4));
+        final var provider = newProvider(encoder, true);
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(USER_EMAIL, USER_PASSWORD));
+
+        // when
+        assertThrows(BadCredentialsException.class, () ->
+                provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(USER_EMAIL, "wrong123"))
+        );
+
+        // then
+        verify(encoder, times(2)).matches(any(), anyString());
+    }
+
+    @Test
+    public void givenADisabledCache_whenCallsAuthenticate_thenVerifiesThePasswordEveryTime() {
+        // given
+        final var encoder = spy(new BCryptPasswordEncoder(4));
+        final var provider = newProvider(encoder, false);
+
+        // when
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(USER_EMAIL, USER_PASSWORD));
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(USER_EMAIL, USER_PASSWORD));
+
+        // then
+        verify(encoder, times(2)).matches(any(), anyString());
+    }
+}
@@ -0,0 +1,122 @@
+package org.auth.api.infrastructure.services.security.credentials;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class VerifiedCredentialCacheTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    private static UserCredentials newCredentials(final String email) {
+        return UserCredentials.with(User.newUser(Email.with(email), PasswordFixture.withRawValue("test123")));
+    }
+
+    @Test
+    public void givenAVerifiedCredential_whenCallsIsVerified_thenHitsOnlyWithTheSamePassword() {
+        // given
+        final var cache = VerifiedCredentialCache.with(true, 5000, 10, clock::get, registry);
+        final var credentials = newCredentials("test@mail.com");
+
+        // when
+        cache.put(credentials, "test123");
+
+        // then
+        assertTrue(cache.isVerified(credentials, "test123"));
+        assertFalse(cache.isVerified(credentials, "test1234"));
+
+        assertEquals(1, registry.get("password.verified.cache").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("password.verified.cache").tag("result", "miss").counter().count());
+        assertEquals(1, registry.get("password.verified.cache.size").gauge().value());
+    }
+
+    @Test
+    public void givenAChangedStoredHash_whenCallsIsVerified_thenMisses() {
+        // given
+        final var cache = VerifiedCredentialCache.with(true, 5000, 10, clock::get, registry);
+        final var user = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        cache.put(UserCredentials.with(user), "test123");
+
+        // when
+        user.updatePassword(PasswordFixture.withRawValue("test123"));
+
+        // then
+        assertFalse(cache.isVerified(UserCredentials.with(user), "test123"));
+    }
+
+    @Test
+    public void givenAnExpiredEntry_whenCallsIsVerified_thenMisses() {
+        // given
+        final var cache = VerifiedCredentialCache.with(true, 5000, 10, clock::get, registry);
+        final var credentials = newCredentials("test@mail.com");
+        cache.put(credentials, "test123");
+
+        // when
+        clock.addAndGet(5000);
+
+        // then
+        assertFalse(cache.isVerified(credentials, "test123"));
+    }
+
+    @Test
+    public void givenAnEvictedUser_whenCallsIsVerified_thenMisses() {
+        // given
+        final var cache = VerifiedCredentialCache.with(true, 5000, 10, clock::get, registry);
+        final var credentials = newCredentials("test@mail.com");
+        cache.put(credentials, "test123");
+
+        // when
+        cache.evict(credentials.getId());
+
+        // then
+        assertFalse(cache.isVerified(credentials, "test123"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void givenAFullCache_whenCallsPut_thenKeepsTheSizeBound() {
+        // given
+        final var cache = VerifiedCredentialCache.with(true, 5000, 2, clock::get, registry);
+        final var first = newCredentials("first@mail.com");
+        final var second = newCredentials("second@mail.com");
+        final var third = newCredentials("third@mail.com");
+
+        // when
+        cache.put(first, "test123");
+        cache.put(second, "test123");
+        cache.put(third, "test123");
+
+        // then
+        assertEquals(2, cache.size());
+        assertFalse(cache.isVerified(third, "test123"));
+
+        clock.addAndGet(5000);
+        cache.put(third, "test123");
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.isVerified(third, "test123"));
+    }
+
+    @Test
+    public void givenADisabledCache_whenCallsPut_thenNeverHits() {
+        // given
+        final var cache = VerifiedCredentialCache.with(false, 5000, 10, clock::get, registry);
+        final var credentials = newCredentials("test@mail.com");
+
+        // when
+        cache.put(credentials, "test123");
+
+        // then
+        assertFalse(cache.isVerified(credentials, "test123"));
+        assertEquals(0, cache.size());
+    }
+}
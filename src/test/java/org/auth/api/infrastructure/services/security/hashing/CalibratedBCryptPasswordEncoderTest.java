@@ -0,0 +1,45 @@
+package org.auth.api.infrastructure.services.security.hashing;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class CalibratedBCryptPasswordEncoderTest {
+    @Test
+    public void givenAZeroBudget_whenCallsCalibrate_thenUsesTheMinimumStrength() {
+        final var actualEncoder = CalibratedBCryptPasswordEncoder.calibrate(0, 4, 8);
+        assertEquals(4, actualEncoder.getStrength());
+    }
+
+    @Test
+    public void givenALargeBudget_whenCallsCalibrate_thenUsesTheMaximumStrength() {
+        final var actualEncoder = CalibratedBCryptPasswordEncoder.calibrate(60_000, 4, 6);
+        assertEquals(6, actualEncoder.getStrength());
+    }
+
+    @Test
+    public void givenAPassword_whenCallsEncode_thenEncodesWithTheChosenStrength() {
+        final var encoder = CalibratedBCryptPasswordEncoder.withStrength(5);
+        final var actualHash = encoder.encode("test123");
+        assertTrue(actualHash.startsWith("$2a$05$"));
+        assertTrue(encoder.matches("test123", actualHash));
+        assertFalse(encoder.upgradeEncoding(actualHash));
+    }
+
+    @Test
+    public void givenAHashWithADifferentStrength_whenCallsUpgradeEncoding_thenReturnsTrue() {
+        final var encoder = CalibratedBCryptPasswordEncoder.withStrength(5);
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("test123")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("test123")));
+    }
+
+    @Test
+    public void givenANonBCryptValue_whenCallsUpgradeEncoding_thenReturnsFalse() {
+        final var encoder = CalibratedBCryptPasswordEncoder.withStrength(5);
+        assertFalse(encoder.upgradeEncoding("test123"));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+}
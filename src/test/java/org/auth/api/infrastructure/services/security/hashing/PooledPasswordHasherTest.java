@@ -0,0 +1,105 @@
+package org.auth.api.infrastructure.services.security.hashing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.domain.exceptions.BusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class PooledPasswordHasherTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private PooledPasswordHasher hasher;
+
+    @AfterEach
+    public void shutdown() {
+        if (hasher != null)
+            hasher.shutdown();
+    }
+
+    @Test
+    public void givenARawPassword_whenCallsHash_thenReturnsAVerifiableHash() {
+        // given
+        final var expectedPassword = "test123";
+        hasher = PooledPasswordHasher.with(new BCryptPasswordEncoder(4), 2, 4, 5000, registry);
+
+        // when
+        final var actualHash = hasher.hash(expectedPassword);
+
+        // then
+        assertNotEquals(expectedPassword, actualHash);
+        assertTrue(hasher.verify(expectedPassword, actualHash));
+        assertFalse(hasher.verify(expectedPassword + "1", actualHash));
+        assertTrue(hasher.matches(expectedPassword, actualHash));
+
+        assertEquals(1, registry.get("password.hasher.duration").tag("operation", "hash").timer().count());
+        assertEquals(3, registry.get("password.hasher.duration").tag("operation", "verify").timer().count());
+        assertEquals(0, registry.get("password.hasher.queue.size").gauge().value());
+    }
+
+    @Test
+    public void givenASaturatedPool_whenCallsHash_thenThrowsABusyException() throws Exception {
+        // given
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var encoder = new BlockingEncoder(started, release);
+        hasher = PooledPasswordHasher.with(encoder, 1, 1, 5000, registry);
+
+        final var running = CompletableFuture.supplyAsync(() -> hasher.hash("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        final var queued = CompletableFuture.supplyAsync(() -> hasher.hash("queued"));
+        while (registry.get("password.hasher.queue.size").gauge().value() < 1)
+            Thread.onSpinWait();
+
+        // when
+        final var actualException = assertThrows(BusyException.class, () -> hasher.hash("rejected"));
+
+        // then
+        assertEquals(BusyException.PASSWORD_HASHER_BUSY, actualException.getMessage());
+        assertEquals(1, registry.get("password.hasher.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("running", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void givenASlowEncoder_whenCallsHashAndTimeoutExpires_thenThrowsABusyException() {
+        // given
+        final var release = new CountDownLatch(1);
+        hasher = PooledPasswordHasher.with(new BlockingEncoder(new CountDownLatch(1), release), 1, 1, 50, registry);
+
+        // when
+        final var actualException = assertThrows(BusyException.class, () -> hasher.hash("slow"));
+
+        // then
+        assertEquals(BusyException.PASSWORD_HASHER_BUSY, actualException.getMessage());
+        release.countDown();
+    }
+
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(final CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.auth.api.infrastructure.services.security.introspection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.infrastructure.services.security.jwt.JwsJwtDecoder;
+import org.auth.api.infrastructure.services.security.jwt.JwtAlgorithm;
+import org.auth.api.infrastructure.services.security.jwt.JwtKeyRing;
+import org.auth.api.infrastructure.services.security.jwt.TokenMinter;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocationValidator;
+import org.auth.api.infrastructure.services.security.revocation.TokenRevocations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class TokenIntrospectorTest {
+    private TokenMinter minter;
+    private TokenRevocations revocations;
+    private AtomicInteger decodes;
+    private TokenIntrospector introspector;
+
+    @BeforeEach
+    public void setUp() {
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.EDDSA, JwtAlgorithm.EDDSA.newKeyPair());
+        final var registry = new SimpleMeterRegistry();
+        minter = TokenMinter.with(keyRing, "auth-api", 600);
+        revocations = TokenRevocations.with(600, 1000, 0.01, registry);
+        decodes = new AtomicInteger();
+
+        final var decoder = JwsJwtDecoder.with(keyRing, TokenRevocationValidator.with(revocations));
+        final JwtDecoder countingDecoder = token -> {
+            decodes.incrementAndGet();
+            return decoder.decode(token);
+        };
+        introspector = TokenIntrospector.with(countingDecoder, revocations, 4, 1000, registry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        introspector.shutdown();
+    }
+
+    @Test
+    public void givenABatchOfTokens_whenCallsIntrospect_thenReturnsAResultPerTokenInOrder() {
+        // given
+        final var tokens = new ArrayList<String>();
+        final var subjects = new ArrayList<String>();
+        for (int i = 0; i < 20; i++) {
+            final var subject = UUID.randomUUID().toString();
+            subjects.add(subject);
+            tokens.add(minter.mint(subject, "ROLE_USER"));
+        }
+        tokens.add("not-a-token");
+        tokens.add(null);
+
+        // when
+        final var actualResults = introspector.introspect(tokens);
+
+        // then
+        assertEquals(22, actualResults.size());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(actualResults.get(i).active());
+            assertEquals(subjects.get(i), actualResults.get(i).sub());
+            assertNotNull(actualResults.get(i).exp());
+        }
+        assertEquals(TokenIntrospector.Introspection.INACTIVE, actualResults.get(20));
+        assertEquals(TokenIntrospector.Introspection.INACTIVE, actualResults.get(21));
+    }
+
+    @Test
+    public void givenAnIntrospectedToken_whenCallsIntrospectAgain_thenAnswersFromTheCache() {
+        // given
+        final var subject = UUID.randomUUID().toString();
+        final var token = minter.mint(subject, "ROLE_USER");
+        introspector.introspect(List.of(token));
+
+        // when
+        final var actualResult = introspector.introspect(token);
+
+        // then
+        assertTrue(actualResult.active());
+        assertEquals(subject, actualResult.sub());
+        assertEquals(1, decodes.get());
+    }
+
+    @Test
+    public void givenACachedToken_whenItsUserIsRevoked_thenReturnsInactive() {
+        // given
+        final var subject = UUID.randomUUID().toString();
+        final var token = minter.mint(subject, "ROLE_USER", Instant.now().minusSeconds(10).getEpochSecond());
+        assertTrue(introspector.introspect(token).active());
+
+        // when
+        revocations.revoke(subject, Instant.now());
+
+        // then
+        assertFalse(introspector.introspect(token).active());
+        assertFalse(introspector.introspect(token).active());
+        assertEquals(2, decodes.get());
+    }
+}
@@ -0,0 +1,129 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class JwsJwtDecoderTest {
+    private static JwtEncoderParameters newParameters(final String subject, final Instant expiresAt) {
+        final var claims = JwtClaimsSet.builder()
+                .issuer("auth-api")
+                .issuedAt(expiresAt.minusSeconds(600))
+                .expiresAt(expiresAt)
+                .subject(subject)
+                .claim("scope", "ROLE_USER")
+                .build();
+        return JwtEncoderParameters.from(claims);
+    }
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    public void givenATokenSignedWithTheAlgorithm_whenCallsDecode_thenReturnsItsClaims(final JwtAlgorithm algorithm) {
+        // given
+        final var keyRing = JwtKeyRing.with(algorithm, algorithm.newKeyPair());
+        final var encoder = JwsJwtEncoder.with(keyRing);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+        final var expectedSubject = UUID.randomUUID().toString();
+
+        final var token = encoder.encode(newParameters(expectedSubject, Instant.now().plusSeconds(600))).getTokenValue();
+
+        // when
+        final var actualJwt = decoder.decode(token);
+
+        // then
+        assertEquals(expectedSubject, actualJwt.getSubject());
+        assertEquals("auth-api", actualJwt.getClaimAsString("iss"));
+        assertEquals("ROLE_USER", actualJwt.getClaimAsString("scope"));
+        assertEquals(algorithm.getJwsAlgorithm().getName(), actualJwt.getHeaders().get("alg"));
+        assertEquals(keyRing.getSigningKey().kid(), actualJwt.getHeaders().get("kid"));
+        assertNotNull(actualJwt.getExpiresAt());
+    }
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    public void givenATokenSignedWithAnotherKey_whenCallsDecode_thenThrowsABadJwtException(final JwtAlgorithm algorithm) {
+        // given
+        final var encoder = JwsJwtEncoder.with(JwtKeyRing.with(algorithm, algorithm.newKeyPair()));
+        final var decoder = JwsJwtDecoder.with(JwtKeyRing.with(algorithm, algorithm.newKeyPair()));
+
+        final var token = encoder.encode(newParameters("test", Instant.now().plusSeconds(600))).getTokenValue();
+
+        // when / then
+        assertThrows(BadJwtException.class, () -> decoder.decode(token));
+    }
+
+    @Test
+    public void givenATokenSignedWithAnotherAlgorithm_whenCallsDecode_thenThrowsABadJwtException() throws Exception {
+        // given
+        final var rsaKeyPair = JwtAlgorithm.RS256.newKeyPair();
+        final var edDsaKeyPair = JwtAlgorithm.EDDSA.newKeyPair();
+        final var decoder = JwsJwtDecoder.with(JwtKeyRing.with(JwtAlgorithm.RS256, rsaKeyPair));
+
+        final var header = new JWSHeader.Builder(JWSAlgorithm.EdDSA).build();
+        final var jwt = new SignedJWT(header, new JWTClaimsSet.Builder().subject("test").build());
+        jwt.sign(JwtAlgorithm.EDDSA.signer(edDsaKeyPair.getPrivate()));
+        final var token = jwt.serialize();
+
+        // when / then
+        assertThrows(BadJwtException.class, () -> decoder.decode(token));
+    }
+
+    @Test
+    public void givenAnExpiredToken_whenCallsDecode_thenThrowsAJwtValidationException() {
+        // given
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.ES256, JwtAlgorithm.ES256.newKeyPair());
+        final var encoder = JwsJwtEncoder.with(keyRing);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+
+        final var token = encoder.encode(newParameters("test", Instant.now().minusSeconds(600))).getTokenValue();
+
+        // when / then
+        assertThrows(JwtValidationException.class, () -> decoder.decode(token));
+    }
+
+    @Test
+    public void givenAMalformedToken_whenCallsDecode_thenThrowsABadJwtException() {
+        // given
+        final var decoder = JwsJwtDecoder.with(JwtKeyRing.with(JwtAlgorithm.RS256, JwtAlgorithm.RS256.newKeyPair()));
+
+        // when / then
+        assertThrows(BadJwtException.class, () -> decoder.decode("not.a.token"));
+    }
+
+    @Test
+    public void givenATokenWithoutKeyId_whenCallsDecode_thenVerifiesItWithTheConfiguredKey() throws Exception {
+        // given
+        final var keyPair = JwtAlgorithm.RS256.newKeyPair();
+        final var decoder = JwsJwtDecoder.with(JwtKeyRing.with(JwtAlgorithm.RS256, keyPair));
+
+        final var header = new JWSHeader.Builder(JWSAlgorithm.RS256).build();
+        final var claims = new JWTClaimsSet.Builder()
+                .subject("test")
+                .expirationTime(Date.from(Instant.now().plusSeconds(600)))
+                .build();
+        final var jwt = new SignedJWT(header, claims);
+        jwt.sign(JwtAlgorithm.RS256.signer(keyPair.getPrivate()));
+
+        // when
+        final var actualJwt = decoder.decode(jwt.serialize());
+
+        // then
+        assertEquals("test", actualJwt.getSubject());
+    }
+}
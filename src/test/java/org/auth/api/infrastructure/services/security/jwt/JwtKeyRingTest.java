@@ -0,0 +1,155 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class JwtKeyRingTest {
+    @TempDir
+    private Path directory;
+
+    private void writeKeyPair(final String kid, final KeyPair keyPair, final boolean withPrivateKey) throws IOException {
+        writePem(directory.resolve(kid + ".pub"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        if (withPrivateKey)
+            writePem(directory.resolve(kid + ".key"), "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+    }
+
+    private static void writePem(final Path path, final String type, final byte[] encoded) throws IOException {
+        final var body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(encoded);
+        Files.writeString(path, "-----BEGIN %s-----\n%s\n-----END %s-----\n".formatted(type, body, type));
+    }
+
+    private static String newToken(final JwtKeyRing keyRing) {
+        final var now = Instant.now();
+        final var claims = JwtClaimsSet.builder()
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(600))
+                .subject("test")
+                .build();
+        return JwsJwtEncoder.with(keyRing).encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    @Test
+    public void givenADirectoryWithKeys_whenCreatesTheRing_thenSignsWithTheGreatestKidAndPublishesAllKeys() throws Exception {
+        // given
+        writeKeyPair("2026-01", JwtAlgorithm.ES256.newKeyPair(), true);
+        writeKeyPair("2026-02", JwtAlgorithm.EDDSA.newKeyPair(), true);
+        writeKeyPair("2026-03", JwtAlgorithm.RS256.newKeyPair(), false);
+
+        // when
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.RS256, JwtAlgorithm.RS256.newKeyPair(), directory, 0);
+
+        // then
+        assertEquals("2026-02", keyRing.getSigningKey().kid());
+        assertEquals(JwtAlgorithm.EDDSA, keyRing.getVerificationKey("2026-02").get().algorithm());
+        assertEquals(JwtAlgorithm.ES256, keyRing.getVerificationKey("2026-01").get().algorithm());
+        assertEquals(JwtAlgorithm.RS256, keyRing.getVerificationKey("2026-03").get().algorithm());
+        assertEquals(JwtAlgorithm.RS256, keyRing.getVerificationKey(null).get().algorithm());
+        assertTrue(keyRing.getJwks().contains("\"kid\":\"2026-01\""));
+        assertTrue(keyRing.getJwks().contains("\"kid\":\"2026-02\""));
+        assertTrue(keyRing.getJwks().contains("\"kid\":\"2026-03\""));
+        assertFalse(keyRing.getJwks().contains("\"d\""));
+    }
+
+    @Test
+    public void givenARotatedKey_whenCallsReload_thenSignsWithTheNewKeyAndStillVerifiesOldTokens() throws Exception {
+        // given
+        writeKeyPair("2026-01", JwtAlgorithm.ES256.newKeyPair(), true);
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.RS256, JwtAlgorithm.RS256.newKeyPair(), directory, 0);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+        final var oldToken = newToken(keyRing);
+
+        // when
+        writeKeyPair("2026-02", JwtAlgorithm.ES256.newKeyPair(), true);
+        final var reloaded = keyRing.reload();
+
+        // then
+        assertTrue(reloaded);
+        assertFalse(keyRing.reload());
+        assertEquals("2026-02", keyRing.getSigningKey().kid());
+        assertEquals("2026-01", decoder.decode(oldToken).getHeaders().get("kid"));
+        assertEquals("2026-02", decoder.decode(newToken(keyRing)).getHeaders().get("kid"));
+    }
+
+    @Test
+    public void givenARemovedKey_whenCallsReload_thenRejectsItsTokens() throws Exception {
+        // given
+        writeKeyPair("2026-01", JwtAlgorithm.ES256.newKeyPair(), true);
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.RS256, JwtAlgorithm.RS256.newKeyPair(), directory, 0);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+        final var oldToken = newToken(keyRing);
+
+        // when
+        Files.delete(directory.resolve("2026-01.key"));
+        Files.delete(directory.resolve("2026-01.pub"));
+        keyRing.reload();
+
+        // then
+        assertTrue(keyRing.getVerificationKey("2026-01").isEmpty());
+        assertThrows(BadJwtException.class, () -> decoder.decode(oldToken));
+    }
+
+    @Test
+    public void givenAMalformedKey_whenCallsReload_thenKeepsTheCurrentKeys() throws Exception {
+        // given
+        writeKeyPair("2026-01", JwtAlgorithm.ES256.newKeyPair(), true);
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.RS256, JwtAlgorithm.RS256.newKeyPair(), directory, 0);
+
+        // when
+        Files.writeString(directory.resolve("2026-02.pub"), "not a key");
+
+        // then
+        assertThrows(IllegalArgumentException.class, keyRing::reload);
+        assertEquals("2026-01", keyRing.getSigningKey().kid());
+    }
+
+    @Test
+    public void givenAnES256KeyOffCurveP256_whenCreatesTheRing_thenThrowsIllegalArgumentException() throws Exception {
+        // given
+        final var generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp384r1"));
+        final var keyPair = generator.generateKeyPair();
+
+        // when
+        final var actualException = assertThrows(
+                IllegalArgumentException.class,
+                () -> JwtKeyRing.with(JwtAlgorithm.ES256, keyPair)
+        );
+
+        // then
+        assertTrue(actualException.getMessage().contains("P-256"));
+    }
+
+    @Test
+    public void givenADirectoryKeyOffCurveP256_whenCreatesTheRing_thenThrowsIllegalArgumentException() throws Exception {
+        // given
+        final var generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp384r1"));
+        writeKeyPair("2026-01", generator.generateKeyPair(), true);
+
+        // when
+        final var actualException = assertThrows(
+                IllegalArgumentException.class,
+                () -> JwtKeyRing.with(JwtAlgorithm.RS256, JwtAlgorithm.RS256.newKeyPair(), directory, 0)
+        );
+
+        // then
+        assertTrue(actualException.getMessage().contains("P-256"));
+    }
+}
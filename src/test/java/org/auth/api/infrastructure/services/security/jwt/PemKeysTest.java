@@ -0,0 +1,59 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class PemKeysTest {
+    private static ByteArrayResource toPem(final String type, final byte[] encoded) {
+        final var body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(encoded);
+        final var pem = "-----BEGIN %s-----\n%s\n-----END %s-----\n".formatted(type, body, type);
+        return new ByteArrayResource(pem.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    public void givenPemEncodedKeys_whenCallsRead_thenReturnsTheSameKeys(final JwtAlgorithm algorithm) {
+        // given
+        final var keyPair = algorithm.newKeyPair();
+
+        // when
+        final var actualPrivateKey = PemKeys.readPrivateKey(
+                toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()), algorithm.getKeyAlgorithm());
+        final var actualPublicKey = PemKeys.readPublicKey(
+                toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()), algorithm.getKeyAlgorithm());
+
+        // then
+        assertArrayEquals(keyPair.getPrivate().getEncoded(), actualPrivateKey.getEncoded());
+        assertArrayEquals(keyPair.getPublic().getEncoded(), actualPublicKey.getEncoded());
+    }
+
+    @Test
+    public void givenTheApplicationRsaKeys_whenCallsRead_thenReturnsRsaKeys() {
+        // when
+        final var actualPrivateKey = PemKeys.readPrivateKey(new ClassPathResource("app.key"), "RSA");
+        final var actualPublicKey = PemKeys.readPublicKey(new ClassPathResource("app.pub"), "RSA");
+
+        // then
+        assertInstanceOf(RSAPrivateKey.class, actualPrivateKey);
+        assertInstanceOf(RSAPublicKey.class, actualPublicKey);
+    }
+
+    @Test
+    public void givenARsaKeyReadAsEc_whenCallsRead_thenThrowsAnIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                PemKeys.readPublicKey(new ClassPathResource("app.pub"), "EC")
+        );
+    }
+}
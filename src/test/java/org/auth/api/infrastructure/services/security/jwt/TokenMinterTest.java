@@ -0,0 +1,102 @@
+package org.auth.api.infrastructure.services.security.jwt;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class TokenMinterTest {
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest
+    @EnumSource(JwtAlgorithm.class)
+    public void givenASigningKey_whenCallsMint_thenReturnsATokenAcceptedByTheDecoder(final JwtAlgorithm algorithm) {
+        // given
+        final var keyRing = JwtKeyRing.with(algorithm, algorithm.newKeyPair());
+        final var minter = TokenMinter.with(keyRing, "auth-api", 600);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+        final var expectedSubject = UUID.randomUUID().toString();
+        final var expectedIssuedAt = Instant.now().getEpochSecond();
+
+        // when
+        final var actualJwt = decoder.decode(minter.mint(expectedSubject, "ROLE_USER", expectedIssuedAt));
+
+        // then
+        assertEquals(expectedSubject, actualJwt.getSubject());
+        assertEquals("auth-api", actualJwt.getClaimAsString("iss"));
+        assertEquals("ROLE_USER", actualJwt.getClaimAsString("scope"));
+        assertEquals(Instant.ofEpochSecond(expectedIssuedAt), actualJwt.getIssuedAt());
+        assertEquals(Instant.ofEpochSecond(expectedIssuedAt + 600), actualJwt.getExpiresAt());
+        assertEquals(algorithm.getJwsAlgorithm().getName(), actualJwt.getHeaders().get("alg"));
+        assertEquals(keyRing.getSigningKey().kid(), actualJwt.getHeaders().get("kid"));
+    }
+
+    @Test
+    public void givenClaimsWithJsonCharacters_whenCallsMint_thenEscapesThem() {
+        // given
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.EDDSA, JwtAlgorithm.EDDSA.newKeyPair());
+        final var minter = TokenMinter.with(keyRing, "auth \"api\"", 600);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+        final var expectedSubject = "a\"b\\c\nd";
+
+        // when
+        final var actualJwt = decoder.decode(minter.mint(expectedSubject, "ROLE_USER ROLE_ADMIN"));
+
+        // then
+        assertEquals(expectedSubject, actualJwt.getSubject());
+        assertEquals("auth \"api\"", actualJwt.getClaimAsString("iss"));
+        assertEquals("ROLE_USER ROLE_ADMIN", actualJwt.getClaimAsString("scope"));
+    }
+
+    @Test
+    public void givenAnExpiredIssuedAt_whenDecodesTheMintedToken_thenThrowsAJwtValidationException() {
+        // given
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.ES256, JwtAlgorithm.ES256.newKeyPair());
+        final var minter = TokenMinter.with(keyRing, "auth-api", 600);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+
+        final var token = minter.mint("test", "ROLE_USER", Instant.now().minusSeconds(3600).getEpochSecond());
+
+        // when / then
+        assertThrows(JwtValidationException.class, () -> decoder.decode(token));
+    }
+
+    @Test
+    public void givenARotatedKey_whenCallsMint_thenSignsWithTheNewKey() throws Exception {
+        // given
+        final var keyRing = JwtKeyRing.with(JwtAlgorithm.RS256, JwtAlgorithm.RS256.newKeyPair(), directory, 0);
+        final var minter = TokenMinter.with(keyRing, "auth-api", 600);
+        final var decoder = JwsJwtDecoder.with(keyRing);
+        final var oldToken = minter.mint("test", "ROLE_USER");
+
+        // when
+        final var keyPair = JwtAlgorithm.ES256.newKeyPair();
+        writePem(directory.resolve("2026-01.pub"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        writePem(directory.resolve("2026-01.key"), "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        keyRing.reload();
+
+        // then
+        final var actualJwt = decoder.decode(minter.mint("test", "ROLE_USER"));
+        assertEquals("2026-01", actualJwt.getHeaders().get("kid"));
+        assertEquals("ES256", actualJwt.getHeaders().get("alg"));
+        assertNotEquals("2026-01", decoder.decode(oldToken).getHeaders().get("kid"));
+    }
+
+    private static void writePem(final Path path, final String type, final byte[] encoded) throws Exception {
+        final var body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(encoded);
+        Files.writeString(path, "-----BEGIN %s-----\n%s\n-----END %s-----\n".formatted(type, body, type));
+    }
+}
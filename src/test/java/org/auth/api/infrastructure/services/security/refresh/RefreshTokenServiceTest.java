@@ -0,0 +1,133 @@
+package org.auth.api.infrastructure.services.security.refresh;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.token.InMemoryRefreshTokenGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+    private static final User USER = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+
+    @Mock
+    private UserGateway userGateway;
+    private InMemoryRefreshTokenGateway refreshTokenGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(userGateway);
+        refreshTokenGateway = InMemoryRefreshTokenGateway.create();
+    }
+
+    @Test
+    public void givenAnIssuedToken_whenCallsRefresh_thenReturnsTheUserAndARotatedToken() {
+        // given
+        final var service = RefreshTokenService.with(refreshTokenGateway, userGateway, 600, 0);
+        final var refreshToken = service.issue(USER.getId());
+
+        when(userGateway.findById(USER.getId()))
+                .thenReturn(Optional.of(USER));
+
+        // when
+        final var actualRefreshed = service.refresh(refreshToken);
+
+        // then
+        assertEquals(USER.getId().getValue(), actualRefreshed.credentials().getId());
+        assertNotEquals(refreshToken, actualRefreshed.refreshToken());
+        assertEquals(43, actualRefreshed.refreshToken().length());
+        assertNotNull(service.refresh(actualRefreshed.refreshToken()).refreshToken());
+
+        verify(userGateway, times(2)).findById(USER.getId());
+    }
+
+    @Test
+    public void givenARotatedToken_whenCallsRefreshAgain_thenRevokesTheWholeFamily() {
+        // given
+        final var service = RefreshTokenService.with(refreshTokenGateway, userGateway, 600, 0);
+        final var refreshToken = service.issue(USER.getId());
+        final var otherFamilyToken = service.issue(USER.getId());
+
+        when(userGateway.findById(USER.getId()))
+                .thenReturn(Optional.of(USER));
+
+        final var rotatedToken = service.refresh(refreshToken).refreshToken();
+
+        // when
+        assertThrows(BadCredentialsException.class, () -> service.refresh(refreshToken));
+
+        // then
+        assertThrows(BadCredentialsException.class, () -> service.refresh(rotatedToken));
+        assertNotNull(service.refresh(otherFamilyToken).refreshToken());
+    }
+
+    @Test
+    public void givenAnExpiredToken_whenCallsRefresh_thenThrowsABadCredentialsException() {
+        // given
+        final var service = RefreshTokenService.with(refreshTokenGateway, userGateway, 0, 0);
+        final var refreshToken = service.issue(USER.getId());
+
+        // when / then
+        assertThrows(BadCredentialsException.class, () -> service.refresh(refreshToken));
+        verify(userGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnUnknownToken_whenCallsRefresh_thenThrowsABadCredentialsException() {
+        // given
+        final var service = RefreshTokenService.with(refreshTokenGateway, userGateway, 600, 0);
+
+        // when / then
+        assertThrows(BadCredentialsException.class, () -> service.refresh("unknown"));
+        assertThrows(BadCredentialsException.class, () -> service.refresh(null));
+        verify(userGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAUserUpdatedAfterTheLogin_whenCallsRefresh_thenThrowsABadCredentialsException() {
+        // given
+        final var service = RefreshTokenService.with(refreshTokenGateway, userGateway, 600, 0);
+        final var refreshToken = service.issue(USER.getId());
+        final var updatedUser = User.with(
+                USER.getId(),
+                USER.getEmail(),
+                USER.getPassword(),
+                USER.getCreatedAt(),
+                Instant.now().plusSeconds(1),
+                USER.getVersion() + 1
+        );
+
+        when(userGateway.findById(USER.getId()))
+                .thenReturn(Optional.of(updatedUser));
+
+        // when / then
+        assertThrows(BadCredentialsException.class, () -> service.refresh(refreshToken));
+    }
+
+    @Test
+    public void givenADeletedUser_whenCallsRefresh_thenThrowsABadCredentialsException() {
+        // given
+        final var service = RefreshTokenService.with(refreshTokenGateway, userGateway, 600, 0);
+        final var refreshToken = service.issue(USER.getId());
+
+        when(userGateway.findById(USER.getId()))
+                .thenReturn(Optional.empty());
+
+        // when / then
+        assertThrows(BadCredentialsException.class, () -> service.refresh(refreshToken));
+    }
+}
@@ -0,0 +1,45 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class BloomFilterTest {
+    @Test
+    public void givenTenMillionUsers_whenCallsWith_thenSizesTheFilterForTheFalsePositiveRate() {
+        // when
+        final var filter = BloomFilter.with(10_000_000, 0.01);
+
+        // then
+        assertEquals(95_850_584, filter.getBitCount());
+        assertEquals(7, filter.getHashCount());
+    }
+
+    @Test
+    public void givenInsertedIds_whenCallsMightContain_thenHasNoFalseNegativesAndFewFalsePositives() {
+        // given
+        final var filter = BloomFilter.with(10000, 0.01);
+        final var ids = new UUID[10000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+            filter.put(ids[i].getMostSignificantBits(), ids[i].getLeastSignificantBits());
+        }
+
+        // when
+        var falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            final var id = UUID.randomUUID();
+            if (filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                falsePositives++;
+        }
+
+        // then
+        for (final var id : ids)
+            assertTrue(filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+}
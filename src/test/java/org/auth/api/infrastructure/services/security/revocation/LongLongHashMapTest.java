@@ -0,0 +1,61 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class LongLongHashMapTest {
+    @Test
+    public void givenManyEntries_whenCallsPutMax_thenGrowsAndKeepsEveryEntry() {
+        // given
+        final var map = LongLongHashMap.withExpectedSize(0);
+        final var expectedSize = 10000;
+
+        // when
+        for (long key = 0; key < expectedSize; key++)
+            map.putMax(key * 7919, key);
+
+        // then
+        assertEquals(expectedSize, map.size());
+        assertTrue(map.capacity() * 3L >= expectedSize * 4L);
+        for (long key = 0; key < expectedSize; key++)
+            assertEquals(key, map.get(key * 7919));
+        assertEquals(LongLongHashMap.NO_VALUE, map.get(-1));
+    }
+
+    @Test
+    public void givenAnExistingKey_whenCallsPutMax_thenKeepsTheGreatestValue() {
+        // given
+        final var map = LongLongHashMap.withExpectedSize(16);
+        map.putMax(42, 10);
+        map.putMax(0, 10);
+
+        // when
+        map.putMax(42, 5);
+        map.putMax(0, 20);
+
+        // then
+        assertEquals(10, map.get(42));
+        assertEquals(20, map.get(0));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void givenEntries_whenCallsRemoveIf_thenRemovesOnlyMatchingEntries() {
+        // given
+        final var map = LongLongHashMap.withExpectedSize(100);
+        for (long key = 0; key < 100; key++)
+            map.putMax(key, key);
+
+        // when
+        final var removed = map.removeIf((key, value) -> value % 2 == 0);
+
+        // then
+        assertEquals(50, removed);
+        assertEquals(50, map.size());
+        for (long key = 0; key < 100; key++)
+            assertEquals(key % 2 == 0 ? LongLongHashMap.NO_VALUE : key, map.get(key));
+    }
+}
@@ -0,0 +1,97 @@
+package org.auth.api.infrastructure.services.security.revocation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class TokenRevocationsTest {
+    private static final long NOW = 1_700_000_000L;
+
+    private static TokenRevocations newRevocations(final AtomicLong clock) {
+        return TokenRevocations.with(600, 1000, 0.01, clock::get, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void givenARevokedUser_whenCallsIsRevoked_thenRejectsOnlyTokensIssuedBeforeTheNotBefore() {
+        // given
+        final var revocations = newRevocations(new AtomicLong(NOW));
+        final var userId = UUID.randomUUID().toString();
+
+        // when
+        revocations.revoke(userId, Instant.ofEpochSecond(NOW));
+
+        // then
+        assertTrue(revocations.isRevoked(userId, Instant.ofEpochSecond(NOW - 1)));
+        assertFalse(revocations.isRevoked(userId, Instant.ofEpochSecond(NOW)));
+        assertFalse(revocations.isRevoked(UUID.randomUUID().toString(), Instant.ofEpochSecond(NOW - 1)));
+        assertEquals(1, revocations.size());
+    }
+
+    @Test
+    public void givenADeletedUser_whenCallsIsRevoked_thenRejectsTokensIssuedUpToNow() {
+        // given
+        final var revocations = newRevocations(new AtomicLong(NOW));
+        final var userId = UUID.randomUUID().toString();
+
+        // when
+        revocations.revokeAll(userId);
+
+        // then
+        assertTrue(revocations.isRevoked(userId, Instant.ofEpochSecond(NOW)));
+    }
+
+    @Test
+    public void givenALoadedFilter_whenCallsIsRevoked_thenChecksUnknownUsersOnlyOnce() {
+        // given
+        final var revocations = newRevocations(new AtomicLong(NOW));
+        final var registeredId = UUID.randomUUID().toString();
+        final var createdElsewhereId = UUID.randomUUID().toString();
+        final var deletedId = UUID.randomUUID().toString();
+        final var lookups = new AtomicLong();
+
+        revocations.register(registeredId);
+        revocations.ready(id -> {
+            lookups.incrementAndGet();
+            return id.equals(createdElsewhereId);
+        });
+
+        // when
+        final var registered = revocations.isRevoked(registeredId, Instant.ofEpochSecond(NOW));
+        final var createdElsewhere = revocations.isRevoked(createdElsewhereId, Instant.ofEpochSecond(NOW));
+        final var createdElsewhereAgain = revocations.isRevoked(createdElsewhereId, Instant.ofEpochSecond(NOW));
+        final var deleted = revocations.isRevoked(deletedId, Instant.ofEpochSecond(NOW));
+
+        // then
+        assertFalse(registered);
+        assertFalse(createdElsewhere);
+        assertFalse(createdElsewhereAgain);
+        assertTrue(deleted);
+        assertTrue(revocations.isRevoked("not-an-uuid", Instant.ofEpochSecond(NOW)));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void givenExpiredEntries_whenTheMapIsFull_thenPurgesThemInsteadOfGrowing() {
+        // given
+        final var clock = new AtomicLong(NOW);
+        final var revocations = newRevocations(clock);
+        for (int i = 0; i < 12; i++)
+            revocations.revoke(UUID.randomUUID().toString(), Instant.ofEpochSecond(NOW));
+
+        // when
+        clock.set(NOW + 601);
+        final var userId = UUID.randomUUID().toString();
+        revocations.revoke(userId, Instant.ofEpochSecond(NOW + 601));
+
+        // then
+        assertEquals(1, revocations.size());
+        assertTrue(revocations.isRevoked(userId, Instant.ofEpochSecond(NOW + 600)));
+    }
+}
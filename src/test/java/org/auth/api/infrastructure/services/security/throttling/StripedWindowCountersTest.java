@@ -0,0 +1,88 @@
+package org.auth.api.infrastructure.services.security.throttling;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class StripedWindowCountersTest {
+    private static final long WINDOW = 1000;
+
+    @Test
+    public void givenAKeyOverTheLimit_whenCallsTryAcquire_thenRejectsOnlyThatKey() {
+        // given
+        final var counters = StripedWindowCounters.with(WINDOW, 3, 100, 4, () -> { });
+
+        // when
+        for (var i = 0; i < 3; i++)
+            assertTrue(counters.tryAcquire("test@mail.com", 10_000));
+
+        // then
+        assertFalse(counters.tryAcquire("test@mail.com", 10_000));
+        assertTrue(counters.tryAcquire("other@mail.com", 10_000));
+    }
+
+    @Test
+    public void givenAFullPreviousWindow_whenCallsTryAcquire_thenWeightsItBySlidingOverlap() {
+        // given
+        final var counters = StripedWindowCounters.with(WINDOW, 4, 100, 4, () -> { });
+        for (var i = 0; i < 4; i++)
+            assertTrue(counters.tryAcquire("test@mail.com", 10_000));
+
+        // when
+        final var atWindowStart = counters.tryAcquire("test@mail.com", 11_000);
+        final var atHalfWindow = counters.tryAcquire("test@mail.com", 11_500);
+        final var afterTwoWindows = counters.tryAcquire("test@mail.com", 13_000);
+
+        // then
+        assertFalse(atWindowStart);
+        assertTrue(atHalfWindow);
+        assertTrue(afterTwoWindows);
+    }
+
+    @Test
+    public void givenMoreKeysThanTheBound_whenCallsTryAcquire_thenEvictsTheLeastRecentlyUsed() {
+        // given
+        final var evictions = new AtomicInteger();
+        final var counters = StripedWindowCounters.with(WINDOW, 1, 2, 1, evictions::incrementAndGet);
+
+        // when
+        assertTrue(counters.tryAcquire("first", 10_000));
+        assertTrue(counters.tryAcquire("second", 10_000));
+        assertFalse(counters.tryAcquire("first", 10_000));
+        assertTrue(counters.tryAcquire("third", 10_000));
+
+        // then
+        assertEquals(2, counters.size());
+        assertEquals(1, evictions.get());
+        assertFalse(counters.tryAcquire("first", 10_000));
+        assertTrue(counters.tryAcquire("second", 10_000));
+    }
+
+    @Test
+    public void givenConcurrentAcquires_whenCallsTryAcquire_thenNeverExceedsTheLimit() throws Exception {
+        // given
+        final var counters = StripedWindowCounters.with(WINDOW, 100, 100, 4, () -> { });
+        final var allowed = new AtomicInteger();
+        final var threads = new Thread[8];
+
+        // when
+        for (var i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (var j = 0; j < 50; j++) {
+                    if (counters.tryAcquire("test@mail.com", 10_000))
+                        allowed.incrementAndGet();
+                }
+            });
+            threads[i].start();
+        }
+        for (final var thread : threads)
+            thread.join();
+
+        // then
+        assertEquals(100, allowed.get());
+    }
+}
@@ -0,0 +1,98 @@
+package org.auth.api.infrastructure.token;
+
+import org.auth.api.domain.token.RefreshToken;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.utils.TimeUtils;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.PersistenceTest;
+import org.auth.api.infrastructure.token.persitence.RefreshTokenRepository;
+import org.auth.api.infrastructure.user.persitence.UserJpaEntity;
+import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@PersistenceTest
+public class RefreshTokenMySQLGatewayIT {
+    @Autowired
+    private RefreshTokenRepository repository;
+    @Autowired
+    private UserRepository userRepository;
+    private RefreshTokenMySQLGateway gateway;
+    private User user;
+
+    @BeforeEach
+    public void cleanUp() {
+        repository.deleteAll();
+        userRepository.deleteAll();
+        gateway = RefreshTokenMySQLGateway.with(repository);
+        user = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        userRepository.saveAndFlush(UserJpaEntity.from(user));
+    }
+
+    @Test
+    public void givenAToken_whenCallsSave_thenFindsItByHash() {
+        // given
+        final var expectedToken = RefreshToken.newToken("hash", "family", user.getId(), TimeUtils.now().plusSeconds(600));
+
+        // when
+        gateway.save(expectedToken);
+        final var actualToken = gateway.findByHash("hash");
+
+        // then
+        assertTrue(actualToken.isPresent());
+        assertEquals(expectedToken.getFamily(), actualToken.get().getFamily());
+        assertEquals(expectedToken.getUserId(), actualToken.get().getUserId());
+        assertEquals(expectedToken.getExpiresAt(), actualToken.get().getExpiresAt());
+        assertFalse(actualToken.get().isUsed());
+    }
+
+    @Test
+    public void givenAnUnusedToken_whenCallsMarkUsedTwice_thenOnlyTheFirstCallSucceeds() {
+        // given
+        gateway.save(RefreshToken.newToken("hash", "family", user.getId(), TimeUtils.now().plusSeconds(600)));
+
+        // when
+        final var first = gateway.markUsed("hash", TimeUtils.now());
+        final var second = gateway.markUsed("hash", TimeUtils.now());
+
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        assertFalse(gateway.markUsed("unknown", TimeUtils.now()));
+    }
+
+    @Test
+    public void givenTokensOfTwoFamilies_whenCallsDeleteByFamily_thenDeletesOnlyThatFamily() {
+        // given
+        final var expiresAt = TimeUtils.now().plusSeconds(600);
+        gateway.save(RefreshToken.newToken("hash1", "family1", user.getId(), expiresAt));
+        gateway.save(RefreshToken.newToken("hash2", "family1", user.getId(), expiresAt));
+        gateway.save(RefreshToken.newToken("hash3", "family2", user.getId(), expiresAt));
+
+        // when
+        gateway.deleteByFamily("family1");
+
+        // then
+        assertEquals(1, repository.count());
+        assertTrue(gateway.findByHash("hash3").isPresent());
+    }
+
+    @Test
+    public void givenExpiredTokens_whenCallsDeleteExpired_thenKeepsOnlyValidTokens() {
+        // given
+        final var now = TimeUtils.now();
+        gateway.save(RefreshToken.newToken("hash1", "family1", user.getId(), now.minusSeconds(1)));
+        gateway.save(RefreshToken.newToken("hash2", "family2", user.getId(), now.plusSeconds(600)));
+
+        // when
+        gateway.deleteExpired(now);
+
+        // then
+        assertEquals(1, repository.count());
+        assertTrue(gateway.findByHash("hash2").isPresent());
+    }
+}
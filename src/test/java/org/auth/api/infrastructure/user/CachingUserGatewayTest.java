@@ -0,0 +1,258 @@
+package org.auth.api.infrastructure.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class CachingUserGatewayTest {
+    @Mock
+    private UserGateway userGateway;
+    private SimpleMeterRegistry registry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(userGateway);
+        registry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+    }
+
+    private static User newUser(final String email) {
+        return User.newUser(Email.with(email), PasswordFixture.withRawValue("test123"));
+    }
+
+    @Test
+    public void givenALoadedUser_whenCallsFindByIdOrEmail_thenHitsBothIndexes() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 10, clock::get, registry);
+        final var user = newUser("test@mail.com");
+
+        when(userGateway.findById(user.getId()))
+                .thenReturn(Optional.of(user));
+
+        // when
+        cache.findById(user.getId());
+        final var actualById = cache.findById(user.getId());
+        final var actualByEmail = cache.findByEmail(Email.with("TEST@mail.com"));
+
+        // then
+        assertEquals(user.getId(), actualById.orElseThrow().getId());
+        assertEquals(user.getId(), actualByEmail.orElseThrow().getId());
+        assertNotSame(actualById.get(), actualByEmail.get());
+
+        verify(userGateway, times(1)).findById(user.getId());
+        verify(userGateway, never()).findByEmail(any());
+
+        assertEquals(2, registry.get("user.cache").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("user.cache").tag("result", "miss").counter().count());
+        assertEquals(1, registry.get("user.cache.load").timer().count());
+        assertEquals(2, registry.get("user.cache.size").gauge().value());
+    }
+
+    @Test
+    public void givenAMissingUser_whenCallsFindByEmailTwice_thenCachesTheMiss() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 10, clock::get, registry);
+        final var email = Email.with("test@mail.com");
+
+        when(userGateway.findByEmail(email))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualFirst = cache.findByEmail(email);
+        final var actualSecond = cache.findByEmail(email);
+
+        // then
+        assertTrue(actualFirst.isEmpty());
+        assertTrue(actualSecond.isEmpty());
+
+        verify(userGateway, times(1)).findByEmail(email);
+    }
+
+    @Test
+    public void givenACachedMiss_whenCallsSave_thenLoadsTheNewUser() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 10, clock::get, registry);
+        final var user = newUser("test@mail.com");
+
+        when(userGateway.findByEmail(user.getEmail()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+        when(userGateway.save(user))
+                .thenReturn(user);
+
+        cache.findByEmail(user.getEmail());
+
+        // when
+        cache.save(user);
+
+        // then
+        assertEquals(user.getId(), cache.findByEmail(user.getEmail()).orElseThrow().getId());
+
+        verify(userGateway, times(2)).findByEmail(user.getEmail());
+    }
+
+    @Test
+    public void givenAnEmailChange_whenCallsSave_thenInvalidatesTheOldEmail() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 10, clock::get, registry);
+        final var user = newUser("test@mail.com");
+        final var oldEmail = user.getEmail();
+
+        when(userGateway.findById(user.getId()))
+                .thenReturn(Optional.of(user));
+
+        cache.findById(user.getId());
+
+        final var updatedUser = User.with(
+                user.getId(),
+                Email.with("other@mail.com"),
+                user.getPassword(),
+                user.getCreatedAt(),
+                user.getUpdatedAt(),
+                user.getVersion()
+        );
+
+        when(userGateway.save(updatedUser))
+                .thenReturn(updatedUser);
+        when(userGateway.findByEmail(oldEmail))
+                .thenReturn(Optional.empty());
+
+        // when
+        cache.save(updatedUser);
+
+        // then
+        assertTrue(cache.findByEmail(oldEmail).isEmpty());
+        assertEquals(1, cache.size());
+
+        verify(userGateway, times(1)).findByEmail(oldEmail);
+    }
+
+    @Test
+    public void givenACachedUser_whenCallsDeleteById_thenEvictsBothIndexes() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 10, clock::get, registry);
+        final var user = newUser("test@mail.com");
+
+        when(userGateway.findByEmail(user.getEmail()))
+                .thenReturn(Optional.of(user));
+        when(userGateway.findById(user.getId()))
+                .thenReturn(Optional.empty());
+
+        cache.findByEmail(user.getEmail());
+
+        // when
+        cache.deleteById(user.getId());
+
+        // then
+        assertEquals(0, cache.size());
+        assertTrue(cache.findById(user.getId()).isEmpty());
+
+        verify(userGateway, times(1)).deleteById(user.getId());
+        verify(userGateway, times(1)).findById(user.getId());
+    }
+
+    @Test
+    public void givenACachedUser_whenMutatesTheReturnedUser_thenTheCacheIsUnchanged() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 10, clock::get, registry);
+        final var user = newUser("test@mail.com");
+
+        when(userGateway.findById(user.getId()))
+                .thenReturn(Optional.of(user));
+
+        // when
+        cache.findById(user.getId()).orElseThrow().updateEmail(Email.with("other@mail.com"));
+
+        // then
+        assertEquals("test@mail.com", cache.findById(user.getId()).orElseThrow().getEmail().getAddress());
+    }
+
+    @Test
+    public void givenAnExpiredEntry_whenCallsFindById_thenReloads() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 10, clock::get, registry);
+        final var user = newUser("test@mail.com");
+
+        when(userGateway.findById(user.getId()))
+                .thenReturn(Optional.of(user));
+
+        cache.findById(user.getId());
+
+        // when
+        clock.addAndGet(5000);
+        cache.findById(user.getId());
+
+        // then
+        verify(userGateway, times(2)).findById(user.getId());
+    }
+
+    @Test
+    public void givenAFullCache_whenLoadsAnotherUser_thenEvictsEntriesInPairs() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 8, clock::get, registry);
+
+        for (var i = 0; i < 8; i++) {
+            final var id = Identifier.with(UUID.randomUUID().toString());
+            when(userGateway.findById(id))
+                    .thenReturn(Optional.empty());
+            cache.findById(id);
+        }
+
+        final var user = newUser("test@mail.com");
+        when(userGateway.findById(user.getId()))
+                .thenReturn(Optional.of(user));
+
+        // when
+        cache.findById(user.getId());
+
+        // then
+        assertEquals(7, cache.size());
+        assertEquals(3, registry.get("user.cache.evictions").tag("cause", "size").counter().count());
+        assertEquals(0, registry.get("user.cache.evictions").tag("cause", "expired").counter().count());
+    }
+
+    @Test
+    public void givenAFullCacheWithExpiredEntries_whenLoadsAnotherUser_thenPurgesExpiredFirst() {
+        // given
+        final var cache = CachingUserGateway.with(userGateway, 5000, 4, clock::get, registry);
+
+        for (var i = 0; i < 4; i++) {
+            final var id = Identifier.with(UUID.randomUUID().toString());
+            when(userGateway.findById(id))
+                    .thenReturn(Optional.empty());
+            cache.findById(id);
+        }
+
+        final var id = Identifier.with(UUID.randomUUID().toString());
+        when(userGateway.findById(id))
+                .thenReturn(Optional.empty());
+
+        // when
+        clock.addAndGet(5000);
+        cache.findById(id);
+
+        // then
+        assertEquals(1, cache.size());
+        assertEquals(4, registry.get("user.cache.evictions").tag("cause", "expired").counter().count());
+        assertEquals(0, registry.get("user.cache.evictions").tag("cause", "size").counter().count());
+    }
+}
@@ -0,0 +1,182 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.exceptions.VersionConflictException;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedUserGatewayIT extends UserGatewayContractIT {
+    private static final int SHARDS = 3;
+
+    private List<JdbcTemplate> shards;
+    private JdbcTemplate directory;
+    private ShardedUserGateway gateway;
+
+    static JdbcTemplate createDatabase(final String name) {
+        final var dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "root",
+                "root123"
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        return new JdbcTemplate(dataSource);
+    }
+
+    static ShardedUserGateway createGateway(final JdbcTemplate directory, final List<JdbcTemplate> shards) {
+        return ShardedUserGateway.with(
+                shards.stream().map(UserJdbcGateway::with).toList(),
+                UserShardMap.load(directory, shards.size()),
+                UserEmailDirectory.with(directory)
+        );
+    }
+
+    @BeforeEach
+    public void createShards() {
+        directory = createDatabase("directory");
+        shards = IntStream.range(0, SHARDS)
+                .mapToObj(shard -> createDatabase("shard" + shard))
+                .toList();
+        gateway = createGateway(directory, shards);
+    }
+
+    @Override
+    protected UserGateway gateway() {
+        return gateway;
+    }
+
+    @Override
+    protected void store(final User user) {
+        gateway.save(user);
+    }
+
+    @Override
+    protected Optional<User> load(final Identifier id) {
+        final var found = new ArrayList<User>();
+        for (final var shard : shards)
+            UserJdbcGateway.with(shard).findById(id).ifPresent(found::add);
+
+        assertTrue(found.size() <= 1);
+        return found.stream().findFirst();
+    }
+
+    @Override
+    protected byte[] storedPassword(final Identifier id) {
+        return shards.stream()
+                .flatMap(shard -> shard.query("SELECT password FROM users WHERE id = ?", (rs, rowNum) -> rs.getBytes(1), (Object) UserJdbcGateway.toBytes(id)).stream())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Override
+    protected long count() {
+        return shards.stream()
+                .mapToLong(shard -> shard.queryForObject("SELECT COUNT(*) FROM users", Long.class))
+                .sum();
+    }
+
+    @Test
+    public void givenManyUsers_whenCallsSave_thenSpreadsThemAcrossShardsByIdHash() {
+        // given
+        final var users = IntStream.range(0, 60)
+                .mapToObj(i -> User.newUser(Email.with("user" + i + "@mail.com"), PasswordFixture.withRawValue("test12")))
+                .toList();
+
+        // when
+        users.forEach(gateway::save);
+
+        // then
+        for (final var user : users) {
+            final var expectedShard = gateway.shardMap().shardOf(user.getId());
+            assertTrue(UserJdbcGateway.with(shards.get(expectedShard)).findById(user.getId()).isPresent());
+        }
+        for (final var shard : shards)
+            assertTrue(shard.queryForObject("SELECT COUNT(*) FROM users", Long.class) > 0);
+        assertEquals(60, directory.queryForObject("SELECT COUNT(*) FROM user_emails", Long.class));
+    }
+
+    @Test
+    public void givenAnUpdatedEmail_whenCallsSave_thenMovesTheDirectoryEntry() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        gateway.save(expectedUser);
+
+        final var updatedUser = gateway.findById(expectedUser.getId()).get()
+                .updateEmail(Email.with("other@mail.com"));
+
+        // when
+        gateway.save(updatedUser);
+
+        // then
+        assertTrue(gateway.findByEmail(Email.with("test@mail.com")).isEmpty());
+        assertEquals(expectedUser.getId(), gateway.findByEmail(Email.with("other@mail.com")).get().getId());
+        assertEquals(1, directory.queryForObject("SELECT COUNT(*) FROM user_emails", Long.class));
+    }
+
+    @Test
+    public void givenADeletedUser_whenCallsSaveWithItsEmail_thenReusesTheEmail() {
+        // given
+        final var deletedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        gateway.save(deletedUser);
+        gateway.deleteById(deletedUser.getId());
+
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+
+        // when
+        gateway.save(expectedUser);
+
+        // then
+        assertEquals(expectedUser.getId(), gateway.findByEmail(expectedUser.getEmail()).get().getId());
+    }
+
+    @Test
+    public void givenAFailedSaveKeepingTheEmail_whenCallsFindByEmail_thenStillFindsTheUser() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        gateway.save(expectedUser);
+
+        final var staleUser = gateway.findById(expectedUser.getId()).get();
+        gateway.save(gateway.findById(expectedUser.getId()).get().updatePassword(PasswordFixture.withRawValue("test123")));
+
+        // when
+        assertThrows(VersionConflictException.class, () ->
+                gateway.save(staleUser.updateEmail(Email.with("test@mail.com")))
+        );
+
+        // then
+        assertEquals(expectedUser.getId(), gateway.findByEmail(Email.with("test@mail.com")).get().getId());
+        assertEquals(1, directory.queryForObject("SELECT COUNT(*) FROM user_emails", Long.class));
+    }
+
+    @Test
+    public void givenAPartiallyInitializedShardMap_whenLoads_thenAssignsTheMissingBuckets() {
+        // given
+        directory.update("DELETE FROM user_shard_buckets WHERE bucket >= ?", UserShardMap.BUCKETS / 2);
+
+        // when
+        final var shardMap = UserShardMap.load(directory, SHARDS);
+
+        // then
+        assertEquals(UserShardMap.BUCKETS, directory.queryForObject("SELECT COUNT(*) FROM user_shard_buckets", Integer.class));
+        for (int bucket = 0; bucket < UserShardMap.BUCKETS; bucket++)
+            assertEquals(bucket % SHARDS, shardMap.shardOf(bucket));
+    }
+}
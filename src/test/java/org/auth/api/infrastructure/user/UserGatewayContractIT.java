@@ -0,0 +1,292 @@
+package org.auth.api.infrastructure.user;
+
+import jakarta.persistence.EntityManager;
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.exceptions.VersionConflictException;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.utils.IDUtils;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.PersistenceTest;
+import org.auth.api.infrastructure.user.persitence.UserJpaEntity;
+import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@PersistenceTest
+public abstract class UserGatewayContractIT {
+    @Autowired
+    protected UserRepository repository;
+    @Autowired
+    protected EntityManager entityManager;
+
+    protected abstract UserGateway gateway();
+
+    protected void store(final User user) {
+        repository.saveAndFlush(UserJpaEntity.from(user));
+        entityManager.clear();
+    }
+
+    protected Optional<User> load(final Identifier id) {
+        entityManager.clear();
+        return repository.findById(UUID.fromString(id.getValue())).map(UserJpaEntity::toAggregate);
+    }
+
+    protected byte[] storedPassword(final Identifier id) {
+        entityManager.clear();
+        return repository.findById(UUID.fromString(id.getValue())).orElseThrow().getPassword();
+    }
+
+    protected long count() {
+        return repository.count();
+    }
+
+    @BeforeEach
+    public void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    public void givenAnUser_whenCallsSave_thenSavesAndReturnsTheUser() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        assertEquals(0, count());
+
+        // when
+        final var actualUser = gateway().save(expectedUser);
+        final var savedEntity = load(expectedUser.getId());
+
+        // then
+        assertEquals(1, count());
+        assertTrue(savedEntity.isPresent());
+
+        final var savedUser = savedEntity.get();
+
+        assertEquals(expectedUser.getId(), actualUser.getId());
+        assertEquals(expectedUser.getEmail(), actualUser.getEmail());
+        assertEquals(expectedUser.getPassword(), actualUser.getPassword());
+        assertEquals(expectedUser.getCreatedAt(), actualUser.getCreatedAt());
+        assertEquals(expectedUser.getUpdatedAt(), actualUser.getUpdatedAt());
+
+        assertEquals(expectedUser.getId(), savedUser.getId());
+        assertEquals(expectedUser.getEmail(), savedUser.getEmail());
+        assertEquals(expectedUser.getPassword(), savedUser.getPassword());
+        assertEquals(expectedUser.getCreatedAt(), savedUser.getCreatedAt());
+        assertEquals(expectedUser.getUpdatedAt(), savedUser.getUpdatedAt());
+    }
+
+    @Test
+    public void givenANewUser_whenCallsSave_thenStoresATimeOrderedIdAndACompactHash() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+
+        // when
+        gateway().save(expectedUser);
+        final var savedUser = load(expectedUser.getId()).get();
+
+        // then
+        assertEquals(7, UUID.fromString(savedUser.getId().getValue()).version());
+        assertEquals(43, storedPassword(expectedUser.getId()).length);
+        assertEquals(expectedUser.getPassword(), savedUser.getPassword());
+    }
+
+    @Test
+    public void givenAnUsedEmail_whenCallsSave_thenThrowsADuplicateEmailException() {
+        // given
+        final var existingUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        store(existingUser);
+
+        // when
+        final var actualException = assertThrows(DuplicateEmailException.class, () ->
+                gateway().save(expectedUser)
+        );
+
+        // then
+        assertEquals(DuplicateEmailException.EMAIL_ALREADY_USED, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnExistentUser_whenCallsFindById_thenReturnsTheUser() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        assertEquals(0, count());
+
+        store(expectedUser);
+        assertEquals(1, count());
+
+        // when
+        final var actualUser = gateway().findById(expectedUser.getId()).get();
+
+        // then
+        assertEquals(1, count());
+
+        assertEquals(expectedUser.getId(), actualUser.getId());
+        assertEquals(expectedUser.getEmail(), actualUser.getEmail());
+        assertEquals(expectedUser.getPassword(), actualUser.getPassword());
+        assertEquals(expectedUser.getCreatedAt(), actualUser.getCreatedAt());
+        assertEquals(expectedUser.getUpdatedAt(), actualUser.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAnExistentUser_whenCallsFindByEmail_thenReturnsTheUser() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        assertEquals(0, count());
+
+        store(expectedUser);
+        assertEquals(1, count());
+
+        // when
+        final var actualUser = gateway().findByEmail(expectedUser.getEmail()).get();
+
+        // then
+        assertEquals(1, count());
+
+        assertEquals(expectedUser.getId(), actualUser.getId());
+        assertEquals(expectedUser.getEmail(), actualUser.getEmail());
+        assertEquals(expectedUser.getPassword(), actualUser.getPassword());
+        assertEquals(expectedUser.getCreatedAt(), actualUser.getCreatedAt());
+        assertEquals(expectedUser.getUpdatedAt(), actualUser.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAnUpdatedUser_whenCallsSave_thenWritesTheChangedColumns() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        store(expectedUser);
+
+        final var updatedUser = gateway().findById(expectedUser.getId()).get()
+                .updateEmail(Email.with("other@mail.com"));
+
+        // when
+        gateway().save(updatedUser);
+
+        // then
+        final var savedUser = load(expectedUser.getId()).get();
+
+        assertEquals(updatedUser.getEmail(), savedUser.getEmail());
+        assertEquals(expectedUser.getPassword(), savedUser.getPassword());
+        assertEquals(expectedUser.getCreatedAt(), savedUser.getCreatedAt());
+        assertEquals(updatedUser.getUpdatedAt(), savedUser.getUpdatedAt());
+        assertEquals(1, savedUser.getVersion());
+    }
+
+    @Test
+    public void givenAStaleUser_whenCallsSave_thenThrowsAVersionConflictException() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        store(expectedUser);
+
+        final var staleUser = gateway().findById(expectedUser.getId()).get();
+        final var concurrentUser = gateway().findById(expectedUser.getId()).get()
+                .updateEmail(Email.with("other@mail.com"));
+        final var savedConcurrentUser = gateway().save(concurrentUser);
+
+        // when
+        final var actualException = assertThrows(VersionConflictException.class, () ->
+                gateway().save(staleUser.updateEmail(Email.with("stale@mail.com")))
+        );
+
+        // then
+        final var savedUser = load(expectedUser.getId()).get();
+
+        assertEquals(VersionConflictException.VERSION_CONFLICT, actualException.getMessage());
+        assertEquals(1, savedConcurrentUser.getVersion());
+        assertEquals(concurrentUser.getEmail(), savedUser.getEmail());
+        assertEquals(1, savedUser.getVersion());
+    }
+
+    @Test
+    public void givenARehashedStaleUser_whenCallsSave_thenKeepsAConcurrentEmailChange() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        store(expectedUser);
+
+        final var staleUser = gateway().findById(expectedUser.getId()).get();
+        final var concurrentUser = gateway().findById(expectedUser.getId()).get()
+                .updateEmail(Email.with("other@mail.com"));
+        gateway().save(concurrentUser);
+
+        final var expectedPassword = PasswordFixture.withRawValue("test12");
+
+        // when
+        gateway().save(staleUser.rehashPassword(expectedPassword));
+
+        // then
+        final var savedUser = load(expectedUser.getId()).get();
+
+        assertEquals(concurrentUser.getEmail(), savedUser.getEmail());
+        assertEquals(expectedPassword, savedUser.getPassword());
+        assertEquals(concurrentUser.getUpdatedAt(), savedUser.getUpdatedAt());
+        assertEquals(1, savedUser.getVersion());
+    }
+
+    @Test
+    public void givenAnExistentUser_whenCallsDeleteById_thenDeletesTheUser() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        store(expectedUser);
+
+        // when
+        final var actualDeleted = gateway().deleteById(expectedUser.getId());
+
+        // then
+        assertTrue(actualDeleted);
+        assertEquals(0, count());
+        assertTrue(gateway().findById(expectedUser.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenTheCurrentVersion_whenCallsDeleteById_thenDeletesTheUser() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        store(expectedUser);
+
+        // when
+        final var actualDeleted = gateway().deleteById(expectedUser.getId(), 0);
+
+        // then
+        assertTrue(actualDeleted);
+        assertEquals(0, count());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsDeleteById_thenKeepsTheUser() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        store(expectedUser);
+        gateway().save(gateway().findById(expectedUser.getId()).get().updateEmail(Email.with("other@mail.com")));
+
+        // when
+        final var actualDeleted = gateway().deleteById(expectedUser.getId(), 0);
+
+        // then
+        assertFalse(actualDeleted);
+        assertEquals(1, count());
+        assertTrue(load(expectedUser.getId()).isPresent());
+    }
+
+    @Test
+    public void givenANonExistentUser_whenCallsDeleteById_thenReturnsFalse() {
+        // given
+        final var expectedId = Identifier.with(IDUtils.newUUID());
+
+        // when
+        final var actualDeleted = gateway().deleteById(expectedId);
+
+        // then
+        assertFalse(actualDeleted);
+    }
+}
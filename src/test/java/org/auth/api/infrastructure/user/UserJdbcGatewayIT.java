@@ -0,0 +1,17 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.user.UserGateway;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+public class UserJdbcGatewayIT extends UserGatewayContractIT {
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    protected UserGateway gateway() {
+        return UserJdbcGateway.with(new JdbcTemplate(dataSource));
+    }
+}
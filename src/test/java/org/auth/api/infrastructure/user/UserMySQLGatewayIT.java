@@ -1,100 +1,248 @@
 package org.auth.api.infrastructure.user;
 
+import org.auth.api.domain.exceptions.VersionConflictException;
 import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
 import org.auth.api.domain.valueobjects.Email;
-import org.auth.api.domain.valueobjects.Password;
-import org.auth.api.infrastructure.PersistenceTest;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.user.events.UserEventType;
+import org.auth.api.infrastructure.user.persitence.UserEventJpaEntity;
+import org.auth.api.infrastructure.user.persitence.UserEventRepository;
 import org.auth.api.infrastructure.user.persitence.UserJpaEntity;
-import org.auth.api.infrastructure.user.persitence.UserRepository;
-import org.junit.jupiter.api.BeforeEach;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@PersistenceTest
-public class UserMySQLGatewayIT {
-    @Autowired
-    private UserRepository repository;
+public class UserMySQLGatewayIT extends UserGatewayContractIT {
     @Autowired
     private UserMySQLGateway gateway;
+    @Autowired
+    private UserEventRepository userEventRepository;
+
+    @Override
+    protected UserGateway gateway() {
+        return gateway;
+    }
 
-    @BeforeEach
-    public void cleanUp() {
-        repository.deleteAll();
+    private Statistics statistics() {
+        entityManager.clear();
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
     }
 
     @Test
-    public void givenAnUser_whenCallsSave_thenSavesAndReturnsTheUser() {
+    public void givenANewUser_whenCallsSave_thenInsertsWithASingleStatement() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test12"));
-        assertEquals(0, repository.count());
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        final var statistics = statistics();
 
         // when
-        final var actualUser = gateway.save(expectedUser);
-        final var savedEntity = repository.findById(expectedUser.getId().getValue());
+        gateway.save(expectedUser);
 
         // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
         assertEquals(1, repository.count());
-        assertTrue(savedEntity.isPresent());
+    }
 
-        final var savedUser = savedEntity.get().toAggregate();
+    @Test
+    public void givenAnUpdatedUser_whenCallsSave_thenUpdatesWithASingleStatement() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        repository.saveAndFlush(UserJpaEntity.from(expectedUser));
 
-        assertEquals(expectedUser.getId(), actualUser.getId());
-        assertEquals(expectedUser.getEmail(), actualUser.getEmail());
-        assertEquals(expectedUser.getPassword(), actualUser.getPassword());
-        assertEquals(expectedUser.getCreatedAt(), actualUser.getCreatedAt());
-        assertEquals(expectedUser.getUpdatedAt(), actualUser.getUpdatedAt());
+        final var updatedUser = gateway.findById(expectedUser.getId()).get()
+                .updateEmail(Email.with("other@mail.com"));
+        final var statistics = statistics();
 
-        assertEquals(expectedUser.getId(), savedUser.getId());
-        assertEquals(expectedUser.getEmail(), savedUser.getEmail());
+        // when
+        gateway.save(updatedUser);
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        final var savedUser = repository.findById(UUID.fromString(expectedUser.getId().getValue())).get().toAggregate();
+
+        assertEquals(updatedUser.getEmail(), savedUser.getEmail());
         assertEquals(expectedUser.getPassword(), savedUser.getPassword());
-        assertEquals(expectedUser.getCreatedAt(), savedUser.getCreatedAt());
-        assertEquals(expectedUser.getUpdatedAt(), savedUser.getUpdatedAt());
+        assertEquals(updatedUser.getUpdatedAt(), savedUser.getUpdatedAt());
     }
 
     @Test
-    public void givenAnExistentUser_whenCallsFindById_thenReturnsTheUser() {
+    public void givenARehashedUser_whenCallsSave_thenWritesOnlyThePassword() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test12"));
-        assertEquals(0, repository.count());
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        repository.saveAndFlush(UserJpaEntity.from(expectedUser));
 
-        repository.save(UserJpaEntity.from(expectedUser));
-        assertEquals(1, repository.count());
+        final var staleUser = gateway.findById(expectedUser.getId()).get();
+        final var concurrentUser = gateway.findById(expectedUser.getId()).get()
+                .updateEmail(Email.with("other@mail.com"));
+        gateway.save(concurrentUser);
+
+        final var expectedPassword = PasswordFixture.withRawValue("test12");
+        final var statistics = statistics();
 
         // when
-        final var actualUser = gateway.findById(expectedUser.getId()).get();
+        gateway.save(staleUser.rehashPassword(expectedPassword));
 
         // then
-        assertEquals(1, repository.count());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        final var savedUser = repository.findById(UUID.fromString(expectedUser.getId().getValue())).get().toAggregate();
 
-        assertEquals(expectedUser.getId(), actualUser.getId());
-        assertEquals(expectedUser.getEmail(), actualUser.getEmail());
-        assertEquals(expectedUser.getPassword(), actualUser.getPassword());
-        assertEquals(expectedUser.getCreatedAt(), actualUser.getCreatedAt());
-        assertEquals(expectedUser.getUpdatedAt(), actualUser.getUpdatedAt());
+        assertEquals(concurrentUser.getEmail(), savedUser.getEmail());
+        assertEquals(expectedPassword, savedUser.getPassword());
+        assertEquals(concurrentUser.getUpdatedAt(), savedUser.getUpdatedAt());
     }
 
     @Test
-    public void givenAnExistentUser_whenCallsFindByEmail_thenReturnsTheUser() {
+    public void givenAnUnchangedUser_whenCallsSave_thenIssuesNoStatement() {
         // given
-        final var expectedUser = User.newUser(Email.with("test@mail.com"), Password.withRawValue("test12"));
-        assertEquals(0, repository.count());
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        repository.saveAndFlush(UserJpaEntity.from(expectedUser));
+
+        final var loadedUser = gateway.findById(expectedUser.getId()).get();
+        final var statistics = statistics();
+
+        // when
+        gateway.save(loadedUser);
+
+        // then
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
 
-        repository.save(UserJpaEntity.from(expectedUser));
+    @Test
+    public void givenAnExistentUser_whenCallsDeleteById_thenDeletesWithASingleStatement() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        repository.saveAndFlush(UserJpaEntity.from(expectedUser));
         assertEquals(1, repository.count());
 
+        final var statistics = statistics();
+
         // when
-        final var actualUser = gateway.findByEmail(expectedUser.getEmail()).get();
+        final var actualDeleted = gateway.deleteById(expectedUser.getId());
 
         // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(actualDeleted);
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    public void givenAStaleUser_whenCallsSave_thenConflictsWithASingleStatement() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        repository.saveAndFlush(UserJpaEntity.from(expectedUser));
+
+        final var staleUser = gateway.findById(expectedUser.getId()).get();
+        gateway.save(gateway.findById(expectedUser.getId()).get().updateEmail(Email.with("other@mail.com")));
+        final var statistics = statistics();
+
+        // when
+        assertThrows(VersionConflictException.class, () ->
+                gateway.save(staleUser.updatePassword(PasswordFixture.withRawValue("other12")))
+        );
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsDeleteById_thenReturnsFalseWithASingleStatement() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        repository.saveAndFlush(UserJpaEntity.from(expectedUser));
+        final var statistics = statistics();
+
+        // when
+        final var actualDeleted = gateway.deleteById(expectedUser.getId(), 1);
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertFalse(actualDeleted);
         assertEquals(1, repository.count());
+    }
 
-        assertEquals(expectedUser.getId(), actualUser.getId());
-        assertEquals(expectedUser.getEmail(), actualUser.getEmail());
-        assertEquals(expectedUser.getPassword(), actualUser.getPassword());
-        assertEquals(expectedUser.getCreatedAt(), actualUser.getCreatedAt());
-        assertEquals(expectedUser.getUpdatedAt(), actualUser.getUpdatedAt());
+    @Test
+    public void givenANonExistentUser_whenCallsDeleteById_thenReturnsFalseWithASingleStatement() {
+        // given
+        final var expectedId = Identifier.with(UUID.randomUUID().toString());
+        final var statistics = statistics();
+
+        // when
+        final var actualDeleted = gateway.deleteById(expectedId);
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertFalse(actualDeleted);
+    }
+
+    @Test
+    public void givenEnabledEvents_whenSavesAndDeletes_thenWritesAnEventPerChange() {
+        // given
+        final var eventGateway = new UserMySQLGateway(repository, userEventRepository, true);
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        final var after = userEventRepository.findLastId();
+
+        // when
+        eventGateway.save(expectedUser);
+        final var updatedUser = eventGateway.save(eventGateway.findById(expectedUser.getId()).get()
+                .updateEmail(Email.with("other@mail.com")));
+        eventGateway.save(updatedUser.rehashPassword(PasswordFixture.withRawValue("test12")));
+        eventGateway.deleteById(expectedUser.getId());
+        eventGateway.deleteById(expectedUser.getId());
+
+        // then
+        final var actualEvents = userEventRepository.findAfter(after, PageRequest.ofSize(10)).stream()
+                .map(UserEventJpaEntity::toEvent)
+                .toList();
+
+        assertEquals(4, actualEvents.size());
+        assertTrue(actualEvents.stream().allMatch(event -> event.userId().equals(expectedUser.getId().getValue())));
+
+        assertEquals(UserEventType.CREATED, actualEvents.get(0).type());
+        assertEquals("test@mail.com", actualEvents.get(0).email());
+        assertNull(actualEvents.get(0).revokeBefore());
+
+        assertEquals(UserEventType.UPDATED, actualEvents.get(1).type());
+        assertEquals("other@mail.com", actualEvents.get(1).email());
+        assertEquals(updatedUser.getUpdatedAt(), actualEvents.get(1).revokeBefore());
+
+        assertEquals(UserEventType.UPDATED, actualEvents.get(2).type());
+        assertNull(actualEvents.get(2).revokeBefore());
+
+        assertEquals(UserEventType.DELETED, actualEvents.get(3).type());
+        assertNull(actualEvents.get(3).email());
+    }
+
+    @Test
+    public void givenDisabledEvents_whenSaves_thenWritesNoEvent() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        final var after = userEventRepository.findLastId();
+
+        // when
+        gateway.save(expectedUser);
+
+        // then
+        assertTrue(userEventRepository.findAfter(after, PageRequest.ofSize(10)).isEmpty());
     }
 }
@@ -0,0 +1,69 @@
+package org.auth.api.infrastructure.user;
+
+import jakarta.persistence.EntityManager;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.utils.IDUtils;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.PersistenceTest;
+import org.auth.api.infrastructure.user.persitence.UserJpaEntity;
+import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@PersistenceTest
+public class UserQueryMySQLGatewayIT {
+    @Autowired
+    private UserRepository repository;
+    @Autowired
+    private UserQueryMySQLGateway gateway;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    public void givenAnExistentUser_whenCallsFindSummaryById_thenReturnsIdAndEmailWithoutLoadingTheEntity() {
+        // given
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test12"));
+        repository.saveAndFlush(UserJpaEntity.from(expectedUser));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualSummary = gateway.findSummaryById(expectedUser.getId()).get();
+
+        // then
+        assertEquals(expectedUser.getId().getValue(), actualSummary.id());
+        assertEquals(expectedUser.getEmail().getAddress(), actualSummary.email());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenANonExistentUser_whenCallsFindSummaryById_thenReturnsEmpty() {
+        // given
+        final var expectedId = Identifier.with(IDUtils.newUUID());
+
+        // when
+        final var actualSummary = gateway.findSummaryById(expectedId);
+
+        // then
+        assertTrue(actualSummary.isEmpty());
+    }
+}
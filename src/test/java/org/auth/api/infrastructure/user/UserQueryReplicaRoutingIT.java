@@ -0,0 +1,120 @@
+package org.auth.api.infrastructure.user;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.PersistenceTest;
+import org.auth.api.infrastructure.config.DataSourceConfig;
+import org.auth.api.infrastructure.datasource.ReadWriteRoutingDataSource;
+import org.auth.api.infrastructure.user.persitence.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@PersistenceTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(DataSourceConfig.class)
+@TestPropertySource(properties = {
+        "datasource.replicas=" + UserQueryReplicaRoutingIT.REPLICA_URL,
+        "spring.datasource.hikari.maximum-pool-size=3"
+})
+public class UserQueryReplicaRoutingIT {
+    static final String REPLICA_URL = "jdbc:h2:mem:auth_api_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserRepository repository;
+    @Autowired
+    private UserQueryMySQLGateway gateway;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    public void cleanUp() {
+        final var replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "root", "root123");
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.update("DELETE FROM users");
+        repository.deleteAll();
+    }
+
+    private <T> T openInView(final Supplier<T> request) {
+        final var interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        final var webRequest = new ServletWebRequest(new MockHttpServletRequest());
+
+        interceptor.preHandle(webRequest);
+        try {
+            return request.get();
+        } finally {
+            interceptor.afterCompletion(webRequest, null);
+        }
+    }
+
+    @Test
+    public void givenAnOpenEntityManagerOnThePrimary_whenCallsFindSummaryById_thenReadsTheReplica() {
+        // given
+        final var user = User.newUser(Email.with("replica@mail.com"), PasswordFixture.withRawValue("test12"));
+        UserJdbcGateway.with(replica).save(user);
+        final var id = UUID.fromString(user.getId().getValue());
+
+        // when
+        final var actualBefore = openInView(() -> repository.findById(id));
+        final var actualSummary = openInView(() -> {
+            repository.findById(id);
+            return gateway.findSummaryById(user.getId());
+        });
+        final var actualAfter = openInView(() -> {
+            gateway.findSummaryById(user.getId());
+            return repository.findById(id);
+        });
+
+        // then
+        assertTrue(actualBefore.isEmpty());
+        assertTrue(actualSummary.isPresent());
+        assertEquals(user.getEmail().getAddress(), actualSummary.get().email());
+        assertTrue(actualAfter.isEmpty());
+    }
+
+    @Test
+    public void givenHikariSettings_whenCreatesTheRoutedPools_thenAppliesThemToEveryPool() {
+        // given
+        final var routingDataSource = (ReadWriteRoutingDataSource) dataSource;
+
+        // when
+        final var actualPools = routingDataSource.getResolvedDataSources().values();
+
+        // then
+        assertEquals(2, actualPools.size());
+        for (final var pool : actualPools)
+            assertEquals(3, ((HikariDataSource) pool).getMaximumPoolSize());
+    }
+}
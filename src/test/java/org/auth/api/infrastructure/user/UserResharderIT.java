@@ -0,0 +1,173 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("integrationTest")
+public class UserResharderIT {
+    private static final Password PASSWORD = PasswordFixture.withRawValue("test12");
+
+    private JdbcTemplate directory;
+    private List<JdbcTemplate> shards;
+    private List<User> users;
+
+    @BeforeEach
+    public void cleanUp() {
+        directory = ShardedUserGatewayIT.createDatabase("directory");
+        shards = new ArrayList<>(List.of(
+                ShardedUserGatewayIT.createDatabase("shard0"),
+                ShardedUserGatewayIT.createDatabase("shard1")
+        ));
+
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+        users = IntStream.range(0, 200)
+                .mapToObj(i -> gateway.save(User.newUser(Email.with("user" + i + "@mail.com"), PASSWORD)))
+                .toList();
+    }
+
+    private long count(final JdbcTemplate shard) {
+        return shard.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+    }
+
+    @Test
+    public void givenANewShard_whenRebalances_thenMovesUsersWithoutLosingAny() {
+        // given
+        shards.add(ShardedUserGatewayIT.createDatabase("shard2"));
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+        final var resharder = UserResharder.with(gateway);
+
+        // when
+        final var actualMoved = resharder.rebalance();
+
+        // then
+        assertTrue(actualMoved > 0);
+        assertTrue(count(shards.get(2)) > 0);
+        assertEquals(users.size(), count(shards.get(0)) + count(shards.get(1)) + count(shards.get(2)));
+
+        for (int bucket = 0; bucket < UserShardMap.BUCKETS; bucket++)
+            assertEquals(bucket % 3, gateway.shardMap().shardOf(bucket));
+
+        for (final var user : users) {
+            assertEquals(user.getEmail(), gateway.findById(user.getId()).get().getEmail());
+            assertEquals(user.getId(), gateway.findByEmail(user.getEmail()).get().getId());
+        }
+    }
+
+    @Test
+    public void givenARebalancedMap_whenReloads_thenKeepsTheNewAssignment() {
+        // given
+        shards.add(ShardedUserGatewayIT.createDatabase("shard2"));
+        UserResharder.with(ShardedUserGatewayIT.createGateway(directory, shards)).rebalance();
+
+        // when
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+
+        // then
+        for (final var user : users)
+            assertTrue(gateway.findById(user.getId()).isPresent());
+    }
+
+    @Test
+    public void givenABucket_whenMovesIt_thenRoutesItsUsersToTheTarget() {
+        // given
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+        final var user = users.get(0);
+        final var bucket = UserShardMap.bucketOf(user.getId());
+        final var source = gateway.shardMap().shardOf(bucket);
+        final var target = 1 - source;
+
+        // when
+        final var actualMoved = UserResharder.with(gateway).move(bucket, target);
+
+        // then
+        assertTrue(actualMoved >= 1);
+        assertEquals(target, gateway.shardMap().shardOf(bucket));
+        assertTrue(UserJdbcGateway.with(shards.get(target)).findById(user.getId()).isPresent());
+        assertTrue(UserJdbcGateway.with(shards.get(source)).findById(user.getId()).isEmpty());
+        assertEquals(users.size(), count(shards.get(0)) + count(shards.get(1)));
+    }
+
+    @Test
+    public void givenWritesDuringAMove_whenCompletesTheMove_thenCarriesThemToTheTarget() {
+        // given
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+        final var user = users.get(0);
+        final var bucket = UserShardMap.bucketOf(user.getId());
+        final var source = gateway.shardMap().shardOf(bucket);
+        final var target = 1 - source;
+
+        gateway.beginMove(bucket);
+        gateway.shard(target).upsert(user);
+        final var updatedUser = gateway.save(gateway.findById(user.getId()).get().updateEmail(Email.with("moved@mail.com")));
+
+        // when
+        final var actualTouched = gateway.completeMove(bucket, target);
+
+        // then
+        assertTrue(actualTouched.contains(user.getId()));
+        assertEquals(updatedUser.getEmail(), UserJdbcGateway.with(shards.get(target)).findById(user.getId()).get().getEmail());
+        assertEquals(updatedUser.getEmail(), gateway.findById(user.getId()).get().getEmail());
+    }
+
+    @Test
+    public void givenAStaleClaimWithoutItsUser_whenReconciles_thenReleasesTheEmail() {
+        // given
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+        final var email = Email.with("orphan@mail.com");
+        gateway.directory().claim(email, User.newUser(email, PASSWORD).getId());
+        directory.update("UPDATE user_emails SET claimed_at = TIMESTAMPADD(HOUR, -1, CURRENT_TIMESTAMP)");
+
+        // when
+        final var actualReconciled = UserResharder.with(gateway).reconcile();
+
+        // then
+        assertEquals(1, actualReconciled);
+        assertTrue(gateway.directory().find(email).isEmpty());
+        assertDoesNotThrow(() -> gateway.save(User.newUser(email, PASSWORD)));
+        for (final var user : users)
+            assertEquals(user.getId(), gateway.findByEmail(user.getEmail()).get().getId());
+    }
+
+    @Test
+    public void givenARecentClaimWithoutItsUser_whenReconciles_thenKeepsTheClaim() {
+        // given
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+        final var email = Email.with("pending@mail.com");
+        final var id = User.newUser(email, PASSWORD).getId();
+        gateway.directory().claim(email, id);
+
+        // when
+        final var actualReconciled = UserResharder.with(gateway).reconcile();
+
+        // then
+        assertEquals(0, actualReconciled);
+        assertEquals(id, gateway.directory().find(email).get());
+    }
+
+    @Test
+    public void givenAUserWithoutItsClaim_whenReconciles_thenClaimsTheEmail() {
+        // given
+        final var gateway = ShardedUserGatewayIT.createGateway(directory, shards);
+        final var user = users.get(0);
+        gateway.directory().releaseAll(user.getId());
+
+        // when
+        final var actualReconciled = UserResharder.with(gateway).reconcile();
+
+        // then
+        assertEquals(1, actualReconciled);
+        assertEquals(user.getId(), gateway.findByEmail(user.getEmail()).get().getId());
+    }
+}
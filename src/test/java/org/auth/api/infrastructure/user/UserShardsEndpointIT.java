@@ -0,0 +1,84 @@
+package org.auth.api.infrastructure.user;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.auth.api.infrastructure.ControllerTest;
+import org.auth.api.infrastructure.api.JwksApi;
+import org.auth.api.infrastructure.services.security.AuthTokenService;
+import org.auth.api.infrastructure.services.security.models.UserCredentials;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.auth.api.infrastructure.config.UserDetailsConfig.USER_EMAIL;
+import static org.auth.api.infrastructure.config.UserDetailsConfig.USER_PASSWORD;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = JwksApi.class)
+public class UserShardsEndpointIT {
+    private static final String CLIENT_ID = "admin";
+    private static final String CLIENT_SECRET = "admin-secret";
+
+    @Autowired
+    private AuthTokenService authTokenService;
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    public void givenAnAnonymousCaller_whenRebalances_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var request = post("/actuator/usershards");
+
+        // when
+        final var response = mvc.perform(request);
+
+        // then
+        response.andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void givenUserCredentials_whenRebalances_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var request = post("/actuator/usershards")
+                .with(httpBasic(USER_EMAIL, USER_PASSWORD));
+
+        // when
+        final var response = mvc.perform(request);
+
+        // then
+        response.andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void givenAUserToken_whenReadsOrRebalances_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var user = User.newUser(Email.with("test@mail.com"), PasswordFixture.withRawValue("test123"));
+        final var token = authTokenService.createToken(UserCredentials.with(user));
+
+        // when
+        final var read = mvc.perform(get("/actuator/usershards").header(HttpHeaders.AUTHORIZATION, token));
+        final var rebalance = mvc.perform(post("/actuator/usershards").header(HttpHeaders.AUTHORIZATION, token));
+
+        // then
+        read.andExpect(status().isUnauthorized());
+        rebalance.andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void givenAWrongAdminSecret_whenRebalances_thenReturnsUnauthorized() throws Exception {
+        // given
+        final var request = post("/actuator/usershards")
+                .with(httpBasic(CLIENT_ID, CLIENT_SECRET + "1"));
+
+        // when
+        final var response = mvc.perform(request);
+
+        // then
+        response.andExpect(status().isUnauthorized());
+    }
+}
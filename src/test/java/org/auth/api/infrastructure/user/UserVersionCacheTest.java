@@ -0,0 +1,109 @@
+package org.auth.api.infrastructure.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class UserVersionCacheTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void givenACachedVersion_whenCallsFind_thenHits() {
+        // given
+        final var cache = UserVersionCache.with(true, 5000, 10, clock::get, registry);
+        cache.put("user-1", 3);
+
+        // when
+        final var actualVersion = cache.find("user-1");
+        final var missingVersion = cache.find("user-2");
+
+        // then
+        assertEquals(OptionalLong.of(3), actualVersion);
+        assertEquals(OptionalLong.empty(), missingVersion);
+
+        assertEquals(1, registry.get("user.version.cache").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("user.version.cache").tag("result", "miss").counter().count());
+        assertEquals(1, registry.get("user.version.cache.size").gauge().value());
+    }
+
+    @Test
+    public void givenAnOlderVersion_whenCallsPut_thenKeepsTheNewerOne() {
+        // given
+        final var cache = UserVersionCache.with(true, 5000, 10, clock::get, registry);
+        cache.put("user-1", 4);
+
+        // when
+        cache.put("user-1", 3);
+
+        // then
+        assertEquals(OptionalLong.of(4), cache.find("user-1"));
+    }
+
+    @Test
+    public void givenAnExpiredEntry_whenCallsFind_thenMissesAndAcceptsAnyVersion() {
+        // given
+        final var cache = UserVersionCache.with(true, 5000, 10, clock::get, registry);
+        cache.put("user-1", 4);
+
+        // when
+        clock.addAndGet(5000);
+
+        // then
+        assertEquals(OptionalLong.empty(), cache.find("user-1"));
+
+        cache.put("user-1", 0);
+        assertEquals(OptionalLong.of(0), cache.find("user-1"));
+    }
+
+    @Test
+    public void givenAnEvictedUser_whenCallsFind_thenMisses() {
+        // given
+        final var cache = UserVersionCache.with(true, 5000, 10, clock::get, registry);
+        cache.put("user-1", 3);
+
+        // when
+        cache.evict("user-1");
+
+        // then
+        assertEquals(OptionalLong.empty(), cache.find("user-1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void givenAFullCache_whenCallsPut_thenOnlyReplacesExpiredEntries() {
+        // given
+        final var cache = UserVersionCache.with(true, 5000, 1, clock::get, registry);
+        cache.put("user-1", 1);
+
+        // when
+        cache.put("user-2", 1);
+
+        // then
+        assertEquals(OptionalLong.empty(), cache.find("user-2"));
+
+        clock.addAndGet(5000);
+        cache.put("user-2", 1);
+        assertEquals(OptionalLong.of(1), cache.find("user-2"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void givenADisabledCache_whenCallsFind_thenNeverHits() {
+        // given
+        final var cache = UserVersionCache.with(false, 5000, 10, clock::get, registry);
+
+        // when
+        cache.put("user-1", 3);
+
+        // then
+        assertEquals(OptionalLong.empty(), cache.find("user-1"));
+        assertEquals(0, cache.size());
+    }
+}
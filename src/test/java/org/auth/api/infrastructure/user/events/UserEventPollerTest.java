@@ -0,0 +1,161 @@
+package org.auth.api.infrastructure.user.events;
+
+import org.auth.api.infrastructure.user.persitence.UserEventJpaEntity;
+import org.auth.api.infrastructure.user.persitence.UserEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("unitTest")
+@ExtendWith(MockitoExtension.class)
+public class UserEventPollerTest {
+    @Mock
+    private UserEventRepository userEventRepository;
+    private List<UserEvent> received;
+    private AtomicLong clock;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(userEventRepository);
+        received = new ArrayList<>();
+        clock = new AtomicLong();
+    }
+
+    private UserEventPoller newPoller(final List<UserEventSubscriber> subscribers) {
+        when(userEventRepository.findLastId()).thenReturn(0L);
+        return UserEventPoller.with(userEventRepository, subscribers, 0, 10, 5000, 60000, clock::get);
+    }
+
+    private static UserEventJpaEntity event(final long id) {
+        final var entity = mock(UserEventJpaEntity.class);
+        when(entity.getId()).thenReturn(id);
+        when(entity.toEvent()).thenReturn(UserEvent.with(id, UUID.randomUUID().toString(), UserEventType.UPDATED, null, null));
+        return entity;
+    }
+
+    @Test
+    public void givenNewEvents_whenPolls_thenDispatchesThemInOrderAndAdvancesTheCursor() {
+        // given
+        final var poller = newPoller(List.of(received::add));
+        final var events = List.of(event(1), event(2), event(3));
+
+        when(userEventRepository.findAfter(eq(0L), any()))
+                .thenReturn(events);
+
+        // when
+        final var actualDispatched = poller.poll();
+
+        // then
+        assertEquals(3, actualDispatched);
+        assertEquals(List.of(1L, 2L, 3L), received.stream().map(UserEvent::id).toList());
+        assertEquals(3, poller.cursor());
+        assertEquals(0, poller.pendingGaps());
+    }
+
+    @Test
+    public void givenAFullBatch_whenPolls_thenKeepsReadingUntilCaughtUp() {
+        // given
+        final var poller = newPoller(List.of(received::add));
+        final var firstBatch = new ArrayList<UserEventJpaEntity>();
+        for (long id = 1; id <= 10; id++)
+            firstBatch.add(event(id));
+
+        final var secondBatch = List.of(event(11));
+
+        when(userEventRepository.findAfter(eq(0L), any()))
+                .thenReturn(firstBatch);
+        when(userEventRepository.findAfter(eq(10L), any()))
+                .thenReturn(secondBatch);
+
+        // when
+        final var actualDispatched = poller.poll();
+
+        // then
+        assertEquals(11, actualDispatched);
+        assertEquals(11, poller.cursor());
+    }
+
+    @Test
+    public void givenAnUncommittedEvent_whenItCommitsLater_thenDispatchesItOnTheNextPoll() {
+        // given
+        final var poller = newPoller(List.of(received::add));
+        final var events = List.of(event(1), event(3));
+        final var lateEvent = event(2);
+
+        when(userEventRepository.findAfter(eq(0L), any()))
+                .thenReturn(events);
+        when(userEventRepository.findByIds(Set.of(2L)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(lateEvent));
+        when(userEventRepository.findAfter(eq(3L), any()))
+                .thenReturn(List.of());
+
+        poller.poll();
+        assertEquals(1, poller.pendingGaps());
+
+        // when
+        final var actualDispatched = poller.poll();
+
+        // then
+        assertEquals(1, actualDispatched);
+        assertEquals(List.of(1L, 3L, 2L), received.stream().map(UserEvent::id).toList());
+        assertEquals(0, poller.pendingGaps());
+    }
+
+    @Test
+    public void givenARolledBackEvent_whenTheGapTimesOut_thenStopsWaitingForIt() {
+        // given
+        final var poller = newPoller(List.of(received::add));
+        final var events = List.of(event(1), event(3));
+
+        when(userEventRepository.findAfter(anyLong(), any()))
+                .thenReturn(events)
+                .thenReturn(List.of());
+        when(userEventRepository.findByIds(any()))
+                .thenReturn(List.of());
+
+        poller.poll();
+
+        // when
+        clock.set(5000);
+        poller.poll();
+
+        // then
+        assertEquals(0, poller.pendingGaps());
+        assertEquals(3, poller.cursor());
+    }
+
+    @Test
+    public void givenAFailingSubscriber_whenPolls_thenStillNotifiesTheOthers() {
+        // given
+        final UserEventSubscriber failing = event -> {
+            throw new IllegalStateException("failure");
+        };
+        final var poller = newPoller(List.of(failing, received::add));
+        final var events = List.of(event(1));
+
+        when(userEventRepository.findAfter(eq(0L), any()))
+                .thenReturn(events);
+
+        // when
+        poller.poll();
+
+        // then
+        assertEquals(1, received.size());
+    }
+}
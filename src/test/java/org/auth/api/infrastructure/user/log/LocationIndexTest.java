@@ -0,0 +1,88 @@
+package org.auth.api.infrastructure.user.log;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class LocationIndexTest {
+    @Test
+    public void givenManyLocations_whenCallsPut_thenGrowsAndFindsEveryLocation() {
+        // given
+        final var index = LocationIndex.withExpectedSize(0);
+        final var expectedSize = 10000;
+
+        // when
+        for (long location = 0; location < expectedSize; location++)
+            index.put(location * 7919, location);
+
+        // then
+        assertEquals(expectedSize, index.size());
+        for (long location = 0; location < expectedSize; location++) {
+            final var expected = location;
+            assertEquals(expected, index.find(location * 7919, candidate -> candidate == expected));
+        }
+        assertEquals(LocationIndex.NO_LOCATION, index.find(-1, candidate -> true));
+    }
+
+    @Test
+    public void givenCollidingKeys_whenCallsFind_thenReturnsTheMatchingLocation() {
+        // given
+        final var index = LocationIndex.withExpectedSize(16);
+        index.put(42, 1);
+        index.put(42, 2);
+        index.put(42, 3);
+
+        // when
+        final var actualLocation = index.find(42, candidate -> candidate == 2);
+
+        // then
+        assertEquals(2, actualLocation);
+        assertEquals(LocationIndex.NO_LOCATION, index.find(42, candidate -> candidate == 4));
+    }
+
+    @Test
+    public void givenCollidingKeys_whenCallsRemove_thenKeepsTheOthersReachable() {
+        // given
+        final var index = LocationIndex.withExpectedSize(16);
+        for (long location = 0; location < 10; location++)
+            index.put(location % 3, location);
+
+        // when
+        final var removed = index.remove(0, 3);
+        final var missing = index.remove(0, 4);
+
+        // then
+        assertTrue(removed);
+        assertFalse(missing);
+        assertEquals(9, index.size());
+        assertEquals(LocationIndex.NO_LOCATION, index.find(0, candidate -> candidate == 3));
+        for (long location = 0; location < 10; location++) {
+            final var expected = location;
+            if (location != 3)
+                assertEquals(expected, index.find(location % 3, candidate -> candidate == expected));
+        }
+    }
+
+    @Test
+    public void givenLocations_whenCallsForEach_thenVisitsEveryLocationOnce() {
+        // given
+        final var index = LocationIndex.withExpectedSize(16);
+        index.put(7, 100);
+        index.put(7, 200);
+        index.put(8, 300);
+        index.remove(7, 100);
+        final var locations = new ArrayList<Long>();
+
+        // when
+        index.forEach(locations::add);
+
+        // then
+        assertEquals(2, locations.size());
+        assertTrue(locations.containsAll(List.of(200L, 300L)));
+    }
+}
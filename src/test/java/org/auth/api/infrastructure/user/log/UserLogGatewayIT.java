@@ -0,0 +1,60 @@
+package org.auth.api.infrastructure.user.log;
+
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.user.UserGateway;
+import org.auth.api.domain.valueobjects.Identifier;
+import org.auth.api.infrastructure.user.UserGatewayContractIT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class UserLogGatewayIT extends UserGatewayContractIT {
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+    private UserLogGateway gateway;
+
+    @BeforeEach
+    public void openLog() {
+        gateway = UserLogGateway.open(directory, SEGMENT_SIZE, 0);
+    }
+
+    @AfterEach
+    public void closeLog() {
+        gateway.close();
+    }
+
+    @Override
+    protected UserGateway gateway() {
+        return gateway;
+    }
+
+    @Override
+    protected void store(final User user) {
+        gateway.save(user);
+    }
+
+    @Override
+    protected Optional<User> load(final Identifier id) {
+        final var recovered = UserLogGateway.open(directory, SEGMENT_SIZE, 0);
+        try {
+            return recovered.findById(id);
+        } finally {
+            recovered.close();
+        }
+    }
+
+    @Override
+    protected byte[] storedPassword(final Identifier id) {
+        return gateway.storedPassword(id);
+    }
+
+    @Override
+    protected long count() {
+        return gateway.size();
+    }
+}
@@ -0,0 +1,210 @@
+package org.auth.api.infrastructure.user.log;
+
+import org.auth.api.domain.exceptions.DuplicateEmailException;
+import org.auth.api.domain.user.User;
+import org.auth.api.domain.valueobjects.Email;
+import org.auth.api.domain.valueobjects.Password;
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class UserLogGatewayTest {
+    private static final Password PASSWORD = PasswordFixture.withRawValue("test12");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void givenWrittenUsers_whenReopensTheLog_thenReplaysInsertsUpdatesAndDeletes() {
+        // given
+        final var gateway = UserLogGateway.open(directory, 4096, 0);
+        final var keptUser = User.newUser(Email.with("kept@mail.com"), PASSWORD);
+        final var deletedUser = User.newUser(Email.with("deleted@mail.com"), PASSWORD);
+        gateway.save(keptUser);
+        gateway.save(deletedUser);
+        final var updatedUser = gateway.findById(keptUser.getId()).get().updateEmail(Email.with("updated@mail.com"));
+        gateway.save(updatedUser);
+        gateway.deleteById(deletedUser.getId());
+        gateway.close();
+
+        // when
+        final var recovered = UserLogGateway.open(directory, 4096, 0);
+
+        // then
+        assertEquals(1, recovered.size());
+        assertEquals(updatedUser.getEmail(), recovered.findById(keptUser.getId()).get().getEmail());
+        assertEquals(updatedUser.getUpdatedAt(), recovered.findById(keptUser.getId()).get().getUpdatedAt());
+        assertTrue(recovered.findByEmail(Email.with("kept@mail.com")).isEmpty());
+        assertTrue(recovered.findById(deletedUser.getId()).isEmpty());
+        assertTrue(recovered.findByEmail(deletedUser.getEmail()).isEmpty());
+        recovered.close();
+    }
+
+    @Test
+    public void givenATornTail_whenReopensTheLog_thenDiscardsItAndKeepsAppending() throws IOException {
+        // given
+        final var gateway = UserLogGateway.open(directory, 4096, 0);
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PASSWORD);
+        gateway.save(expectedUser);
+        gateway.close();
+
+        final var segment = directory.resolve(LogSegment.fileName(0));
+        try (final var file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(UserRecord.put(expectedUser).size());
+            file.writeInt(120);
+            file.writeInt(0xCAFEBABE);
+            file.write(new byte[]{1, 2, 3});
+        }
+
+        // when
+        final var recovered = UserLogGateway.open(directory, 4096, 0);
+        final var nextUser = User.newUser(Email.with("next@mail.com"), PASSWORD);
+        recovered.save(nextUser);
+        recovered.close();
+
+        // then
+        final var reopened = UserLogGateway.open(directory, 4096, 0);
+        assertEquals(2, reopened.size());
+        assertTrue(reopened.findById(expectedUser.getId()).isPresent());
+        assertTrue(reopened.findById(nextUser.getId()).isPresent());
+        reopened.close();
+    }
+
+    @Test
+    public void givenACorruptedRecord_whenReopensTheLog_thenStopsReplayingAtTheBadChecksum() throws IOException {
+        // given
+        final var gateway = UserLogGateway.open(directory, 4096, 0);
+        final var expectedUser = User.newUser(Email.with("test@mail.com"), PASSWORD);
+        final var lostUser = User.newUser(Email.with("lost@mail.com"), PASSWORD);
+        gateway.save(expectedUser);
+        gateway.save(lostUser);
+        gateway.close();
+
+        final var corruptedOffset = UserRecord.put(expectedUser).size() + UserRecord.HEADER + 4;
+        try (final var file = new RandomAccessFile(directory.resolve(LogSegment.fileName(0)).toFile(), "rw")) {
+            file.seek(corruptedOffset);
+            final var value = file.read();
+            file.seek(corruptedOffset);
+            file.write(value ^ 0xFF);
+        }
+
+        // when
+        final var recovered = UserLogGateway.open(directory, 4096, 0);
+
+        // then
+        assertEquals(1, recovered.size());
+        assertTrue(recovered.findById(expectedUser.getId()).isPresent());
+        assertTrue(recovered.findById(lostUser.getId()).isEmpty());
+        recovered.close();
+    }
+
+    @Test
+    public void givenACorruptedRecordInASealedSegment_whenReopensTheLog_thenRefusesToStart() throws IOException {
+        // given
+        final var gateway = UserLogGateway.open(directory, 512, 0);
+        final var users = IntStream.range(0, 20)
+                .mapToObj(i -> User.newUser(Email.with("user" + i + "@mail.com"), PASSWORD))
+                .toList();
+        users.forEach(gateway::save);
+        assertTrue(gateway.segmentCount() > 1);
+        gateway.close();
+
+        final var corruptedOffset = UserRecord.put(users.get(0)).size() + UserRecord.HEADER + 4;
+        try (final var file = new RandomAccessFile(directory.resolve(LogSegment.fileName(0)).toFile(), "rw")) {
+            file.seek(corruptedOffset);
+            final var value = file.read();
+            file.seek(corruptedOffset);
+            file.write(value ^ 0xFF);
+        }
+
+        // when
+        final var actualException = assertThrows(IllegalStateException.class, () ->
+                UserLogGateway.open(directory, 512, 0)
+        );
+
+        // then
+        assertEquals(
+                "corrupted record in sealed user log segment 0 at offset " + UserRecord.put(users.get(0)).size(),
+                actualException.getMessage()
+        );
+    }
+
+    @Test
+    public void givenSmallSegments_whenSavesManyUsers_thenRollsSegmentsAndFindsEveryUser() {
+        // given
+        final var gateway = UserLogGateway.open(directory, 512, 0);
+        final var users = IntStream.range(0, 20)
+                .mapToObj(i -> User.newUser(Email.with("user" + i + "@mail.com"), PASSWORD))
+                .toList();
+
+        // when
+        users.forEach(gateway::save);
+        gateway.close();
+
+        // then
+        final var recovered = UserLogGateway.open(directory, 512, 0);
+        assertTrue(recovered.segmentCount() > 1);
+        for (final var user : users) {
+            assertEquals(user.getId(), recovered.findByEmail(user.getEmail()).get().getId());
+            assertEquals(user.getPassword(), recovered.findById(user.getId()).get().getPassword());
+        }
+        recovered.close();
+    }
+
+    @Test
+    public void givenOverwrittenSegments_whenCallsCompact_thenDropsDeadRecordsAndKeepsLiveOnes() {
+        // given
+        final var gateway = UserLogGateway.open(directory, 512, 0);
+        final var keptUser = User.newUser(Email.with("kept@mail.com"), PASSWORD);
+        final var deletedUser = User.newUser(Email.with("deleted@mail.com"), PASSWORD);
+        gateway.save(keptUser);
+        gateway.save(deletedUser);
+        gateway.deleteById(deletedUser.getId());
+        for (int i = 0; i < 20; i++)
+            gateway.save(gateway.findById(keptUser.getId()).get().updateEmail(Email.with("kept" + i + "@mail.com")));
+        final var segmentsBefore = gateway.segmentCount();
+
+        // when
+        final var compacted = gateway.compact();
+        gateway.close();
+
+        // then
+        final var recovered = UserLogGateway.open(directory, 512, 0);
+        assertTrue(compacted > 0);
+        assertTrue(recovered.segmentCount() < segmentsBefore);
+        assertEquals(1, recovered.size());
+        assertEquals(Email.with("kept19@mail.com"), recovered.findById(keptUser.getId()).get().getEmail());
+        assertTrue(recovered.findById(deletedUser.getId()).isEmpty());
+        recovered.close();
+    }
+
+    @Test
+    public void givenAnEmailInAnotherCase_whenCallsSave_thenThrowsADuplicateEmailException() {
+        // given
+        final var gateway = UserLogGateway.open(directory, 4096, 0);
+        gateway.save(User.newUser(Email.with("test@mail.com"), PASSWORD));
+        final var users = new ArrayList<User>();
+
+        // when
+        final var actualException = assertThrows(DuplicateEmailException.class, () ->
+                gateway.save(User.newUser(Email.with("TEST@mail.com"), PASSWORD))
+        );
+        gateway.forEachUser(users::add);
+
+        // then
+        assertEquals(DuplicateEmailException.EMAIL_ALREADY_USED, actualException.getMessage());
+        assertEquals(1, users.size());
+        assertTrue(gateway.findByEmail(Email.with("Test@Mail.com")).isPresent());
+        gateway.close();
+    }
+}
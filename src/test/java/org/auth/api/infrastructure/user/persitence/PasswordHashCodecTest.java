@@ -0,0 +1,64 @@
+package org.auth.api.infrastructure.user.persitence;
+
+import org.auth.api.domain.valueobjects.PasswordFixture;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+public class PasswordHashCodecTest {
+    @Test
+    public void givenABCryptHash_whenCallsEncode_thenStoresItIn43BytesAndDecodesItBack() {
+        // given
+        final var expectedPassword = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+        // when
+        final var actualBytes = PasswordHashCodec.encode(expectedPassword);
+
+        // then
+        assertEquals(43, actualBytes.length);
+        assertEquals(expectedPassword, PasswordHashCodec.decode(actualBytes));
+    }
+
+    @Test
+    public void givenAPrefixedBCryptHash_whenCallsEncode_thenStoresItIn43BytesAndDecodesItBack() {
+        // given
+        final var expectedPassword = PasswordFixture.encode("test123");
+
+        // when
+        final var actualBytes = PasswordHashCodec.encode(expectedPassword);
+
+        // then
+        assertTrue(expectedPassword.startsWith("{bcrypt}"));
+        assertEquals(43, actualBytes.length);
+        assertEquals(expectedPassword, PasswordHashCodec.decode(actualBytes));
+    }
+
+    @Test
+    public void givenAnotherAlgorithm_whenCallsEncode_thenStoresTheText() {
+        // given
+        final var expectedPassword = "{argon2}$argon2id$v=19$m=16384,t=2,p=1$c2FsdHNhbHQ$aGFzaGhhc2hoYXNo";
+
+        // when
+        final var actualBytes = PasswordHashCodec.encode(expectedPassword);
+
+        // then
+        assertArrayEquals(expectedPassword.getBytes(StandardCharsets.UTF_8), actualBytes);
+        assertEquals(expectedPassword, PasswordHashCodec.decode(actualBytes));
+    }
+
+    @Test
+    public void givenATextHashFromBeforeTheMigration_whenCallsDecode_thenReturnsTheText() {
+        // given
+        final var expectedPassword = "$2b$12$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+        // when
+        final var actualPassword = PasswordHashCodec.decode(expectedPassword.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertEquals(expectedPassword, actualPassword);
+    }
+}